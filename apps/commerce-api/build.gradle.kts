@@ -11,6 +11,12 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:${project.properties["springDocOpenApiVersion"]}")
 
+    // ranking 조회 local cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // reference table ( compacted topic 을 직접 읽는 consumer 만 사용 )
+    implementation("org.apache.kafka:kafka-clients")
+
     // querydsl
     annotationProcessor("com.querydsl:querydsl-apt::jakarta")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
@@ -1,17 +1,28 @@
 package com.loopers.application.example;
 
-import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.KeysetPage;
 import com.loopers.domain.example.ExampleService;
+import com.loopers.domain.example.ExampleSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Consumer;
+
 @RequiredArgsConstructor
 @Component
 public class ExampleFacade {
     private final ExampleService exampleService;
 
     public ExampleInfo getExample(Long id) {
-        ExampleModel example = exampleService.getExample(id);
+        ExampleSummary example = exampleService.getExampleSummary(id);
         return ExampleInfo.from(example);
     }
+
+    public KeysetPage<ExampleInfo> getExamples(String cursor, int size) {
+        return exampleService.getExamples(cursor, size).map(ExampleInfo::from);
+    }
+
+    public long exportExamples(Consumer<ExampleInfo> action) {
+        return exampleService.exportExamples(summary -> action.accept(ExampleInfo.from(summary)));
+    }
 }
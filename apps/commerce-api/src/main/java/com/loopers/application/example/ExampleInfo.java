@@ -1,6 +1,7 @@
 package com.loopers.application.example;
 
 import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleSummary;
 
 public record ExampleInfo(Long id, String name, String description) {
     public static ExampleInfo from(ExampleModel model) {
@@ -10,4 +11,12 @@ public record ExampleInfo(Long id, String name, String description) {
             model.getDescription()
         );
     }
+
+    public static ExampleInfo from(ExampleSummary summary) {
+        return new ExampleInfo(
+            summary.id(),
+            summary.name(),
+            summary.description()
+        );
+    }
 }
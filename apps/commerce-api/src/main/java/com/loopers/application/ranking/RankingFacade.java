@@ -0,0 +1,28 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class RankingFacade {
+    private final RankingService rankingService;
+
+    public List<RankingInfo> getRankings(ZonedDateTime at, int page, int size) {
+        return rankingService.getTop(at, page, size).stream()
+            .map(RankingInfo::from)
+            .toList();
+    }
+
+    public RankingInfo getRanking(String itemId, ZonedDateTime at) {
+        return rankingService.getRank(itemId, at)
+            .map(RankingInfo::from)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[itemId = " + itemId + "] 순위가 없습니다."));
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.ranking.RankingEntry;
+
+public record RankingInfo(String itemId, long rank, double score) {
+    public static RankingInfo from(RankingEntry entry) {
+        return new RankingInfo(
+            entry.itemId(),
+            entry.rank(),
+            entry.score()
+        );
+    }
+}
@@ -1,15 +1,23 @@
 package com.loopers.domain.example;
 
+import com.loopers.config.jpa.cache.CacheRegion;
 import com.loopers.domain.BaseEntity;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "example")
+@Table(name = "example", indexes = @Index(name = "idx_example_deleted_at_created_at", columnList = "deleted_at, created_at, id"))
 @Getter
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@CacheRegion(maxSize = 10_000, expireAfterWriteSeconds = 600)
 public class ExampleModel extends BaseEntity {
 
     private String name;
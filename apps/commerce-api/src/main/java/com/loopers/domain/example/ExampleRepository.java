@@ -1,7 +1,31 @@
 package com.loopers.domain.example;
 
+import com.loopers.domain.KeysetPage;
+
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ExampleRepository {
     Optional<ExampleModel> find(Long id);
+
+    /**
+     * 보여주기 전용 id 조회. 엔티티의 영속 상태가 필요 없을 때 쓴다.
+     */
+    Optional<ExampleSummary> findSummary(Long id);
+
+    /**
+     * 최신순 (created_at desc, id desc) 목록. cursor 가 잘못되면 {@link com.loopers.config.jpa.keyset.InvalidCursorException} 이 발생한다.
+     */
+    KeysetPage<ExampleSummary> findPage(String cursor, int size);
+
+    /**
+     * 모든 예시를 id 순으로 한 행씩 넘긴다. 목록으로 모으지 않는다.
+     */
+    long forEachSummary(Consumer<ExampleSummary> action);
+
+    /**
+     * import / backfill 용 대량 INSERT. 저장한 행 수를 반환하며, 저장된 엔티티는 영속성 컨텍스트에 남지 않는다.
+     */
+    long insertAll(List<ExampleModel> examples);
 }
@@ -1,14 +1,19 @@
 package com.loopers.domain.example;
 
+import com.loopers.config.jpa.keyset.InvalidCursorException;
+import com.loopers.domain.KeysetPage;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.function.Consumer;
+
 @RequiredArgsConstructor
 @Component
 public class ExampleService {
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final ExampleRepository exampleRepository;
 
@@ -17,4 +22,33 @@ public class ExampleService {
         return exampleRepository.find(id)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 예시를 찾을 수 없습니다."));
     }
+
+    /**
+     * 수정하지 않고 보여주기만 할 때는 엔티티 대신 projection 으로 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public ExampleSummary getExampleSummary(Long id) {
+        return exampleRepository.findSummary(id)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 예시를 찾을 수 없습니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<ExampleSummary> getExamples(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "size 는 1 ~ " + MAX_PAGE_SIZE + " 이어야 합니다.");
+        }
+        try {
+            return exampleRepository.findPage(cursor, size);
+        } catch (InvalidCursorException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "잘못된 cursor 입니다.");
+        }
+    }
+
+    /**
+     * 트랜잭션(커넥션)은 마지막 행을 넘길 때까지 유지된다.
+     */
+    @Transactional(readOnly = true)
+    public long exportExamples(Consumer<ExampleSummary> action) {
+        return exampleRepository.forEachSummary(action);
+    }
 }
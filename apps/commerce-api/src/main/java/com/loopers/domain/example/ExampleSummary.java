@@ -0,0 +1,9 @@
+package com.loopers.domain.example;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 조회 전용 예시. 엔티티를 만들지 않고 필요한 컬럼만 바로 읽는다.
+ */
+public record ExampleSummary(Long id, String name, String description, ZonedDateTime createdAt) {
+}
@@ -0,0 +1,7 @@
+package com.loopers.domain.ranking;
+
+/**
+ * @param rank 1 부터 시작하는 순위
+ */
+public record RankingEntry(String itemId, long rank, double score) {
+}
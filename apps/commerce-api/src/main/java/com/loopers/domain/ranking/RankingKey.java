@@ -0,0 +1,23 @@
+package com.loopers.domain.ranking;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 구간별 ranking sorted set key. ( {@code ranking:{name}:{구간 시작 yyyyMMddHHmm}} )
+ * commerce-streamer 의 RankingBucket 과 같은 규칙으로, zone 의 자정부터 size 단위로 구간을 나눈다.
+ */
+public record RankingKey(String name, Duration size, ZoneId zone) {
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    public String of(ZonedDateTime at) {
+        LocalDateTime local = at.withZoneSameInstant(zone).toLocalDateTime();
+        LocalDateTime midnight = local.toLocalDate().atStartOfDay();
+        long sinceMidnight = Duration.between(midnight, local).toMillis();
+        LocalDateTime start = midnight.plus(Duration.ofMillis(sinceMidnight - sinceMidnight % size.toMillis()));
+        return "ranking:" + name + ":" + FORMAT.format(start);
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.domain.ranking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * @param name          sorted set key 의 이름 부분 ( streamer 의 demo-kafka.ranking.name 과 같아야 한다. )
+ * @param bucketSize    구간 크기 ( streamer 와 같아야 한다. )
+ * @param zone          구간을 나누는 기준 시간대
+ * @param localCacheTtl 같은 조회를 Redis 에 다시 묻지 않고 메모리에서 돌려주는 시간
+ * @param maxSize       한 번에 조회할 수 있는 최대 순위 수
+ */
+@ConfigurationProperties("ranking")
+public record RankingProperties(
+    @DefaultValue("all") String name,
+    @DefaultValue("1d") Duration bucketSize,
+    @DefaultValue("Asia/Seoul") ZoneId zone,
+    @DefaultValue("2s") Duration localCacheTtl,
+    @DefaultValue("100") int maxSize
+) {
+    public RankingKey key() {
+        return new RankingKey(name, bucketSize, zone);
+    }
+}
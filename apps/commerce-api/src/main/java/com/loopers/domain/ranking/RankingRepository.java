@@ -0,0 +1,14 @@
+package com.loopers.domain.ranking;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RankingRepository {
+
+    /**
+     * 점수가 높은 순으로 [offset, offset + size) 구간을 조회한다.
+     */
+    List<RankingEntry> findTop(String key, long offset, int size);
+
+    Optional<RankingEntry> findRank(String key, String itemId);
+}
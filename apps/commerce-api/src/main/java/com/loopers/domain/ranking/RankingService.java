@@ -0,0 +1,71 @@
+package com.loopers.domain.ranking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Redis sorted set 에서 ranking 을 조회한다. (ZREVRANGE / ZREVRANK, DB 조회 없음)
+ * <p>
+ * ranking 은 streamer 가 수 초 단위로 갱신하므로, 같은 조회는 localCacheTtl 동안 메모리에서 돌려준다.
+ * 인기 구간(1페이지 등)에 몰리는 조회가 Redis 왕복 없이 처리된다.
+ * 캐시 key 에는 요청의 itemId 가 들어가므로, 만료 전이라도 MAX_CACHE_ENTRIES 를 넘으면 오래된 것부터 내보낸다.
+ */
+@Component
+public class RankingService {
+    private static final int MAX_CACHE_ENTRIES = 10_000;
+
+    private final RankingRepository rankingRepository;
+    private final RankingProperties properties;
+    private final RankingKey rankingKey;
+    private final Clock clock;
+    private final Cache<String, Object> cache;
+
+    public RankingService(RankingRepository rankingRepository, RankingProperties properties) {
+        this(rankingRepository, properties, Clock.systemDefaultZone());
+    }
+
+    RankingService(RankingRepository rankingRepository, RankingProperties properties, Clock clock) {
+        this.rankingRepository = rankingRepository;
+        this.properties = properties;
+        this.rankingKey = properties.key();
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHE_ENTRIES)
+            .expireAfterWrite(properties.localCacheTtl())
+            .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+            .build();
+    }
+
+    public List<RankingEntry> getTop(ZonedDateTime at, int page, int size) {
+        if (page < 0 || size <= 0 || size > properties.maxSize()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "page 는 0 이상, size 는 1 ~ " + properties.maxSize() + " 이어야 합니다.");
+        }
+        String key = rankingKey.of(at(at));
+        return cached("top:" + key + ":" + page + ":" + size,
+            () -> rankingRepository.findTop(key, (long) page * size, size));
+    }
+
+    public Optional<RankingEntry> getRank(String itemId, ZonedDateTime at) {
+        String key = rankingKey.of(at(at));
+        return cached("rank:" + key + ":" + itemId, () -> rankingRepository.findRank(key, itemId));
+    }
+
+    private ZonedDateTime at(ZonedDateTime at) {
+        return at != null ? at : ZonedDateTime.now(clock);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V cached(String key, Supplier<V> loader) {
+        return (V) cache.get(key, ignored -> loader.get());
+    }
+}
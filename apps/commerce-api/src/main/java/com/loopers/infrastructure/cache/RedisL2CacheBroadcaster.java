@@ -0,0 +1,87 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.config.jpa.cache.L2CacheBroadcaster;
+import com.loopers.config.jpa.cache.L2CacheInvalidation;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.config.redis.RedisProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 으로 인스턴스 간 second-level cache 를 무효화한다.
+ * <p>
+ * 메시지는 {@code {node}|{entity}|{id}} 이고, 자기가 보낸 메시지는 무시한다. (자기 캐시는 커밋 시 이미 갱신됐다.)
+ * master / replica 연결은 pub/sub 을 지원하지 않으므로 구독은 master 에 따로 연결한다.
+ * 메시지를 놓치면 (재연결 중 등) 해당 엔티티는 region TTL 이 지날 때까지 옛 값일 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class RedisL2CacheBroadcaster implements L2CacheBroadcaster, MessageListener, DisposableBean {
+    private static final String CHANNEL = "jpa:l2-cache:invalidate";
+
+    private final String node = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final L2CacheInvalidation invalidation;
+    private final LettuceConnectionFactory subscriberConnectionFactory;
+    private final RedisMessageListenerContainer container;
+
+    public RedisL2CacheBroadcaster(
+        RedisProperties redisProperties,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        L2CacheInvalidation invalidation
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.invalidation = invalidation;
+
+        RedisStandaloneConfiguration master = new RedisStandaloneConfiguration(
+            redisProperties.master().host(), redisProperties.master().port());
+        master.setDatabase(redisProperties.database());
+        this.subscriberConnectionFactory = new LettuceConnectionFactory(master);
+        subscriberConnectionFactory.afterPropertiesSet();
+
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(subscriberConnectionFactory);
+        container.addMessageListener(this, new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public void publish(String entityName, Object id) {
+        redisTemplate.convertAndSend(CHANNEL, node + "|" + entityName + "|" + id);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || parts[0].equals(node)) {
+            return;
+        }
+        try {
+            // BaseEntity / TsidBaseEntity 의 id 는 Long 이다.
+            invalidation.evict(parts[1], Long.valueOf(parts[2]));
+        } catch (Exception e) {
+            log.warn("[l2-cache] 무효화 메시지를 처리하지 못했습니다: {}", parts, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        container.destroy();
+        subscriberConnectionFactory.destroy();
+    }
+}
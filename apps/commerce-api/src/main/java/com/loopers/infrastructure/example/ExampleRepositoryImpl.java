@@ -1,19 +1,79 @@
 package com.loopers.infrastructure.example;
 
+import com.loopers.config.jpa.bulk.BulkWriter;
+import com.loopers.config.jpa.keyset.KeysetOrder;
+import com.loopers.config.jpa.keyset.KeysetPagination;
+import com.loopers.config.jpa.stream.QueryStreams;
+import com.loopers.domain.KeysetPage;
 import com.loopers.domain.example.ExampleModel;
 import com.loopers.domain.example.ExampleRepository;
+import com.loopers.domain.example.ExampleSummary;
+import com.loopers.domain.example.QExampleModel;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Component
 public class ExampleRepositoryImpl implements ExampleRepository {
+    private static final QExampleModel example = QExampleModel.exampleModel;
+    private static final ConstructorExpression<ExampleSummary> SUMMARY = Projections.constructor(ExampleSummary.class,
+        example.id, example.name, example.description, example.createdAt);
+
     private final ExampleJpaRepository exampleJpaRepository;
+    private final BulkWriter bulkWriter;
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<ExampleModel> find(Long id) {
         return exampleJpaRepository.findById(id);
     }
+
+    /**
+     * 2차 캐시가 꺼져 있으면 (기본값) 엔티티를 만들지 않는 projection 으로 읽는다.
+     * 켜져 있으면 캐시에 걸리는 엔티티 조회가 DB 왕복을 줄이므로 엔티티로 읽어 옮겨 담는다.
+     */
+    @Override
+    public Optional<ExampleSummary> findSummary(Long id) {
+        if (secondLevelCacheEnabled()) {
+            return exampleJpaRepository.findById(id)
+                .map(model -> new ExampleSummary(model.getId(), model.getName(), model.getDescription(), model.getCreatedAt()));
+        }
+        return Optional.ofNullable(queryFactory.select(SUMMARY).from(example).where(example.id.eq(id)).fetchOne());
+    }
+
+    @Override
+    public KeysetPage<ExampleSummary> findPage(String cursor, int size) {
+        return KeysetPagination.fetch(
+            queryFactory.select(SUMMARY).from(example),
+            KeysetOrder.desc(example.createdAt, example.id),
+            row -> List.of(row.createdAt(), row.id()),
+            cursor,
+            size
+        );
+    }
+
+    @Override
+    public long forEachSummary(Consumer<ExampleSummary> action) {
+        return QueryStreams.forEach(entityManager, queryFactory.select(SUMMARY).from(example).orderBy(example.id.asc()), action);
+    }
+
+    @Override
+    public long insertAll(List<ExampleModel> examples) {
+        return bulkWriter.insertAll(examples);
+    }
+
+    private boolean secondLevelCacheEnabled() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getSessionFactoryOptions().isSecondLevelCacheEnabled();
+    }
 }
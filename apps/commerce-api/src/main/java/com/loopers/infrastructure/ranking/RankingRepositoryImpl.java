@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.domain.ranking.RankingEntry;
+import com.loopers.domain.ranking.RankingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@Component
+public class RankingRepositoryImpl implements RankingRepository {
+    private final RedisTemplate<String, String> defaultRedisTemplate;
+
+    @Override
+    public List<RankingEntry> findTop(String key, long offset, int size) {
+        // ZREVRANGE key offset offset+size-1 WITHSCORES
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+            defaultRedisTemplate.opsForZSet().reverseRangeWithScores(key, offset, offset + size - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+        List<RankingEntry> entries = new ArrayList<>(tuples.size());
+        long rank = offset;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            entries.add(new RankingEntry(tuple.getValue(), ++rank, tuple.getScore() != null ? tuple.getScore() : 0));
+        }
+        return entries;
+    }
+
+    @Override
+    public Optional<RankingEntry> findRank(String key, String itemId) {
+        // ZREVRANK + ZSCORE
+        Long rank = defaultRedisTemplate.opsForZSet().reverseRank(key, itemId);
+        if (rank == null) {
+            return Optional.empty();
+        }
+        Double score = defaultRedisTemplate.opsForZSet().score(key, itemId);
+        return Optional.of(new RankingEntry(itemId, rank + 1, score != null ? score : 0));
+    }
+}
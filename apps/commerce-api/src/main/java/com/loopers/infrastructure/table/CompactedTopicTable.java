@@ -0,0 +1,192 @@
+package com.loopers.infrastructure.table;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * compacted topic 을 처음부터 읽어 key 별 최신 값을 메모리에 들고 있는 읽기 전용 table.
+ * <p>
+ * 시작 시 모든 파티션을 assign 해 처음부터 읽고, 그 시점의 end offset 까지 따라잡으면 ready 가 된다.
+ * 이후에도 같은 스레드가 계속 poll 해서 변경을 반영한다. (value 가 null 인 tombstone 은 삭제)
+ * 읽다가 실패하면 다시 연결해 새 map 에 처음부터 다시 읽고, 따라잡은 뒤에 교체한다. 그동안의 조회는 이전 map 에서 읽는다.
+ * (끊긴 사이 compaction 으로 tombstone 이 지워졌을 수 있어 기존 map 에 이어 쓰면 삭제된 key 가 남는다.)
+ * 조회는 네트워크 없이 {@link ConcurrentSkipListMap} 에서 읽으므로 마이크로초 단위이고, key 순서대로 scan 할 수 있다.
+ * offset 을 커밋하지 않으므로 consumer group 에 참여하지 않는다.
+ */
+@Slf4j
+public class CompactedTopicTable<V> implements SmartLifecycle {
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private final String topic;
+    private final Supplier<Consumer<String, String>> consumerFactory;
+    private final Decoder<V> decoder;
+    private volatile ConcurrentSkipListMap<String, V> table = new ConcurrentSkipListMap<>();
+    private final CountDownLatch ready = new CountDownLatch(1);
+
+    private volatile Consumer<String, String> consumer;
+    private volatile Thread worker;
+    private volatile boolean running;
+
+    public CompactedTopicTable(String topic, Supplier<Consumer<String, String>> consumerFactory, Decoder<V> decoder) {
+        this.topic = topic;
+        this.consumerFactory = consumerFactory;
+        this.decoder = decoder;
+    }
+
+    @FunctionalInterface
+    public interface Decoder<V> {
+        V decode(String value) throws Exception;
+    }
+
+    public Optional<V> get(String key) {
+        return Optional.ofNullable(table.get(key));
+    }
+
+    /**
+     * prefix 로 시작하는 key 를 key 순서대로 반환한다. 반환값은 table 의 읽기 전용 view 다. (다시 연결해 교체되기 전까지 반영된다.)
+     */
+    public NavigableMap<String, V> scan(String prefix) {
+        return Collections.unmodifiableNavigableMap(table.subMap(prefix, true, prefix + Character.MAX_VALUE, false));
+    }
+
+    /**
+     * [fromKey, toKey) 구간을 key 순서대로 반환한다. 반환값은 table 의 읽기 전용 view 다.
+     */
+    public NavigableMap<String, V> scan(String fromKey, String toKey) {
+        return Collections.unmodifiableNavigableMap(table.subMap(fromKey, true, toKey, false));
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    public boolean isReady() {
+        return ready.getCount() == 0;
+    }
+
+    /**
+     * 시작 시점의 end offset 까지 따라잡을 때까지 기다린다.
+     */
+    public boolean awaitReady(Duration timeout) throws InterruptedException {
+        return ready.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("compacted-table-" + topic).daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Consumer<String, String> current = consumer;
+        if (current != null) {
+            current.wakeup();
+        }
+        try {
+            worker.join(POLL_TIMEOUT.multipliedBy(4).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try (Consumer<String, String> current = consumerFactory.get()) {
+                consumer = current;
+                ConcurrentSkipListMap<String, V> building = new ConcurrentSkipListMap<>();
+                Map<TopicPartition, Long> catchUpOffsets = bootstrap(current);
+                boolean swapped = false;
+                while (running) {
+                    if (!swapped && caughtUp(current, catchUpOffsets)) {
+                        table = building;
+                        swapped = true;
+                        log.info("[table] {} 를 따라잡았습니다. (keys={})", topic, building.size());
+                        ready.countDown();
+                    }
+                    for (ConsumerRecord<String, String> record : current.poll(POLL_TIMEOUT)) {
+                        apply(building, record);
+                    }
+                }
+            } catch (WakeupException e) {
+                // stop() 에서 깨운 경우
+            } catch (Exception e) {
+                // 새 map 에 처음부터 다시 읽는다. 따라잡을 때까지는 지금 map 으로 응답한다.
+                log.warn("[table] {} 를 읽는 중 실패해 {} 후 다시 연결합니다.", topic, ERROR_BACKOFF, e);
+                sleep();
+            } finally {
+                consumer = null;
+            }
+        }
+    }
+
+    private Map<TopicPartition, Long> bootstrap(Consumer<String, String> current) {
+        List<TopicPartition> partitions = new ArrayList<>();
+        for (PartitionInfo info : current.partitionsFor(topic)) {
+            partitions.add(new TopicPartition(topic, info.partition()));
+        }
+        current.assign(partitions);
+        current.seekToBeginning(partitions);
+        return current.endOffsets(partitions);
+    }
+
+    private void apply(Map<String, V> target, ConsumerRecord<String, String> record) {
+        if (record.key() == null) {
+            return; // compacted topic 에서 key 가 없는 레코드는 의미가 없다.
+        }
+        if (record.value() == null) {
+            target.remove(record.key());
+            return;
+        }
+        try {
+            target.put(record.key(), decoder.decode(record.value()));
+        } catch (Exception e) {
+            log.warn("[table] {} key={} offset={} 를 읽을 수 없어 건너뜁니다.", topic, record.key(), record.offset(), e);
+        }
+    }
+
+    private static boolean caughtUp(Consumer<String, String> current, Map<TopicPartition, Long> catchUpOffsets) {
+        for (Map.Entry<TopicPartition, Long> entry : catchUpOffsets.entrySet()) {
+            if (current.position(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(ERROR_BACKOFF);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
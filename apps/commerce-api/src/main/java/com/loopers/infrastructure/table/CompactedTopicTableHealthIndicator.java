@@ -0,0 +1,24 @@
+package com.loopers.infrastructure.table;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * table 이 시작 시점의 end offset 을 따라잡기 전에는 OUT_OF_SERVICE 를 반환해 readiness probe 가 트래픽을 받지 않도록 한다.
+ */
+public class CompactedTopicTableHealthIndicator implements HealthIndicator {
+    private final CompactedTopicTable<?> table;
+
+    public CompactedTopicTableHealthIndicator(CompactedTopicTable<?> table) {
+        this.table = table;
+    }
+
+    @Override
+    public Health health() {
+        return Health.status(table.isReady() ? Status.UP : Status.OUT_OF_SERVICE)
+            .withDetail("topic", table.topic())
+            .withDetail("keys", table.size())
+            .build();
+    }
+}
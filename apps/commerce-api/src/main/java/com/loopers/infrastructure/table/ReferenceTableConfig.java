@@ -0,0 +1,50 @@
+package com.loopers.infrastructure.table;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "reference-table", name = "enabled", havingValue = "true")
+public class ReferenceTableConfig {
+
+    @Bean
+    public CompactedTopicTable<JsonNode> referenceTable(
+        ReferenceTableProperties properties,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${spring.application.name}") String applicationName
+    ) {
+        Map<String, Object> consumerProperties = new HashMap<>();
+        consumerProperties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, properties.bootstrapServers());
+        consumerProperties.put(ConsumerConfig.CLIENT_ID_CONFIG, applicationName + "-reference-table");
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false); // group 없이 assign 으로만 읽는다.
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 5000);
+
+        CompactedTopicTable<JsonNode> table = new CompactedTopicTable<>(
+            properties.topic(),
+            () -> new KafkaConsumer<>(consumerProperties, new StringDeserializer(), new StringDeserializer()),
+            objectMapper::readTree
+        );
+        Gauge.builder("reference.table.keys", table, CompactedTopicTable::size)
+            .tag("topic", properties.topic())
+            .register(meterRegistry);
+        return table;
+    }
+
+    @Bean
+    public CompactedTopicTableHealthIndicator referenceTableHealthIndicator(CompactedTopicTable<JsonNode> referenceTable) {
+        return new CompactedTopicTableHealthIndicator(referenceTable);
+    }
+}
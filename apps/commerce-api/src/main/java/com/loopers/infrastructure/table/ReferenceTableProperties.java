@@ -0,0 +1,19 @@
+package com.loopers.infrastructure.table;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * compacted topic 에서 읽어오는 참조 데이터 table 설정.
+ *
+ * @param enabled          true 일 때만 table 을 띄운다.
+ * @param bootstrapServers kafka broker 주소
+ * @param topic            key 별 최신 값을 담는 compacted topic
+ */
+@ConfigurationProperties("reference-table")
+public record ReferenceTableProperties(
+    @DefaultValue("false") boolean enabled,
+    String bootstrapServers,
+    String topic
+) {
+}
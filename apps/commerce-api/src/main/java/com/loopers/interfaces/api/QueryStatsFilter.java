@@ -0,0 +1,40 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.config.jpa.query.QueryScope;
+import com.loopers.config.jpa.query.QueryStatsRecorder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행된 쿼리 수를 센다. 요청이 끝나면 jpa.query.per.scope{scope=request} 로 기록하고, N+1 이 의심되면 경고한다.
+ */
+@Component
+public class QueryStatsFilter extends OncePerRequestFilter {
+    private final QueryStatsRecorder recorder;
+
+    public QueryStatsFilter(ObjectProvider<QueryStatsRecorder> recorder) {
+        this.recorder = recorder.getIfAvailable();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        if (recorder == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        QueryScope scope = QueryScope.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recorder.complete(scope, "request");
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.loopers.interfaces.api.example;
 
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @Tag(name = "Example V1 API", description = "Loopers 예시 API 입니다.")
 public interface ExampleV1ApiSpec {
@@ -16,4 +19,26 @@ public interface ExampleV1ApiSpec {
         @Schema(name = "예시 ID", description = "조회할 예시의 ID")
         Long exampleId
     );
+
+    @Operation(
+        summary = "예시 목록 조회",
+        description = "최신순으로 예시 목록을 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다."
+    )
+    ApiResponse<ExampleV1Dto.ExamplesResponse> getExamples(
+        @Schema(name = "cursor", description = "이전 페이지 응답의 nextCursor. 없으면 첫 페이지")
+        String cursor,
+        @Schema(name = "페이지 크기", description = "1 ~ 100")
+        int size
+    );
+
+    @Operation(
+        summary = "예시 전체 내보내기",
+        description = "모든 예시를 id 순으로 한 줄에 하나씩 내려받습니다. 페이지 없이 끝까지 스트리밍합니다. 동시에 실행 중인 내보내기가 많으면 429 로 거절합니다."
+    )
+    WebAsyncTask<Void> exportExamples(
+        @Schema(name = "형식", description = "ndjson ( default ) / csv")
+        String format,
+        @Parameter(hidden = true)
+        HttpServletResponse response
+    );
 }
@@ -1,20 +1,44 @@
 package com.loopers.interfaces.api.example;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.loopers.application.example.ExampleFacade;
 import com.loopers.application.example.ExampleInfo;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/examples")
 public class ExampleV1Controller implements ExampleV1ApiSpec {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+    private static final int FLUSH_EVERY = 1000; // 행마다 flush 하면 작은 패킷이 많아지고, 너무 늦으면 클라이언트가 진행을 볼 수 없다.
+
     private final ExampleFacade exampleFacade;
+    private final ObjectMapper objectMapper;
+    private final ExportTasks exportTasks;
 
     @GetMapping("/{exampleId}")
     @Override
@@ -25,4 +49,96 @@ public class ExampleV1Controller implements ExampleV1ApiSpec {
         ExampleV1Dto.ExampleResponse response = ExampleV1Dto.ExampleResponse.from(info);
         return ApiResponse.success(response);
     }
+
+    @GetMapping
+    @Override
+    public ApiResponse<ExampleV1Dto.ExamplesResponse> getExamples(
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(ExampleV1Dto.ExamplesResponse.from(exampleFacade.getExamples(cursor, size)));
+    }
+
+    /**
+     * 조회는 내보내기 전용 실행기({@link ExportTasks})의 스레드에서 실행한다. (트랜잭션과 커넥션도 그 스레드에서 열고 닫는다.)
+     * 클라이언트가 연결을 끊거나 timeout 으로 응답이 닫히면 쓰기가 실패하고, 실행 중인 쿼리를 취소한 뒤 끝난다.
+     */
+    @GetMapping("/export")
+    @Override
+    public WebAsyncTask<Void> exportExamples(
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) {
+        return switch (format) {
+            case "ndjson" -> exportTasks.submit(() -> {
+                response.setContentType(NDJSON.toString());
+                writeNdjson(response.getOutputStream());
+            });
+            case "csv" -> exportTasks.submit(() -> {
+                response.setContentType(CSV.toString());
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"examples.csv\"");
+                writeCsv(response.getOutputStream());
+            });
+            default -> throw new CoreException(ErrorType.BAD_REQUEST, "지원하지 않는 형식입니다. (ndjson, csv)");
+        };
+    }
+
+    private void writeNdjson(OutputStream out) throws IOException {
+        // 값마다 flush 하지 않고, 루트 값 사이 구분자(공백) 대신 줄바꿈을 직접 쓴다.
+        ObjectWriter rowWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            int[] written = {0};
+            export(info -> {
+                rowWriter.writeValue(generator, ExampleV1Dto.ExampleResponse.from(info));
+                generator.writeRaw('\n');
+                if (++written[0] % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            });
+        }
+    }
+
+    private void writeCsv(OutputStream out) throws IOException {
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            writer.write("id,name,description\n");
+            int[] written = {0};
+            export(info -> {
+                writer.write(info.id() + "," + csv(info.name()) + "," + csv(info.description()) + "\n");
+                if (++written[0] % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            });
+        }
+    }
+
+    private void export(RowWriter rowWriter) throws IOException {
+        try {
+            exampleFacade.exportExamples(info -> {
+                try {
+                    rowWriter.write(info);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ExampleInfo info) throws IOException;
+    }
 }
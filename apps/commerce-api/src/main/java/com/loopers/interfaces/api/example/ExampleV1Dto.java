@@ -1,6 +1,9 @@
 package com.loopers.interfaces.api.example;
 
 import com.loopers.application.example.ExampleInfo;
+import com.loopers.domain.KeysetPage;
+
+import java.util.List;
 
 public class ExampleV1Dto {
     public record ExampleResponse(Long id, String name, String description) {
@@ -12,4 +15,14 @@ public class ExampleV1Dto {
             );
         }
     }
+
+    public record ExamplesResponse(List<ExampleResponse> examples, String nextCursor, boolean hasNext) {
+        public static ExamplesResponse from(KeysetPage<ExampleInfo> page) {
+            return new ExamplesResponse(
+                page.content().stream().map(ExampleResponse::from).toList(),
+                page.nextCursor(),
+                page.hasNext()
+            );
+        }
+    }
 }
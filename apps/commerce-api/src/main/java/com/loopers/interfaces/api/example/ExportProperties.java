@@ -0,0 +1,19 @@
+package com.loopers.interfaces.api.example;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 스트리밍 내보내기 설정.
+ *
+ * @param maxConcurrent 동시에 실행할 수 있는 내보내기 수. 넘치는 요청은 429 로 거절한다.
+ * @param timeout       내보내기 한 건의 최대 시간. 넘기면 응답을 닫고, 쓰기가 실패하면서 조회도 취소된다.
+ */
+@ConfigurationProperties("export")
+public record ExportProperties(
+    @DefaultValue("2") int maxConcurrent,
+    @DefaultValue("10m") Duration timeout
+) {
+}
@@ -0,0 +1,82 @@
+package com.loopers.interfaces.api.example;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 내보내기 전용 async 실행기.
+ * 내보내기는 끝날 때까지 스레드와 DB 커넥션을 오래 쥐고 있으므로, 공용 applicationTaskExecutor 와 나누고
+ * 동시에 maxConcurrent 개까지만 실행한다. 넘치는 요청은 기다리게 하지 않고 바로 429 로 거절한다.
+ * <p>
+ * permit 은 작업이 끝날 때 돌려준다. 작업이 시작되기 전에 응답이 끝나면 (timeout, 실행기 거절 등) 완료 callback 에서 돌려준다.
+ */
+@Slf4j
+@Component
+public class ExportTasks implements DisposableBean {
+    private final ExportProperties properties;
+    private final Semaphore permits;
+    private final ThreadPoolTaskExecutor executor;
+
+    public ExportTasks(ExportProperties properties) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxConcurrent());
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.maxConcurrent());
+        executor.setMaxPoolSize(properties.maxConcurrent());
+        // permit 을 돌려준 스레드가 풀로 돌아가기 전에 다음 작업이 들어올 수 있으므로, 그만큼만 대기열을 둔다.
+        executor.setQueueCapacity(properties.maxConcurrent());
+        executor.setThreadNamePrefix("export-");
+        executor.initialize();
+    }
+
+    public WebAsyncTask<Void> submit(ExportBody body) {
+        if (!permits.tryAcquire()) {
+            throw new CoreException(ErrorType.TOO_MANY_REQUESTS,
+                "동시에 실행할 수 있는 내보내기는 " + properties.maxConcurrent() + "개입니다. 잠시 후 다시 시도해주세요.");
+        }
+        AtomicBoolean claimed = new AtomicBoolean();
+        WebAsyncTask<Void> task = new WebAsyncTask<>(properties.timeout().toMillis(), executor, () -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null; // 시작하기 전에 응답이 이미 끝났다.
+            }
+            try {
+                body.run();
+                return null;
+            } finally {
+                permits.release();
+            }
+        });
+        task.onTimeout(() -> {
+            log.warn("내보내기가 {} 안에 끝나지 않아 응답을 닫습니다.", properties.timeout());
+            return null;
+        });
+        task.onCompletion(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                permits.release();
+            }
+        });
+        return task;
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    public interface ExportBody {
+        void run() throws Exception;
+    }
+}
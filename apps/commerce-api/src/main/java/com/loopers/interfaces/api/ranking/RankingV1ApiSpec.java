@@ -0,0 +1,36 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.time.ZonedDateTime;
+
+@Tag(name = "Ranking V1 API", description = "실시간 ranking API 입니다.")
+public interface RankingV1ApiSpec {
+
+    @Operation(
+        summary = "ranking 조회",
+        description = "구간의 ranking 을 점수가 높은 순으로 조회합니다."
+    )
+    ApiResponse<RankingV1Dto.RankingsResponse> getRankings(
+        @Schema(name = "조회 시각", description = "이 시각이 속한 구간을 조회합니다. 없으면 현재 구간입니다.")
+        ZonedDateTime at,
+        @Schema(name = "페이지", description = "0 부터 시작하는 페이지")
+        int page,
+        @Schema(name = "페이지 크기", description = "한 페이지의 순위 수")
+        int size
+    );
+
+    @Operation(
+        summary = "항목 순위 조회",
+        description = "항목의 구간 내 순위와 점수를 조회합니다."
+    )
+    ApiResponse<RankingV1Dto.RankingResponse> getRanking(
+        @Schema(name = "항목 ID", description = "순위를 조회할 항목의 ID")
+        String itemId,
+        @Schema(name = "조회 시각", description = "이 시각이 속한 구간을 조회합니다. 없으면 현재 구간입니다.")
+        ZonedDateTime at
+    );
+}
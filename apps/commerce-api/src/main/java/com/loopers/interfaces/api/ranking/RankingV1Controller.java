@@ -0,0 +1,40 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingFacade;
+import com.loopers.interfaces.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.ZonedDateTime;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/rankings")
+public class RankingV1Controller implements RankingV1ApiSpec {
+
+    private final RankingFacade rankingFacade;
+
+    @GetMapping
+    @Override
+    public ApiResponse<RankingV1Dto.RankingsResponse> getRankings(
+        @RequestParam(value = "at", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime at,
+        @RequestParam(value = "page", defaultValue = "0") int page,
+        @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(RankingV1Dto.RankingsResponse.from(rankingFacade.getRankings(at, page, size)));
+    }
+
+    @GetMapping("/{itemId}")
+    @Override
+    public ApiResponse<RankingV1Dto.RankingResponse> getRanking(
+        @PathVariable(value = "itemId") String itemId,
+        @RequestParam(value = "at", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime at
+    ) {
+        return ApiResponse.success(RankingV1Dto.RankingResponse.from(rankingFacade.getRanking(itemId, at)));
+    }
+}
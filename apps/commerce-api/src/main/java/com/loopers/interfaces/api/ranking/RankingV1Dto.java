@@ -0,0 +1,23 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingInfo;
+
+import java.util.List;
+
+public class RankingV1Dto {
+    public record RankingResponse(String itemId, long rank, double score) {
+        public static RankingResponse from(RankingInfo info) {
+            return new RankingResponse(
+                info.itemId(),
+                info.rank(),
+                info.score()
+            );
+        }
+    }
+
+    public record RankingsResponse(List<RankingResponse> rankings) {
+        public static RankingsResponse from(List<RankingInfo> infos) {
+            return new RankingsResponse(infos.stream().map(RankingResponse::from).toList());
+        }
+    }
+}
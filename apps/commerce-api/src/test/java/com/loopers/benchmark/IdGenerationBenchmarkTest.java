@@ -0,0 +1,115 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.domain.TsidBaseEntity;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * IDENTITY 와 TSID id 의 대량 INSERT 처리량 비교. 결과(rows/s)는 로그로 확인한다.
+ * IDENTITY 는 행마다 INSERT 를 한 번씩 실행하고, TSID 는 jdbc.batch_size 단위로 묶어 multi-row INSERT 로 실행한다.
+ * batch 여부는 Hibernate 통계의 prepared statement 수로 확인한다.
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(MySqlTestContainersConfig.class)
+class IdGenerationBenchmarkTest {
+    private static final int ROWS = 5_000;
+    private static final int FLUSH_SIZE = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private record Result(long nanos, long statements) { }
+
+    @DisplayName("TSID 엔티티는 IDENTITY 엔티티와 같은 수의 행을 INSERT batch 로 저장한다.")
+    @Test
+    void comparesInsertThroughput() {
+        // given
+        insert(IdentityRow::new); // warm-up
+        insert(TsidRow::new);
+        databaseCleanUp.truncateAllTables();
+
+        // when
+        Result identity = insert(IdentityRow::new);
+        Result tsid = insert(TsidRow::new);
+
+        // then
+        log.info("[benchmark] IDENTITY {} rows/s ({} statements), TSID {} rows/s ({} statements) ({}x)",
+            rate(identity.nanos()), identity.statements(), rate(tsid.nanos()), tsid.statements(),
+            String.format("%.1f", (double) identity.nanos() / tsid.nanos()));
+        assertAll(
+            () -> assertThat(count(IdentityRow.class)).isEqualTo(ROWS),
+            () -> assertThat(count(TsidRow.class)).isEqualTo(ROWS),
+            () -> assertThat(identity.statements()).isGreaterThanOrEqualTo(ROWS),
+            () -> assertThat(tsid.statements()).isLessThanOrEqualTo(ROWS / 100)
+        );
+    }
+
+    private Result insert(Supplier<Object> row) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 1; i <= ROWS; i++) {
+                entityManager.persist(row.get());
+                if (i % FLUSH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return new Result(System.nanoTime() - start, statistics.getPrepareStatementCount());
+    }
+
+    private long count(Class<?> type) {
+        return entityManager.createQuery("select count(e) from " + type.getSimpleName() + " e", Long.class).getSingleResult();
+    }
+
+    private static long rate(long nanos) {
+        return ROWS * 1_000_000_000L / nanos;
+    }
+
+    @Entity
+    @Table(name = "benchmark_identity_row")
+    static class IdentityRow extends BaseEntity {
+    }
+
+    @Entity
+    @Table(name = "benchmark_tsid_row")
+    static class TsidRow extends TsidBaseEntity {
+    }
+}
@@ -0,0 +1,96 @@
+package com.loopers.benchmark;
+
+import com.loopers.application.example.ExampleInfo;
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleService;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티 조회 후 변환하는 경로와 projection 으로 바로 읽는 경로의 호출당 지연 / 할당량 비교. 결과는 로그로 확인한다.
+ * 2차 캐시는 기본값(off) 그대로 두어, 두 경로 모두 DB 에서 읽는다.
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(MySqlTestContainersConfig.class)
+class ReadPathBenchmarkTest {
+    private static final int ITERATIONS = 2_000;
+
+    @Autowired
+    private ExampleService exampleService;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("projection 경로는 엔티티 경로와 같은 결과를 반환한다.")
+    @Test
+    void comparesEntityAndProjectionReadPaths() {
+        // given
+        long id = exampleJpaRepository.save(new ExampleModel("예시", "설명")).getId();
+        LongFunction<ExampleInfo> entity = exampleId -> ExampleInfo.from(exampleService.getExample(exampleId));
+        LongFunction<ExampleInfo> projection = exampleId -> ExampleInfo.from(exampleService.getExampleSummary(exampleId));
+        measure(entity, id); // warm-up
+        measure(projection, id);
+
+        // when
+        Result entityResult = measure(entity, id);
+        Result projectionResult = measure(projection, id);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        projection.apply(id);
+        long projectionLoads = statistics.getEntityLoadCount();
+        entity.apply(id);
+        long entityLoads = statistics.getEntityLoadCount() - projectionLoads;
+
+        // then
+        log.info("[benchmark] entity {}us / {} bytes, projection {}us / {} bytes (per call)",
+            entityResult.micros(), entityResult.bytes(), projectionResult.micros(), projectionResult.bytes());
+        assertThat(projection.apply(id)).isEqualTo(entity.apply(id));
+        assertThat(projectionLoads).isZero(); // projection 경로는 엔티티를 만들지 않는다.
+        assertThat(entityLoads).isEqualTo(1);
+    }
+
+    private static Result measure(LongFunction<ExampleInfo> read, long id) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            read.apply(id);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(elapsed / ITERATIONS / 1_000, allocated / ITERATIONS);
+    }
+
+    private record Result(long micros, long bytes) {
+    }
+}
@@ -3,6 +3,7 @@ package com.loopers.domain.example;
 import com.loopers.infrastructure.example.ExampleJpaRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.domain.KeysetPage;
 import com.loopers.utils.DatabaseCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +15,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static com.loopers.utils.QueryAssertions.assertMaxQueries;
 
 @SpringBootTest
 class ExampleServiceIntegrationTest {
@@ -69,4 +71,27 @@ class ExampleServiceIntegrationTest {
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
         }
     }
+
+    @DisplayName("예시 목록을 조회할 때,")
+    @Nested
+    class GetList {
+        @DisplayName("깊은 페이지도 COUNT 없이 쿼리 한 번으로 조회한다.")
+        @Test
+        void fetchesPageWithSingleQuery() {
+            // arrange
+            for (int i = 0; i < 5; i++) {
+                exampleJpaRepository.save(new ExampleModel("예시 " + i, "설명 " + i));
+            }
+            String cursor = exampleService.getExamples(null, 2).nextCursor();
+
+            // act
+            KeysetPage<ExampleSummary> page = assertMaxQueries(1, () -> exampleService.getExamples(cursor, 2));
+
+            // assert
+            assertAll(
+                () -> assertThat(page.content()).hasSize(2),
+                () -> assertThat(page.hasNext()).isTrue()
+            );
+        }
+    }
 }
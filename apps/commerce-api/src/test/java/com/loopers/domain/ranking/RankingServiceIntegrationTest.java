@@ -0,0 +1,123 @@
+package com.loopers.domain.ranking;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(properties = "ranking.local-cache-ttl=0s")
+@Import(RedisTestContainersConfig.class)
+class RankingServiceIntegrationTest {
+    private static final ZonedDateTime AT = ZonedDateTime.of(2025, 1, 1, 12, 0, 0, 0, ZoneId.of("Asia/Seoul"));
+    private static final String KEY = "ranking:all:202501010000";
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private RedisTemplate<String, String> defaultRedisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    private void seed() {
+        defaultRedisTemplate.opsForZSet().add(KEY, "item-a", 10);
+        defaultRedisTemplate.opsForZSet().add(KEY, "item-b", 30);
+        defaultRedisTemplate.opsForZSet().add(KEY, "item-c", 20);
+    }
+
+    @DisplayName("ranking 을 조회할 때, ")
+    @Nested
+    class GetTop {
+        @DisplayName("조회 시각이 속한 구간의 항목을 점수가 높은 순으로 1 부터 순위를 매겨 반환한다.")
+        @Test
+        void returnsEntriesByScoreDescending() {
+            // arrange
+            seed();
+
+            // act
+            List<RankingEntry> top = rankingService.getTop(AT, 0, 2);
+
+            // assert
+            assertThat(top).containsExactly(
+                new RankingEntry("item-b", 1, 30),
+                new RankingEntry("item-c", 2, 20)
+            );
+        }
+
+        @DisplayName("두 번째 페이지는 이어지는 순위부터 반환한다.")
+        @Test
+        void returnsNextPage() {
+            // arrange
+            seed();
+
+            // act
+            List<RankingEntry> top = rankingService.getTop(AT, 1, 2);
+
+            // assert
+            assertThat(top).containsExactly(new RankingEntry("item-a", 3, 10));
+        }
+
+        @DisplayName("최대 크기보다 큰 size 를 요청하면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenSizeExceedsMax() {
+            // act & assert
+            assertThatThrownBy(() -> rankingService.getTop(AT, 0, 101))
+                .isInstanceOf(CoreException.class);
+        }
+    }
+
+    @DisplayName("항목의 순위를 조회할 때, ")
+    @Nested
+    class GetRank {
+        @DisplayName("구간에 있는 항목이면, 순위와 점수를 반환한다.")
+        @Test
+        void returnsRankAndScore() {
+            // arrange
+            seed();
+
+            // act
+            Optional<RankingEntry> rank = rankingService.getRank("item-c", AT);
+
+            // assert
+            assertThat(rank).contains(new RankingEntry("item-c", 2, 20));
+        }
+
+        @DisplayName("구간에 없는 항목이면, 빈 값을 반환한다.")
+        @Test
+        void returnsEmpty_whenItemIsNotRanked() {
+            // arrange
+            seed();
+
+            // act
+            Optional<RankingEntry> rank = rankingService.getRank("item-x", AT);
+
+            // assert
+            assertAll(
+                () -> assertThat(rank).isEmpty(),
+                () -> assertThat(rankingService.getRank("item-x", AT.plusDays(1))).isEmpty()
+            );
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.loopers.infrastructure.table;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CompactedTopicTableTest {
+    private static final String TOPIC = "commerce.reference-v1";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private MockConsumer<String, String> consumer;
+    private CompactedTopicTable<String> table;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(TOPIC, List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.updateEndOffsets(Map.of(PARTITION, 3L));
+        table = new CompactedTopicTable<>(TOPIC, () -> consumer, String::toUpperCase);
+    }
+
+    @AfterEach
+    void tearDown() {
+        table.stop();
+    }
+
+    private void publish(long offset, String key, String value) {
+        consumer.schedulePollTask(() -> consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset, key, value)));
+    }
+
+    @DisplayName("시작 시점의 end offset 까지 읽어야 ready 가 되고, key 별 최신 값만 남긴다.")
+    @Test
+    void becomesReady_afterCatchingUp() throws InterruptedException {
+        // arrange
+        publish(0, "brand:1", "nike");
+        publish(1, "brand:2", "adidas");
+        publish(2, "brand:1", "nike-v2");
+
+        // act
+        table.start();
+
+        // assert
+        assertThat(table.awaitReady(Duration.ofSeconds(5))).isTrue();
+        assertAll(
+            () -> assertThat(table.get("brand:1")).contains("NIKE-V2"),
+            () -> assertThat(table.get("brand:2")).contains("ADIDAS"),
+            () -> assertThat(table.size()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("ready 이후의 변경도 반영하고, tombstone 은 key 를 지운다.")
+    @Test
+    void appliesUpdatesAndTombstones_afterReady() throws InterruptedException {
+        // arrange
+        publish(0, "brand:1", "nike");
+        publish(1, "brand:2", "adidas");
+        publish(2, "category:1", "shoes");
+        table.start();
+        table.awaitReady(Duration.ofSeconds(5));
+
+        // act
+        publish(3, "brand:2", null);
+        publish(4, "brand:3", "puma");
+
+        // assert
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertThat(table.scan("brand:").keySet()).containsExactly("brand:1", "brand:3"));
+    }
+
+    @DisplayName("비어 있는 topic 이면 바로 ready 가 된다.")
+    @Test
+    void becomesReady_whenTopicIsEmpty() throws InterruptedException {
+        // arrange
+        consumer.updateEndOffsets(Map.of(PARTITION, 0L));
+
+        // act
+        table.start();
+
+        // assert
+        assertThat(table.awaitReady(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @DisplayName("다시 연결하면 새로 읽은 값으로 교체해, 끊긴 사이 compaction 으로 tombstone 이 사라진 key 도 남기지 않는다.")
+    @Test
+    void rebuildsTable_afterReconnect() throws InterruptedException {
+        // arrange
+        MockConsumer<String, String> reconnected = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        reconnected.updatePartitions(TOPIC, List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        reconnected.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        reconnected.updateEndOffsets(Map.of(PARTITION, 3L));
+        reconnected.schedulePollTask(() -> {
+            reconnected.addRecord(new ConsumerRecord<>(TOPIC, 0, 0L, "brand:1", "nike"));
+            reconnected.addRecord(new ConsumerRecord<>(TOPIC, 0, 2L, "category:1", "shoes"));
+        });
+        Iterator<MockConsumer<String, String>> consumers = List.of(consumer, reconnected).iterator();
+        table = new CompactedTopicTable<>(TOPIC, consumers::next, String::toUpperCase);
+        publish(0, "brand:1", "nike");
+        publish(1, "brand:2", "adidas");
+        publish(2, "category:1", "shoes");
+        table.start();
+        table.awaitReady(Duration.ofSeconds(5));
+
+        // act
+        consumer.schedulePollTask(() -> consumer.setPollException(new KafkaException("broker unavailable")));
+
+        // assert
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertAll(
+            () -> assertThat(table.get("brand:2")).isEmpty(),
+            () -> assertThat(table.get("brand:1")).contains("NIKE"),
+            () -> assertThat(table.get("category:1")).contains("SHOES")
+        ));
+    }
+}
@@ -0,0 +1,147 @@
+package com.loopers.integration;
+
+import com.loopers.config.jpa.bulk.BulkWriter;
+import com.loopers.domain.TsidBaseEntity;
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleRepository;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+class BulkWriterIntegrationTest {
+
+    @Autowired
+    private BulkWriter bulkWriter;
+
+    @Autowired
+    private ExampleRepository exampleRepository;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("StatelessSession 으로 INSERT 해도 생성/수정 시각이 채워진다")
+    void insertAll_fillsAuditTimestamps() {
+        // given
+        List<ExampleModel> examples = examples(10);
+
+        // when
+        long inserted = exampleRepository.insertAll(examples);
+
+        // then
+        List<ExampleModel> found = exampleJpaRepository.findAll();
+        assertAll(
+            () -> assertThat(inserted).isEqualTo(10),
+            () -> assertThat(found).hasSize(10),
+            () -> assertThat(found).allSatisfy(example -> {
+                assertThat(example.getCreatedAt()).isNotNull();
+                assertThat(example.getUpdatedAt()).isEqualTo(example.getCreatedAt());
+            })
+        );
+    }
+
+    @Test
+    @DisplayName("batch 로 묶이는 엔티티를 chunk 크기의 배수가 아닌 수만큼 INSERT 해도, 마지막 chunk 의 나머지 행까지 저장된다")
+    void insertAll_executesTrailingPartialBatch() {
+        // given
+        List<BulkRow> rows = IntStream.range(0, 2_345)
+            .mapToObj(i -> new BulkRow("행 " + i))
+            .toList();
+
+        // when
+        long inserted = bulkWriter.insertAll(rows);
+
+        // then
+        Long stored = entityManager.createQuery("select count(r) from BulkRow r", Long.class).getSingleResult();
+        assertAll(
+            () -> assertThat(inserted).isEqualTo(2_345),
+            () -> assertThat(stored).isEqualTo(2_345)
+        );
+    }
+
+    @Test
+    @DisplayName("chunk 크기보다 많은 엔티티를 saveAll 로 저장할 수 있다")
+    void saveAll_flushesEveryChunk() {
+        // given
+        List<ExampleModel> examples = examples(2_500);
+
+        // when
+        List<ExampleModel> saved = bulkWriter.saveAll(examples);
+
+        // then
+        assertAll(
+            () -> assertThat(saved).hasSize(2_500),
+            () -> assertThat(exampleJpaRepository.count()).isEqualTo(2_500)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 id 로 UPSERT 하면 행을 수정하고 생성 시각은 유지한다")
+    void upsertAll_updatesExistingRows() {
+        // given
+        BulkRow row = new BulkRow("원본");
+        bulkWriter.saveAll(List.of(row));
+        BulkRow created = entityManager.find(BulkRow.class, row.getId());
+        var createdAt = row.getCreatedAt();
+
+        // when
+        row.value = "수정";
+        bulkWriter.upsertAll(List.of(row));
+
+        // then
+        entityManager.clear();
+        BulkRow updated = entityManager.find(BulkRow.class, row.getId());
+        assertAll(
+            () -> assertThat(updated.value).isEqualTo("수정"),
+            () -> assertThat(updated.getCreatedAt()).isEqualTo(created.getCreatedAt()),
+            () -> assertThat(row.getCreatedAt()).isEqualTo(createdAt),
+            () -> assertThat(updated.getUpdatedAt()).isAfterOrEqualTo(created.getUpdatedAt())
+        );
+    }
+
+    private static List<ExampleModel> examples(int size) {
+        return IntStream.range(0, size)
+            .mapToObj(i -> new ExampleModel("예시 " + i, "설명 " + i))
+            .toList();
+    }
+
+    @Entity
+    @Table(name = "bulk_row")
+    static class BulkRow extends TsidBaseEntity {
+        String value;
+
+        BulkRow() {}
+
+        BulkRow(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.loopers.integration;
+
+import com.loopers.config.jpa.cache.L2CacheInvalidation;
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleRepository;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({MySqlTestContainersConfig.class, RedisTestContainersConfig.class})
+class L2CacheIntegrationTest {
+
+    @Autowired
+    private ExampleRepository exampleRepository;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private L2CacheInvalidation l2CacheInvalidation;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("같은 엔티티를 반복해서 조회하면 두 번째부터는 second-level cache 에서 읽는다")
+    void findById_hitsSecondLevelCache() {
+        // given
+        ExampleModel saved = exampleJpaRepository.save(new ExampleModel("예시", "설명"));
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // when
+        exampleRepository.find(saved.getId());
+        exampleRepository.find(saved.getId());
+
+        // then
+        assertAll(
+            () -> assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(1),
+            () -> assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1),
+            () -> assertThat(statistics.getEntityLoadCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 해당 엔티티를 캐시에서 지운다")
+    void evict_removesEntityFromCache() {
+        // given
+        ExampleModel saved = exampleJpaRepository.save(new ExampleModel("예시", "설명"));
+        exampleRepository.find(saved.getId());
+
+        // when
+        l2CacheInvalidation.evict(ExampleModel.class.getName(), saved.getId());
+
+        // then
+        assertThat(entityManagerFactory.getCache().contains(ExampleModel.class, saved.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시된 엔티티를 soft delete 하면, 이후 id 조회는 캐시에서 삭제된 엔티티를 돌려주지 않는다")
+    void findById_returnsEmpty_afterSoftDelete() {
+        // given
+        ExampleModel saved = exampleJpaRepository.save(new ExampleModel("예시", "설명"));
+        ExampleModel cached = exampleRepository.find(saved.getId()).orElseThrow();
+        assertThat(entityManagerFactory.getCache().contains(ExampleModel.class, saved.getId())).isTrue();
+
+        // when
+        cached.delete();
+        exampleJpaRepository.save(cached);
+
+        // then
+        assertAll(
+            () -> assertThat(entityManagerFactory.getCache().contains(ExampleModel.class, saved.getId())).isFalse(),
+            () -> assertThat(exampleRepository.find(saved.getId())).isEmpty()
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package com.loopers.integration;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleRepository;
+import com.loopers.domain.example.ExampleService;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+class QueryStreamsIntegrationTest {
+
+    @Autowired
+    private ExampleService exampleService;
+
+    @Autowired
+    private ExampleRepository exampleRepository;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    @Qualifier("mySqlMainDataSource")
+    private HikariDataSource mainDataSource;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("스트리밍 도중 action 이 실패하면, 예외를 그대로 던지고 커넥션을 풀에 돌려준다")
+    void exportExamples_returnsConnection_whenActionThrowsMidStream() {
+        // given
+        exampleRepository.insertAll(IntStream.range(0, 5_000)
+            .mapToObj(i -> new ExampleModel("예시 " + i, "설명 " + i))
+            .toList());
+        AtomicInteger received = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("client aborted");
+
+        // when
+        assertThatThrownBy(() -> exampleService.exportExamples(summary -> {
+            if (received.incrementAndGet() == 10) {
+                throw failure;
+            }
+        })).isSameAs(failure);
+
+        // then
+        assertAll(
+            () -> assertThat(received.get()).isEqualTo(10),
+            () -> assertThat(mainDataSource.getHikariPoolMXBean().getActiveConnections()).isZero(),
+            () -> assertThat(exampleJpaRepository.count()).isEqualTo(5_000)
+        );
+    }
+}
@@ -0,0 +1,100 @@
+package com.loopers.integration;
+
+import com.loopers.config.jpa.softdelete.SoftDeleteFilter;
+import com.loopers.config.jpa.softdelete.SoftDeletePurgeProperties;
+import com.loopers.config.jpa.softdelete.SoftDeletePurger;
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+class SoftDeleteIntegrationTest {
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("삭제된 엔티티는 id 조회와 목록 조회에서 빠지고, filter 를 끄면 조회된다")
+    void excludesDeletedRows() {
+        // given
+        ExampleModel alive = exampleJpaRepository.save(new ExampleModel("살아있는 예시", "설명"));
+        ExampleModel deleted = exampleJpaRepository.save(new ExampleModel("삭제된 예시", "설명"));
+        deleted.delete();
+        exampleJpaRepository.save(deleted);
+
+        // when
+        var found = exampleJpaRepository.findById(deleted.getId());
+        var all = exampleJpaRepository.findAll();
+        var includingDeleted = transactionTemplate.execute(status ->
+            SoftDeleteFilter.includingDeleted(entityManager, exampleJpaRepository::findAll));
+
+        // then
+        assertAll(
+            () -> assertThat(found).isEmpty(),
+            () -> assertThat(all).extracting(ExampleModel::getId).containsExactly(alive.getId()),
+            () -> assertThat(includingDeleted).hasSize(2)
+        );
+    }
+
+    @Test
+    @DisplayName("purge 는 cutoff 이전에 삭제된 행만 batch 단위로 지운다")
+    void purgesOldTombstonesOnly() throws InterruptedException {
+        // given
+        List<ExampleModel> examples = exampleJpaRepository.saveAll(List.of(
+            new ExampleModel("예시1", "설명"), new ExampleModel("예시2", "설명"),
+            new ExampleModel("예시3", "설명"), new ExampleModel("예시4", "설명")));
+        examples.subList(0, 3).forEach(ExampleModel::delete);
+        exampleJpaRepository.saveAll(examples);
+        SoftDeletePurger purger = new SoftDeletePurger(entityManagerFactory, jdbcTemplate, transactionTemplate,
+            new SoftDeletePurgeProperties(true, Duration.ZERO, 2, Duration.ZERO, Duration.ofMinutes(10), "", List.of()));
+
+        // when
+        long purged = purger.purge("example", Instant.now().plusSeconds(60));
+
+        // then
+        Long remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM example", Long.class);
+        assertAll(
+            () -> assertThat(purged).isEqualTo(3),
+            () -> assertThat(remaining).isEqualTo(1)
+        );
+    }
+}
@@ -17,7 +17,10 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -27,6 +30,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class ExampleV1ApiE2ETest {
 
     private static final Function<Long, String> ENDPOINT_GET = id -> "/api/v1/examples/" + id;
+    private static final String ENDPOINT_LIST = "/api/v1/examples";
+    private static final String ENDPOINT_EXPORT = "/api/v1/examples/export";
 
     private final TestRestTemplate testRestTemplate;
     private final ExampleJpaRepository exampleJpaRepository;
@@ -111,4 +116,102 @@ class ExampleV1ApiE2ETest {
             );
         }
     }
+
+    @DisplayName("GET /api/v1/examples")
+    @Nested
+    class GetList {
+        private final ParameterizedTypeReference<ApiResponse<ExampleV1Dto.ExamplesResponse>> responseType = new ParameterizedTypeReference<>() {};
+
+        @DisplayName("nextCursor 를 따라가면, 모든 예시를 최신순으로 중복 없이 한 번씩 반환한다.")
+        @Test
+        void returnsAllExamplesInOrder_whenFollowingCursors() {
+            // arrange
+            List<Long> ids = IntStream.range(0, 5)
+                .mapToObj(i -> exampleJpaRepository.save(new ExampleModel("예시 " + i, "설명 " + i)).getId())
+                .toList();
+
+            // act
+            List<Long> fetched = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                String requestUrl = ENDPOINT_LIST + "?size=2" + (cursor != null ? "&cursor=" + cursor : "");
+                ResponseEntity<ApiResponse<ExampleV1Dto.ExamplesResponse>> response =
+                    testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(null), responseType);
+                response.getBody().data().examples().forEach(example -> fetched.add(example.id()));
+                cursor = response.getBody().data().nextCursor();
+                pages++;
+            } while (cursor != null);
+
+            // assert
+            int finalPages = pages;
+            assertAll(
+                () -> assertThat(fetched).containsExactlyElementsOf(ids.reversed()),
+                () -> assertThat(finalPages).isEqualTo(3)
+            );
+        }
+
+        @DisplayName("해석할 수 없는 cursor 를 주면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenCursorIsInvalid() {
+            // arrange
+            String requestUrl = ENDPOINT_LIST + "?cursor=invalid";
+
+            // act
+            ResponseEntity<ApiResponse<ExampleV1Dto.ExamplesResponse>> response =
+                testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("GET /api/v1/examples/export")
+    @Nested
+    class Export {
+        @DisplayName("ndjson 으로 요청하면, 모든 예시를 id 순으로 한 줄에 하나씩 반환한다.")
+        @Test
+        void returnsOneLinePerExample_whenFormatIsNdjson() {
+            // arrange
+            List<Long> ids = IntStream.range(0, 5)
+                .mapToObj(i -> exampleJpaRepository.save(new ExampleModel("예시 " + i, "설명 " + i)).getId())
+                .toList();
+
+            // act
+            ResponseEntity<String> response = testRestTemplate.getForEntity(ENDPOINT_EXPORT, String.class);
+
+            // assert
+            List<String> lines = response.getBody().lines().toList();
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(lines).hasSize(5),
+                () -> assertThat(lines.getFirst()).contains("\"id\":" + ids.getFirst(), "\"name\":\"예시 0\""),
+                () -> assertThat(lines.getLast()).contains("\"id\":" + ids.getLast())
+            );
+        }
+
+        @DisplayName("csv 로 요청하면, 헤더 다음에 예시마다 한 줄씩 반환하고 쉼표가 든 값은 따옴표로 감싼다.")
+        @Test
+        void returnsHeaderAndQuotedRows_whenFormatIsCsv() {
+            // arrange
+            ExampleModel example = exampleJpaRepository.save(new ExampleModel("예시", "설명, 쉼표 포함"));
+
+            // act
+            ResponseEntity<String> response = testRestTemplate.getForEntity(ENDPOINT_EXPORT + "?format=csv", String.class);
+
+            // assert
+            assertThat(response.getBody().lines().toList())
+                .containsExactly("id,name,description", example.getId() + ",예시,\"설명, 쉼표 포함\"");
+        }
+
+        @DisplayName("지원하지 않는 형식으로 요청하면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenFormatIsUnsupported() {
+            // act
+            ResponseEntity<String> response = testRestTemplate.getForEntity(ENDPOINT_EXPORT + "?format=xml", String.class);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
 }
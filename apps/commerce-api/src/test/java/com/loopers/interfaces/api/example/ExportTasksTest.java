@@ -0,0 +1,66 @@
+package com.loopers.interfaces.api.example;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportTasksTest {
+    private final ExportTasks exportTasks = new ExportTasks(new ExportProperties(1, Duration.ofMinutes(10)));
+
+    @AfterEach
+    void tearDown() {
+        exportTasks.destroy();
+    }
+
+    @DisplayName("동시에 실행 중인 내보내기가 maxConcurrent 개이면, 다음 요청은 TOO_MANY_REQUESTS 로 거절한다.")
+    @Test
+    void rejects_whenMaxConcurrentReached() {
+        // arrange
+        exportTasks.submit(() -> {});
+
+        // act & assert
+        assertThatThrownBy(() -> exportTasks.submit(() -> {}))
+            .isInstanceOfSatisfying(CoreException.class,
+                e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.TOO_MANY_REQUESTS));
+    }
+
+    @DisplayName("내보내기가 끝나면, 실패하더라도 permit 을 돌려준다.")
+    @Test
+    void releasesPermit_whenTaskCompletes() {
+        // arrange
+        WebAsyncTask<Void> task = exportTasks.submit(() -> {
+            throw new IllegalStateException("client aborted");
+        });
+
+        // act
+        assertThatThrownBy(() -> task.getCallable().call()).isInstanceOf(IllegalStateException.class);
+
+        // assert
+        assertThat(exportTasks.availablePermits()).isEqualTo(1);
+    }
+
+    @DisplayName("이미 끝난 작업은 다시 실행되지 않고, permit 도 한 번만 돌려준다.")
+    @Test
+    void runsOnce_andReleasesPermitOnce() throws Exception {
+        // arrange
+        AtomicInteger runs = new AtomicInteger();
+        WebAsyncTask<Void> task = exportTasks.submit(runs::incrementAndGet);
+
+        // act
+        task.getCallable().call();
+        task.getCallable().call();
+
+        // assert
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(exportTasks.availablePermits()).isEqualTo(1);
+    }
+}
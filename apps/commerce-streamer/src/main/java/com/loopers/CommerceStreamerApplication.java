@@ -1,9 +1,11 @@
 package com.loopers;
 
+import com.loopers.interfaces.replay.DemoEventReplayRunner;
 import jakarta.annotation.PostConstruct;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
 
 import java.util.TimeZone;
 
@@ -17,7 +19,12 @@ public class CommerceStreamerApplication {
     }
 
     public static void main(String[] args) {
-        SpringApplication.run(CommerceStreamerApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(CommerceStreamerApplication.class, args);
+        // replay 모드는 ApplicationRunner 가 끝나면 할 일이 없다. runner 의 exit code 로 context 를 닫고 종료한다.
+        DemoEventReplayRunner replayRunner = context.getBeanProvider(DemoEventReplayRunner.class).getIfAvailable();
+        if (replayRunner != null && replayRunner.exitOnComplete()) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
 
@@ -0,0 +1,46 @@
+package com.loopers.application.replay;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * replay 진행률. 파티션별 작업 스레드가 처리한 레코드 수를 더하고, 주기적으로 snapshot 을 찍어 처리 속도와 남은 시간을 계산한다.
+ */
+public class ReplayProgress {
+    private final long total;
+    private final long startedAtMillis;
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    public ReplayProgress(long total, long startedAtMillis) {
+        this.total = total;
+        this.startedAtMillis = startedAtMillis;
+    }
+
+    public void add(long records) {
+        processed.add(records);
+    }
+
+    public void skip() {
+        skipped.increment();
+    }
+
+    public Snapshot snapshot(long nowMillis) {
+        long done = processed.sum();
+        long elapsedMillis = Math.max(1L, nowMillis - startedAtMillis);
+        double recordsPerSecond = done * 1000.0 / elapsedMillis;
+        Duration eta = recordsPerSecond > 0
+            ? Duration.ofMillis((long) (Math.max(0L, total - done) / recordsPerSecond * 1000))
+            : null; // 아직 처리한 레코드가 없으면 알 수 없다.
+        return new Snapshot(done, total, skipped.sum(), recordsPerSecond, Duration.ofMillis(elapsedMillis), eta);
+    }
+
+    /**
+     * @param eta 현재 처리 속도로 남은 레코드를 처리하는 데 걸릴 시간. 계산할 수 없으면 null
+     */
+    public record Snapshot(long processed, long total, long skipped, double recordsPerSecond, Duration elapsed, Duration eta) {
+        public double percent() {
+            return total == 0 ? 100.0 : Math.min(100.0, processed * 100.0 / total);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.loopers.application.window;
+
+import com.loopers.domain.window.LongAggregateMap;
+import com.loopers.domain.window.WindowChangelog;
+import com.loopers.domain.window.WindowResult;
+import com.loopers.domain.window.WindowResultPublisher;
+import com.loopers.domain.window.WindowState;
+import com.loopers.domain.window.WindowedAggregation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * batch listener 위에서 동작하는 window 집계 엔진. source topic 하나에 대해 파티션별로 상태를 나누어 관리한다.
+ * <p>
+ * 처리 순서는 다음과 같다.
+ * <ol>
+ *     <li>{@link #accept} - 레코드를 파티션 상태에 반영한다. 복원된 checkpoint 이하의 offset 은 이미 반영된 것이므로 건너뛴다.</li>
+ *     <li>{@link #flush} - 닫힌 window 결과를 내보낸 뒤, 바뀐 집계와 checkpoint 를 changelog 에 기록한다.
+ *     consumer 는 flush 가 끝난 뒤에 offset 을 ack 한다.</li>
+ * </ol>
+ * 결과 전송 후 changelog 기록 전에 실패하면 복원 후 같은 결과가 다시 나갈 수 있다. (결과는 at-least-once)
+ * window 는 해당 파티션의 stream time 이 흘러야 닫히므로, 이벤트가 끊긴 파티션의 마지막 window 는 다음 이벤트가 올 때 닫힌다.
+ */
+@Slf4j
+public class WindowAggregationEngine<T> {
+
+    private final WindowedAggregation<T> aggregation;
+    private final WindowChangelog changelog;
+    private final WindowResultPublisher resultPublisher;
+
+    private final Map<Integer, WindowState> states = new ConcurrentHashMap<>();
+
+    private final Counter accepted;
+    private final Counter late;
+    private final Counter duplicated;
+    private final Counter emitted;
+    private final Timer restoreTimer;
+
+    public WindowAggregationEngine(
+        WindowedAggregation<T> aggregation,
+        WindowChangelog changelog,
+        WindowResultPublisher resultPublisher,
+        MeterRegistry meterRegistry
+    ) {
+        this.aggregation = aggregation;
+        this.changelog = changelog;
+        this.resultPublisher = resultPublisher;
+
+        String name = aggregation.name();
+        this.accepted = meterRegistry.counter("streamer.window.records", "aggregation", name, "result", "accepted");
+        this.late = meterRegistry.counter("streamer.window.records", "aggregation", name, "result", "late");
+        this.duplicated = meterRegistry.counter("streamer.window.records", "aggregation", name, "result", "duplicated");
+        this.emitted = meterRegistry.counter("streamer.window.emitted", "aggregation", name);
+        this.restoreTimer = Timer.builder("streamer.window.restore")
+            .tag("aggregation", name)
+            .register(meterRegistry);
+        Gauge.builder("streamer.window.open", states, s -> s.values().stream().mapToInt(WindowState::openWindowCount).sum())
+            .tag("aggregation", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 새로 할당된 파티션의 상태를 changelog 에서 복원한다. rebalance 중 consumer 스레드에서 호출된다.
+     */
+    public void restore(Collection<Integer> partitions) {
+        partitions.forEach(partition -> states.put(partition, restoreState(partition)));
+    }
+
+    /**
+     * 회수된 파티션의 상태를 버린다. 다시 할당되면 changelog 에서 복원한다.
+     */
+    public void revoke(Collection<Integer> partitions) {
+        partitions.forEach(states::remove);
+    }
+
+    public void accept(int partition, long offset, long timestamp, T item) {
+        WindowState state = states.computeIfAbsent(partition, this::restoreState);
+        if (state.isProcessed(offset)) {
+            duplicated.increment();
+            return;
+        }
+
+        if (state.add(timestamp, aggregation.keyOf(item), aggregation.valueOf(item))) {
+            accepted.increment();
+        } else {
+            late.increment();
+            log.debug("[window] {} partition={} offset={} 는 이미 닫힌 window 의 이벤트라 버립니다. (timestamp={}, streamTime={})",
+                aggregation.name(), partition, offset, timestamp, state.streamTime());
+        }
+        state.markProcessed(offset);
+    }
+
+    /**
+     * partitions 의 닫힌 window 결과를 내보내고, 변경된 상태를 changelog 에 기록한다.
+     */
+    public void flush(Collection<Integer> partitions) {
+        List<WindowResult> results = new ArrayList<>();
+        WindowChangelog.Writer writer = changelog.writer();
+
+        for (int partition : partitions) {
+            WindowState state = states.get(partition);
+            if (state == null) {
+                continue;
+            }
+
+            Map.Entry<Long, LongAggregateMap> closed;
+            while ((closed = state.pollClosedWindow()) != null) {
+                long windowStart = closed.getKey();
+                long windowEnd = state.windowEnd(windowStart);
+                closed.getValue().forEach((key, count, sum) -> {
+                    results.add(new WindowResult(aggregation.name(), key, windowStart, windowEnd, count, sum));
+                    writer.remove(partition, windowStart, key);
+                });
+            }
+            state.drainChanges((windowStart, key, count, sum) -> writer.put(partition, windowStart, key, count, sum));
+            writer.checkpoint(partition, state.lastOffset(), state.streamTime());
+        }
+
+        if (!results.isEmpty()) {
+            resultPublisher.publish(results);
+            emitted.increment(results.size());
+            log.debug("[window] {} emitted {} results", aggregation.name(), results.size());
+        }
+        writer.flush();
+    }
+
+    private WindowState restoreState(int partition) {
+        WindowState state = new WindowState(aggregation.spec(), aggregation.grace().toMillis());
+        restoreTimer.record(() -> changelog.restore(partition, state));
+        log.info("[window] {} partition={} restored - {} open windows, lastOffset={}",
+            aggregation.name(), partition, state.openWindowCount(), state.lastOffset());
+        return state;
+    }
+}
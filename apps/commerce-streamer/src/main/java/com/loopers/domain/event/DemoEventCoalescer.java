@@ -0,0 +1,15 @@
+package com.loopers.domain.event;
+
+import com.loopers.domain.sink.BatchCoalescer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 event id 의 demo 이벤트 중 timestamp 가 가장 최신인 것만 남긴다. (timestamp 가 없으면 가장 오래된 것으로 본다.)
+ */
+@Component
+public class DemoEventCoalescer extends BatchCoalescer<DemoEvent> {
+
+    public DemoEventCoalescer() {
+        super(DemoEvent::getId, event -> event.getTimestamp() != null ? event.getTimestamp() : Long.MIN_VALUE);
+    }
+}
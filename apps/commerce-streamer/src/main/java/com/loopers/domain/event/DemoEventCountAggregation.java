@@ -0,0 +1,27 @@
+package com.loopers.domain.event;
+
+import com.loopers.domain.window.WindowSpec;
+import com.loopers.domain.window.WindowedAggregation;
+
+import java.time.Duration;
+
+/**
+ * window 별 demo 이벤트 수.
+ * <p>
+ * demo 이벤트에는 집계할 식별자(상품 id 등)가 없으므로 모든 이벤트를 하나의 key(0)로 센다.
+ * 실제 집계는 keyOf 에서 상품 id 같은 long 식별자를 반환하면 된다.
+ */
+public record DemoEventCountAggregation(WindowSpec spec, Duration grace) implements WindowedAggregation<DemoEvent> {
+    public static final String NAME = "demo-event-count";
+    public static final long ALL_EVENTS = 0L;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public long keyOf(DemoEvent event) {
+        return ALL_EVENTS;
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.domain.event;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+
+/**
+ * streamer 가 적재하는 DemoEvent 의 현재 상태.
+ * 적재는 {@code DemoEventJdbcSink} 의 multi-row upsert 로 이루어지며, event_id 유니크 키가 upsert 기준이다.
+ */
+@Entity
+@Table(
+    name = "demo_event",
+    uniqueConstraints = @UniqueConstraint(name = "uk_demo_event_event_id", columnNames = "event_id")
+)
+@Getter
+public class DemoEventModel extends BaseEntity {
+
+    @Column(name = "event_id", nullable = false, length = 100)
+    private String eventId;
+
+    @Column(name = "message")
+    private String message;
+
+    @Column(name = "event_timestamp")
+    private Long eventTimestamp;
+
+    protected DemoEventModel() {}
+}
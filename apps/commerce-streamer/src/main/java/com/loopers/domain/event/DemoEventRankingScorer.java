@@ -0,0 +1,26 @@
+package com.loopers.domain.event;
+
+import com.loopers.domain.ranking.RankingScorer;
+import org.springframework.stereotype.Component;
+
+/**
+ * demo 이벤트 1건당 해당 id 에 1점. timestamp 가 없으면 수신 시각 구간에 반영한다.
+ */
+@Component
+public class DemoEventRankingScorer implements RankingScorer<DemoEvent> {
+
+    @Override
+    public String itemId(DemoEvent event) {
+        return event.getId();
+    }
+
+    @Override
+    public double score(DemoEvent event) {
+        return 1.0;
+    }
+
+    @Override
+    public long timestamp(DemoEvent event) {
+        return event.getTimestamp() != null ? event.getTimestamp() : System.currentTimeMillis();
+    }
+}
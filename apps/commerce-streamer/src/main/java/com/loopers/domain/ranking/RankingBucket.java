@@ -0,0 +1,49 @@
+package com.loopers.domain.ranking;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 시간 구간별 ranking sorted set 의 key 규칙. ( {@code ranking:{name}:{구간 시작 yyyyMMddHHmm}} )
+ * <p>
+ * 구간은 zone 의 자정부터 size 단위로 나눈다. (size 는 하루의 약수여야 한다.) commerce-api 의 RankingKey 와 같은 규칙이다.
+ */
+public record RankingBucket(String name, Duration size, ZoneId zone) {
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    public RankingBucket {
+        if (size.isZero() || size.isNegative() || Duration.ofDays(1).toMillis() % size.toMillis() != 0) {
+            throw new IllegalArgumentException("ranking 구간은 하루의 약수여야 합니다: " + size);
+        }
+    }
+
+    public Instant start(long timestampMillis) {
+        LocalDateTime at = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), zone);
+        LocalDateTime midnight = at.toLocalDate().atStartOfDay();
+        long sinceMidnight = Duration.between(midnight, at).toMillis();
+        return midnight.plus(Duration.ofMillis(sinceMidnight - sinceMidnight % size.toMillis())).atZone(zone).toInstant();
+    }
+
+    public Instant end(long timestampMillis) {
+        return start(timestampMillis).plus(size);
+    }
+
+    public String key(long timestampMillis) {
+        return keyOf(start(timestampMillis));
+    }
+
+    public String nextKey(long timestampMillis) {
+        return keyOf(end(timestampMillis));
+    }
+
+    public String previousKey(long timestampMillis) {
+        return keyOf(start(start(timestampMillis).toEpochMilli() - 1));
+    }
+
+    private String keyOf(Instant start) {
+        return "ranking:" + name + ":" + FORMAT.format(LocalDateTime.ofInstant(start, zone));
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.domain.ranking;
+
+/**
+ * 이벤트가 어떤 항목의 점수를 얼마나 올리는지 정한다.
+ */
+public interface RankingScorer<T> {
+
+    /**
+     * 점수를 받을 항목 id. null 이면 ranking 대상이 아니다.
+     */
+    String itemId(T item);
+
+    double score(T item);
+
+    /**
+     * 이벤트가 발생한 시각. 이 시각이 속한 구간의 sorted set 에 반영된다.
+     */
+    long timestamp(T item);
+}
@@ -0,0 +1,38 @@
+package com.loopers.domain.sink;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * batch 안에서 같은 key 의 이벤트를 가장 최신 하나로 합친다.
+ * <p>
+ * 최신 여부는 version(이벤트 시각 등)으로 판단하고, version 이 같으면 batch 안에서 뒤에 있는(offset 이 큰) 이벤트를 남긴다.
+ * 결과는 key 가 처음 등장한 순서를 유지한다.
+ */
+public class BatchCoalescer<T> {
+    private final Function<T, ?> keyOf;
+    private final ToLongFunction<T> versionOf;
+
+    public BatchCoalescer(Function<T, ?> keyOf, ToLongFunction<T> versionOf) {
+        this.keyOf = keyOf;
+        this.versionOf = versionOf;
+    }
+
+    public List<T> coalesce(List<T> items) {
+        Map<Object, Integer> positions = new HashMap<>(items.size() * 2);
+        List<T> latest = new ArrayList<>(items.size());
+        for (T item : items) {
+            Integer position = positions.putIfAbsent(keyOf.apply(item), latest.size());
+            if (position == null) {
+                latest.add(item);
+            } else if (versionOf.applyAsLong(item) >= versionOf.applyAsLong(latest.get(position))) {
+                latest.set(position, item);
+            }
+        }
+        return latest;
+    }
+}
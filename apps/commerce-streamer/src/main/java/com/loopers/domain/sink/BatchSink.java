@@ -0,0 +1,28 @@
+package com.loopers.domain.sink;
+
+import java.util.List;
+
+/**
+ * poll 한 batch 전체를 한 번에 적재하는 sink.
+ */
+public interface BatchSink<T> {
+
+    /**
+     * sink 이름. 메트릭의 sink tag 와 재시도 레코드의 미적재 sink 목록에 쓴다.
+     */
+    String name();
+
+    /**
+     * items 를 하나의 트랜잭션으로 적재한다.
+     * afterCommit 은 트랜잭션이 커밋되고 자원(커넥션 등)을 반납한 뒤에만 실행되며, 적재에 실패하면 예외가 전파되고 실행되지 않는다.
+     */
+    void write(List<T> items, Runnable afterCommit);
+
+    /**
+     * batch 안에서 같은 key 의 이전 이벤트를 뺀(최신 하나만 남긴) 목록을 받아도 되는지.
+     * 건수 / 점수처럼 이벤트마다 반영해야 하는 sink 는 false 를 반환해 모든 이벤트를 받는다.
+     */
+    default boolean coalescible() {
+        return true;
+    }
+}
@@ -0,0 +1,135 @@
+package com.loopers.domain.window;
+
+/**
+ * long key 별 (count, sum) 을 보관하는 open addressing map.
+ * <p>
+ * window 하나에 key 가 수십만 개까지 쌓일 수 있으므로, Map&lt;Long, ...&gt; 대신 primitive 배열에 저장하여
+ * key / value boxing 과 entry 객체 할당 없이 집계한다.
+ */
+public class LongAggregateMap {
+    private static final int MIN_CAPACITY = 16;
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long count, long sum);
+    }
+
+    private long[] keys;
+    private long[] counts;
+    private long[] sums;
+    private boolean[] used;
+    private int size;
+
+    public LongAggregateMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    public LongAggregateMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public void add(long key, long count, long sum) {
+        int index = insertionIndex(key);
+        counts[index] += count;
+        sums[index] += sum;
+    }
+
+    public void put(long key, long count, long sum) {
+        int index = insertionIndex(key);
+        counts[index] = count;
+        sums[index] = sum;
+    }
+
+    public boolean contains(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    public long count(long key) {
+        int index = indexOf(key);
+        return index >= 0 ? counts[index] : 0L;
+    }
+
+    public long sum(long key) {
+        int index = indexOf(key);
+        return index >= 0 ? sums[index] : 0L;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                consumer.accept(keys[i], counts[i], sums[i]);
+            }
+        }
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        for (int i = hash(key) & mask; used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int insertionIndex(long key) {
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        for (; used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+
+        if ((size + 1) * 2 > keys.length) { // load factor 0.5 를 넘기 전에 확장
+            grow();
+            return insertionIndex(key);
+        }
+        used[i] = true;
+        keys[i] = key;
+        size++;
+        return i;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldCounts = counts;
+        long[] oldSums = sums;
+        boolean[] oldUsed = used;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], oldCounts[i], oldSums[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        counts = new long[capacity];
+        sums = new long[capacity];
+        used = new boolean[capacity];
+        size = 0;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L; // 연속된 id 가 인접 slot 에 몰리지 않도록 섞는다.
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.domain.window;
+
+/**
+ * window 상태의 변경 이력 저장소.
+ * <p>
+ * (window, key) 별 최신 집계와 파티션별 checkpoint(마지막 offset, stream time)를 기록하고,
+ * 파티션이 다시 할당되면 이를 읽어 {@link WindowState} 를 복원한다.
+ */
+public interface WindowChangelog {
+
+    /**
+     * partition 의 changelog 를 끝까지 읽어 state 에 반영한다.
+     */
+    void restore(int partition, WindowState state);
+
+    /**
+     * 호출한 스레드 전용 writer 를 연다.
+     */
+    Writer writer();
+
+    interface Writer {
+        void put(int partition, long windowStart, long key, long count, long sum);
+
+        void remove(int partition, long windowStart, long key);
+
+        void checkpoint(int partition, long offset, long streamTime);
+
+        /**
+         * 지금까지 기록한 변경이 저장될 때까지 기다린다. 실패하면 예외가 전파된다.
+         */
+        void flush();
+    }
+}
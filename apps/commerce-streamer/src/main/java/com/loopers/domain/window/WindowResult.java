@@ -0,0 +1,14 @@
+package com.loopers.domain.window;
+
+/**
+ * 닫힌 window 의 key 별 최종 집계 결과.
+ */
+public record WindowResult(
+    String aggregation,
+    long key,
+    long windowStart,
+    long windowEnd,
+    long count,
+    long sum
+) {
+}
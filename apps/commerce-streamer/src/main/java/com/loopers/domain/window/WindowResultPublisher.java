@@ -0,0 +1,14 @@
+package com.loopers.domain.window;
+
+import java.util.List;
+
+/**
+ * 닫힌 window 의 결과를 내보낸다.
+ */
+public interface WindowResultPublisher {
+
+    /**
+     * results 가 모두 전달될 때까지 기다린다. 실패하면 예외가 전파된다.
+     */
+    void publish(List<WindowResult> results);
+}
@@ -0,0 +1,48 @@
+package com.loopers.domain.window;
+
+import java.time.Duration;
+
+/**
+ * window 의 크기와 이동 간격(ms).
+ * <p>
+ * advance 가 size 와 같으면 겹치지 않는 tumbling window, 작으면 겹치는 hopping window 이다.
+ * window 는 epoch 기준으로 정렬되며 [start, start + size) 구간의 이벤트를 포함한다.
+ */
+public record WindowSpec(long sizeMs, long advanceMs) {
+
+    public WindowSpec {
+        if (sizeMs <= 0 || advanceMs <= 0 || advanceMs > sizeMs) {
+            throw new IllegalArgumentException(
+                "window 는 0 < advance <= size 여야 합니다. (size=" + sizeMs + "ms, advance=" + advanceMs + "ms)");
+        }
+    }
+
+    public static WindowSpec tumbling(Duration size) {
+        return new WindowSpec(size.toMillis(), size.toMillis());
+    }
+
+    public static WindowSpec hopping(Duration size, Duration advance) {
+        return new WindowSpec(size.toMillis(), advance.toMillis());
+    }
+
+    public boolean isTumbling() {
+        return sizeMs == advanceMs;
+    }
+
+    /**
+     * timestamp 를 포함하는 모든 window 의 시작 시각. (오래된 window 부터)
+     */
+    public long[] windowStarts(long timestamp) {
+        long last = timestamp - Math.floorMod(timestamp, advanceMs);
+        long first = last;
+        while (first - advanceMs > timestamp - sizeMs) {
+            first -= advanceMs;
+        }
+
+        long[] starts = new long[(int) ((last - first) / advanceMs) + 1];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = first + i * advanceMs;
+        }
+        return starts;
+    }
+}
@@ -0,0 +1,121 @@
+package com.loopers.domain.window;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * source 파티션 하나의 window 집계 상태.
+ * <p>
+ * window 는 시작 시각 순으로 보관하고, window 안의 key 별 집계는 {@link LongAggregateMap} 에 둔다.
+ * stream time(지금까지 본 가장 큰 이벤트 시각)이 window 종료 + grace 를 지나면 window 를 닫는다.
+ * 마지막으로 반영한 offset 을 함께 보관하여, changelog 로 복원한 뒤 다시 전달된 레코드를 중복 집계하지 않는다.
+ * <p>
+ * 파티션을 소유한 consumer 스레드에서만 접근하므로 동기화하지 않는다.
+ */
+public class WindowState {
+
+    @FunctionalInterface
+    public interface ChangeConsumer {
+        void accept(long windowStart, long key, long count, long sum);
+    }
+
+    private final WindowSpec spec;
+    private final long graceMs;
+
+    private final NavigableMap<Long, LongAggregateMap> windows = new TreeMap<>();
+    private final NavigableMap<Long, LongAggregateMap> changed = new TreeMap<>(); // changelog 에 아직 쓰지 않은 key
+
+    private long streamTime = Long.MIN_VALUE;
+    private long lastOffset = -1L;
+
+    public WindowState(WindowSpec spec, long graceMs) {
+        this.spec = spec;
+        this.graceMs = graceMs;
+    }
+
+    /**
+     * 이벤트를 포함하는 열린 window 들에 반영한다.
+     *
+     * @return 모든 window 가 이미 닫혀 반영되지 않았다면(late) false
+     */
+    public boolean add(long timestamp, long key, long value) {
+        streamTime = Math.max(streamTime, timestamp);
+
+        boolean accepted = false;
+        for (long windowStart : spec.windowStarts(timestamp)) {
+            if (isClosed(windowStart)) {
+                continue;
+            }
+            windows.computeIfAbsent(windowStart, start -> new LongAggregateMap()).add(key, 1L, value);
+            changed.computeIfAbsent(windowStart, start -> new LongAggregateMap()).put(key, 0L, 0L);
+            accepted = true;
+        }
+        return accepted;
+    }
+
+    public boolean isProcessed(long offset) {
+        return offset <= lastOffset;
+    }
+
+    public void markProcessed(long offset) {
+        lastOffset = Math.max(lastOffset, offset);
+    }
+
+    /**
+     * 닫을 수 있는 가장 오래된 window 를 상태에서 제거하여 반환한다. 없으면 null.
+     */
+    public Map.Entry<Long, LongAggregateMap> pollClosedWindow() {
+        Map.Entry<Long, LongAggregateMap> oldest = windows.firstEntry();
+        if (oldest == null || !isClosed(oldest.getKey())) {
+            return null;
+        }
+        windows.remove(oldest.getKey());
+        changed.remove(oldest.getKey());
+        return oldest;
+    }
+
+    /**
+     * 마지막 호출 이후 값이 바뀐 (window, key) 의 현재 집계를 넘기고 변경 목록을 비운다.
+     */
+    public void drainChanges(ChangeConsumer consumer) {
+        changed.forEach((windowStart, keys) -> {
+            LongAggregateMap window = windows.get(windowStart);
+            keys.forEach((key, ignoredCount, ignoredSum) ->
+                consumer.accept(windowStart, key, window.count(key), window.sum(key)));
+        });
+        changed.clear();
+    }
+
+    /**
+     * changelog 에서 읽은 집계를 그대로 복원한다.
+     */
+    public void restore(long windowStart, long key, long count, long sum) {
+        windows.computeIfAbsent(windowStart, start -> new LongAggregateMap()).put(key, count, sum);
+    }
+
+    public void restoreCheckpoint(long offset, long restoredStreamTime) {
+        lastOffset = offset;
+        streamTime = restoredStreamTime;
+    }
+
+    public int openWindowCount() {
+        return windows.size();
+    }
+
+    public long windowEnd(long windowStart) {
+        return windowStart + spec.sizeMs();
+    }
+
+    public long streamTime() {
+        return streamTime;
+    }
+
+    public long lastOffset() {
+        return lastOffset;
+    }
+
+    private boolean isClosed(long windowStart) {
+        return windowEnd(windowStart) + graceMs <= streamTime;
+    }
+}
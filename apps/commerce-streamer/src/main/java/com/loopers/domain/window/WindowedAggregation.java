@@ -0,0 +1,30 @@
+package com.loopers.domain.window;
+
+import java.time.Duration;
+
+/**
+ * 이벤트를 어떤 key 로, 어떤 window 에 집계할지 정의한다. (예: 상품별 분당 주문 수)
+ */
+public interface WindowedAggregation<T> {
+
+    /**
+     * 집계 이름. 결과 / 메트릭 / 로그에 사용된다.
+     */
+    String name();
+
+    WindowSpec spec();
+
+    /**
+     * window 가 끝난 뒤에도 늦게 도착한 이벤트를 받아주는 시간. 이 시간이 지나면 window 를 닫고 결과를 내보낸다.
+     */
+    Duration grace();
+
+    long keyOf(T item);
+
+    /**
+     * sum 에 더할 값. count 만 필요한 집계는 기본값(1)을 그대로 사용한다.
+     */
+    default long valueOf(T item) {
+        return 1L;
+    }
+}
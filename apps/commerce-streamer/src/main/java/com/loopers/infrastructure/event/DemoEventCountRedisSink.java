@@ -0,0 +1,62 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.infrastructure.sink.RedisPipelineBatchSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * demo 이벤트의 분 단위 수신 건수(counter)를 Redis 에 적재한다.
+ * <ul>
+ *     <li>{@code demo:event:count:{epochMinute}} - 같은 분의 이벤트 수를 합쳐 INCRBY 한 번 + EXPIRE</li>
+ * </ul>
+ * 건수를 세기 위해 합치기(coalesce) 전의 batch 를 받는다. 다시 적재하면 두 번 세므로 replay 대상이 아니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "demo-kafka.redis-sink", name = "enabled", havingValue = "true")
+public class DemoEventCountRedisSink extends RedisPipelineBatchSink<DemoEvent> {
+    private static final String COUNT_KEY = "demo:event:count:";
+
+    private final long ttlSeconds;
+
+    public DemoEventCountRedisSink(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${demo-kafka.redis-sink.chunk-size:1000}") int chunkSize,
+        @Value("${demo-kafka.redis-sink.ttl:1d}") Duration ttl
+    ) {
+        super("demo_event_count", redisTemplate, meterRegistry, chunkSize);
+        this.ttlSeconds = ttl.toSeconds();
+    }
+
+    @Override
+    public boolean coalescible() {
+        return false;
+    }
+
+    @Override
+    protected void append(StringRedisConnection connection, List<DemoEvent> chunk) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (DemoEvent event : chunk) {
+            if (event.getTimestamp() != null) {
+                counts.merge(event.getTimestamp() / 60_000, 1L, Long::sum);
+            }
+        }
+        counts.forEach((minute, count) -> {
+            String key = COUNT_KEY + minute;
+            connection.incrBy(key, count);
+            connection.expire(key, ttlSeconds);
+        });
+    }
+}
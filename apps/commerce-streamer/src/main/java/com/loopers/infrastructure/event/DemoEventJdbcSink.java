@@ -0,0 +1,71 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.infrastructure.sink.JdbcUpsertBatchSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Primary // 원본 저장소. Redis sink 는 보조 적재용으로 DemoKafkaConsumer 가 따로 주입받는다.
+@Component
+public class DemoEventJdbcSink extends JdbcUpsertBatchSink<DemoEvent> {
+    private static final String NEWER = "event_timestamp IS NULL OR VALUES(event_timestamp) >= event_timestamp";
+
+    public DemoEventJdbcSink(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${demo-kafka.sink.chunk-size:500}") int chunkSize
+    ) {
+        super("demo_event", jdbcTemplate, transactionManager, meterRegistry, chunkSize);
+    }
+
+    @Override
+    protected String table() {
+        return "demo_event";
+    }
+
+    @Override
+    protected List<String> columns() {
+        return List.of("event_id", "message", "event_timestamp", "created_at", "updated_at");
+    }
+
+    /**
+     * last-write-wins - 저장된 event_timestamp 보다 오래된 이벤트는 기존 값을 그대로 둔다.
+     * 값이 바뀌지 않은 행은 MySQL 이 실제로 쓰지 않으므로, catch-up 중 재처리되는 오래된 이벤트의 쓰기가 대부분 사라진다.
+     * 비교 대상인 event_timestamp 는 마지막에 갱신한다.
+     */
+    @Override
+    protected List<String> updateAssignments() {
+        return List.of(
+            "message = IF(" + NEWER + ", VALUES(message), message)",
+            "updated_at = IF(" + NEWER + ", VALUES(updated_at), updated_at)",
+            "event_timestamp = IF(" + NEWER + ", VALUES(event_timestamp), event_timestamp)"
+        );
+    }
+
+    @Override
+    protected void bind(PreparedStatement ps, int parameterIndex, DemoEvent event) throws SQLException {
+        // BaseEntity 와 동일하게 UTC 로 저장한다. (jpa.yml - jdbc.time_zone: UTC)
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        ps.setString(parameterIndex, event.getId());
+        ps.setString(parameterIndex + 1, event.getMessage());
+        if (event.getTimestamp() != null) {
+            ps.setLong(parameterIndex + 2, event.getTimestamp());
+        } else {
+            ps.setNull(parameterIndex + 2, Types.BIGINT);
+        }
+        ps.setObject(parameterIndex + 3, now);
+        ps.setObject(parameterIndex + 4, now);
+    }
+}
@@ -0,0 +1,10 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.domain.event.DemoEventModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface DemoEventJpaRepository extends JpaRepository<DemoEventModel, Long> {
+    Optional<DemoEventModel> findByEventId(String eventId);
+}
@@ -0,0 +1,67 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.infrastructure.sink.RedisPipelineBatchSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * demo 이벤트의 현재 상태(hash)를 Redis 에 적재한다. (분 단위 건수는 {@link DemoEventCountRedisSink})
+ * <ul>
+ *     <li>{@code demo:event:{id}} - 저장된 timestamp 보다 같거나 새로운 이벤트일 때만 HSET message, timestamp + EXPIRE (Lua)</li>
+ * </ul>
+ * 같은 이벤트를 다시 적재해도 결과가 같으므로(멱등) id 별 최신 이벤트만 받아도 되고, replay 에서도 다시 적재한다.
+ * 재시도 topic 을 거쳐 늦게 도착한 오래된 이벤트가 최신 상태를 덮지 않도록 비교와 쓰기를 한 script 로 묶는다. (last-write-wins)
+ * timestamp 가 없는 이벤트는 순서를 알 수 없으므로 저장된 timestamp 가 없을 때만 쓴다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "demo-kafka.redis-sink", name = "enabled", havingValue = "true")
+public class DemoEventRedisSink extends RedisPipelineBatchSink<DemoEvent> {
+    private static final String STATE_KEY = "demo:event:";
+    // KEYS[1] = state key, ARGV = message, timestamp(없으면 ""), ttl seconds
+    private static final String WRITE_IF_NEWER = """
+        local stored = redis.call('HGET', KEYS[1], 'timestamp')
+        if ARGV[2] == '' then
+            if stored then return 0 end
+            redis.call('HSET', KEYS[1], 'message', ARGV[1])
+        else
+            if stored and tonumber(ARGV[2]) < tonumber(stored) then return 0 end
+            redis.call('HSET', KEYS[1], 'message', ARGV[1], 'timestamp', ARGV[2])
+        end
+        redis.call('EXPIRE', KEYS[1], ARGV[3])
+        return 1
+        """;
+
+    private final long ttlSeconds;
+
+    public DemoEventRedisSink(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${demo-kafka.redis-sink.chunk-size:1000}") int chunkSize,
+        @Value("${demo-kafka.redis-sink.ttl:1d}") Duration ttl
+    ) {
+        super("demo_event_redis", redisTemplate, meterRegistry, chunkSize);
+        this.ttlSeconds = ttl.toSeconds();
+    }
+
+    @Override
+    protected void append(StringRedisConnection connection, List<DemoEvent> chunk) {
+        for (DemoEvent event : chunk) {
+            connection.eval(WRITE_IF_NEWER, ReturnType.INTEGER, 1,
+                STATE_KEY + event.getId(),
+                event.getMessage() != null ? event.getMessage() : "",
+                event.getTimestamp() != null ? String.valueOf(event.getTimestamp()) : "",
+                String.valueOf(ttlSeconds));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.domain.event.DemoEventRankingScorer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+@EnableScheduling
+@Configuration
+@ConditionalOnProperty(prefix = "demo-kafka.ranking", name = "enabled", havingValue = "true")
+public class DemoEventRankingConfig {
+
+    @Bean
+    public RedisRankingSink<DemoEvent> demoEventRankingSink(
+        DemoEventRankingScorer scorer,
+        RankingProperties properties,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        return new RedisRankingSink<>("demo_event_ranking", scorer, properties, redisTemplate, meterRegistry);
+    }
+
+    @Bean
+    public RankingCarryOver demoEventRankingCarryOver(
+        RankingProperties properties,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        return new RankingCarryOver(redisTemplate, properties, Clock.systemUTC());
+    }
+}
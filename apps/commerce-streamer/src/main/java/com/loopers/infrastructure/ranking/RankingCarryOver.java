@@ -0,0 +1,98 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.domain.ranking.RankingBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 현재 구간 점수 * carryOverWeight 를 다음 구간에 더한다. 두 단계로 나누어 마지막 구간 끝 무렵의 점수도 빠뜨리지 않는다.
+ * <ol>
+ *     <li>구간이 끝나기 carryOverLead 전 - 그 시점의 점수를 {@code {next}:base} 로 복사해 두고 그만큼을 미리 넘긴다.
+ *     구간이 바뀌어도 ranking 이 비지 않는다.</li>
+ *     <li>구간이 바뀌고 carryOverGrace 가 지난 뒤 - 이전 구간의 최종 점수에서 base 를 뺀 만큼(그 사이 더해진 점수)을 마저 넘긴다.
+ *     1단계를 놓쳤다면(중단 등) 이전 구간 전체를 넘긴다.</li>
+ * </ol>
+ * 다음 구간에 이미 쌓인 점수는 유지된다. (ZUNIONSTORE next [next, ...] WEIGHTS 1 ...)
+ * 여러 인스턴스가 동시에 실행해도 단계별 표시 key ({@code {next}:carried}, {@code {next}:settled}) 를 SET NX 로 선점한 한 곳만 반영한다.
+ */
+@Slf4j
+public class RankingCarryOver {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RankingProperties properties;
+    private final RankingBucket bucket;
+    private final Clock clock;
+
+    public RankingCarryOver(RedisTemplate<String, String> redisTemplate, RankingProperties properties, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.bucket = properties.bucket();
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "PT1M")
+    public void carryOver() {
+        long now = clock.millis();
+        Instant at = Instant.ofEpochMilli(now);
+        if (!at.isBefore(bucket.end(now).minus(properties.carryOverLead()))) {
+            advance(bucket.key(now), bucket.nextKey(now), bucket.end(now).plus(bucket.size()), at);
+        }
+        if (!at.isBefore(bucket.start(now).plus(properties.carryOverGrace()))) {
+            settle(bucket.previousKey(now), bucket.key(now), bucket.end(now), at);
+        }
+    }
+
+    private void advance(String current, String next, Instant nextEnd, Instant now) {
+        if (!acquire(next + ":carried", current)) {
+            return;
+        }
+        // 복사본을 기준으로 넘겨야, 복사 이후 current 에 더해진 점수를 2단계에서 정확히 한 번 넘긴다.
+        String base = next + ":base";
+        redisTemplate.opsForZSet().unionAndStore(current, List.of(), base);
+        redisTemplate.expire(base, properties.ttl());
+        redisTemplate.opsForZSet().unionAndStore(next, List.of(base), next, Aggregate.SUM,
+            Weights.of(1, properties.carryOverWeight()));
+        expire(next, nextEnd, now);
+        log.info("[ranking] {} 점수의 {} 를 {} 로 미리 넘겼습니다.", current, properties.carryOverWeight(), next);
+    }
+
+    private void settle(String previous, String current, Instant currentEnd, Instant now) {
+        if (!acquire(current + ":settled", previous)) {
+            return;
+        }
+        String base = current + ":base";
+        double weight = properties.carryOverWeight();
+        if (acquire(current + ":carried", previous)) {
+            redisTemplate.opsForZSet().unionAndStore(current, List.of(previous), current, Aggregate.SUM, Weights.of(1, weight));
+            log.info("[ranking] {} 점수의 {} 를 {} 로 넘겼습니다. (미리 넘기지 못함)", previous, weight, current);
+        } else if (Boolean.TRUE.equals(redisTemplate.hasKey(base))) {
+            redisTemplate.opsForZSet().unionAndStore(current, List.of(previous, base), current, Aggregate.SUM,
+                Weights.of(1, weight, -weight));
+            log.info("[ranking] {} 에 마지막 {} 동안 더해진 점수의 {} 를 {} 로 넘겼습니다.",
+                previous, properties.carryOverLead(), weight, current);
+        } else {
+            // 1단계가 base 를 남기기 전에 중단된 경우 - 얼마나 넘겼는지 알 수 없으므로 중복 가산하지 않는다.
+            log.warn("[ranking] {} 의 base 가 없어 {} 로 마저 넘기지 않습니다.", current, previous);
+        }
+        redisTemplate.delete(base);
+        expire(current, currentEnd, now);
+    }
+
+    private boolean acquire(String key, String value) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, properties.ttl()));
+    }
+
+    /**
+     * ZUNIONSTORE 는 대상 key 의 TTL 을 지우므로 구간이 끝난 뒤 ttl 만큼 보관되도록 다시 건다.
+     */
+    private void expire(String key, Instant end, Instant now) {
+        redisTemplate.expire(key, properties.ttl().plus(Duration.between(now, end)));
+    }
+}
@@ -0,0 +1,36 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.domain.ranking.RankingBucket;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * @param enabled         true 일 때만 ranking sink 와 carry-over 를 등록한다.
+ * @param name            sorted set key 의 이름 부분 ( ranking:{name}:{구간} )
+ * @param bucketSize      구간 크기. 하루의 약수여야 한다.
+ * @param zone            구간을 나누는 기준 시간대
+ * @param ttl             구간 sorted set 의 보관 기간
+ * @param carryOverWeight 다음 구간으로 넘겨줄 점수 비율. 구간이 바뀌어도 ranking 이 비지 않고, 오래된 점수는 구간마다 감쇠한다.
+ * @param carryOverLead   구간이 끝나기 얼마 전에 다음 구간을 미리 채울지
+ * @param carryOverGrace  구간이 바뀐 뒤 얼마 동안 이전 구간에 늦게 더해지는 점수를 기다렸다가 마저 넘길지
+ * @param chunkSize       pipeline 한 번에 담을 이벤트 수
+ */
+@ConfigurationProperties("demo-kafka.ranking")
+public record RankingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("all") String name,
+    @DefaultValue("1d") Duration bucketSize,
+    @DefaultValue("Asia/Seoul") ZoneId zone,
+    @DefaultValue("2d") Duration ttl,
+    @DefaultValue("0.1") double carryOverWeight,
+    @DefaultValue("10m") Duration carryOverLead,
+    @DefaultValue("10m") Duration carryOverGrace,
+    @DefaultValue("1000") int chunkSize
+) {
+    public RankingBucket bucket() {
+        return new RankingBucket(name, bucketSize, zone);
+    }
+}
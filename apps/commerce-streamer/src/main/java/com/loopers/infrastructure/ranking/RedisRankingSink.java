@@ -0,0 +1,58 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.domain.ranking.RankingBucket;
+import com.loopers.domain.ranking.RankingScorer;
+import com.loopers.infrastructure.sink.RedisPipelineBatchSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * batch 의 점수 변화량을 (구간, 항목) 별로 합친 뒤 구간 sorted set 에 ZINCRBY 한다.
+ * 같은 항목이 batch 에 여러 번 나와도 명령은 한 번이고, 구간 key 마다 EXPIRE 를 한 번 건다.
+ * 이벤트마다 점수를 더하므로 합치기(coalesce) 전의 batch 를 받는다.
+ */
+public class RedisRankingSink<T> extends RedisPipelineBatchSink<T> {
+    private final RankingScorer<T> scorer;
+    private final RankingBucket bucket;
+    private final long ttlSeconds;
+
+    public RedisRankingSink(
+        String name,
+        RankingScorer<T> scorer,
+        RankingProperties properties,
+        RedisTemplate<String, String> redisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        super(name, redisTemplate, meterRegistry, properties.chunkSize());
+        this.scorer = scorer;
+        this.bucket = properties.bucket();
+        this.ttlSeconds = properties.ttl().toSeconds();
+    }
+
+    @Override
+    public boolean coalescible() {
+        return false;
+    }
+
+    @Override
+    protected void append(StringRedisConnection connection, List<T> chunk) {
+        Map<String, Map<String, Double>> deltas = new HashMap<>();
+        for (T item : chunk) {
+            String itemId = scorer.itemId(item);
+            if (itemId == null) {
+                continue;
+            }
+            deltas.computeIfAbsent(bucket.key(scorer.timestamp(item)), key -> new HashMap<>())
+                .merge(itemId, scorer.score(item), Double::sum);
+        }
+        deltas.forEach((key, scores) -> {
+            scores.forEach((itemId, delta) -> connection.zIncrBy(key, delta, itemId));
+            connection.expire(key, ttlSeconds);
+        });
+    }
+}
@@ -0,0 +1,126 @@
+package com.loopers.infrastructure.sink;
+
+import com.loopers.domain.sink.BatchSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * batch 를 chunkSize 행 단위의 multi-row {@code INSERT ... ON DUPLICATE KEY UPDATE} 로 적재한다.
+ * <p>
+ * 한 batch 의 모든 chunk 는 하나의 트랜잭션에서 실행되고, onCommit 은 커밋되어 커넥션을 반납한 뒤에만 호출된다.
+ * (onCommit 에서 Redis 등 다른 저장소에 쓰는 동안 Hikari 커넥션을 붙잡지 않는다. 바깥 트랜잭션 안에서 호출하지 않는다.)
+ * 적재한 행 수 / 실행한 statement 수 / 적재 시간은 streamer.sink.* 메트릭으로 남긴다.
+ */
+@Slf4j
+public abstract class JdbcUpsertBatchSink<T> implements BatchSink<T> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String name;
+    private final int chunkSize;
+
+    private final Counter rows;
+    private final Counter statements;
+    private final Timer writeTimer;
+
+    private final Map<Integer, String> sqlCache = new ConcurrentHashMap<>();
+
+    protected JdbcUpsertBatchSink(
+        String name,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.name = name;
+        this.chunkSize = chunkSize;
+        this.rows = meterRegistry.counter("streamer.sink.rows", "sink", name);
+        this.statements = meterRegistry.counter("streamer.sink.statements", "sink", name);
+        this.writeTimer = Timer.builder("streamer.sink.write")
+            .tag("sink", name)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 적재 대상 테이블명
+     */
+    protected abstract String table();
+
+    /**
+     * INSERT 컬럼 목록. {@link #bind} 는 이 순서대로 값을 채운다.
+     */
+    protected abstract List<String> columns();
+
+    /**
+     * ON DUPLICATE KEY UPDATE 절의 할당식 목록. (예: {@code message = VALUES(message)})
+     * MySQL 은 할당식을 왼쪽부터 적용하므로, 다른 할당식이 참조하는 컬럼은 마지막에 둔다.
+     */
+    protected abstract List<String> updateAssignments();
+
+    /**
+     * item 의 값을 parameterIndex 부터 {@link #columns()} 순서대로 바인딩한다.
+     */
+    protected abstract void bind(PreparedStatement ps, int parameterIndex, T item) throws SQLException;
+
+    @Override
+    public void write(List<T> items, Runnable onCommit) {
+        if (items.isEmpty()) {
+            onCommit.run();
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < items.size(); from += chunkSize) {
+                List<T> chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+                jdbcTemplate.update(sql(chunk.size()), ps -> bindChunk(ps, chunk));
+                statements.increment();
+            }
+        });
+
+        long elapsed = System.nanoTime() - startedAt;
+        writeTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        rows.increment(items.size());
+        log.debug("[sink] {} rows upserted into {} ({} rows/s)",
+            items.size(), table(), (long) (items.size() / (elapsed / 1_000_000_000d)));
+        // executeWithoutResult 가 반환되면 커밋과 커넥션 반납까지 끝난 것이다.
+        onCommit.run();
+    }
+
+    private void bindChunk(PreparedStatement ps, List<T> chunk) throws SQLException {
+        int columnCount = columns().size();
+        for (int i = 0; i < chunk.size(); i++) {
+            bind(ps, i * columnCount + 1, chunk.get(i));
+        }
+    }
+
+    private String sql(int rowCount) {
+        return sqlCache.computeIfAbsent(rowCount, count -> {
+            String placeholders = columns().stream().map(column -> "?").collect(Collectors.joining(", ", "(", ")"));
+            return "INSERT INTO " + table() + " (" + String.join(", ", columns()) + ") VALUES "
+                + IntStream.range(0, count).mapToObj(i -> placeholders).collect(Collectors.joining(", "))
+                + " ON DUPLICATE KEY UPDATE " + String.join(", ", updateAssignments());
+        });
+    }
+}
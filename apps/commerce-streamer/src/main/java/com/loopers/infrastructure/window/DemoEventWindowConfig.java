@@ -0,0 +1,71 @@
+package com.loopers.infrastructure.window;
+
+import com.loopers.application.window.WindowAggregationEngine;
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.domain.event.DemoEventCountAggregation;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class DemoEventWindowConfig {
+
+    @Bean
+    public NewTopic demoEventWindowChangelogTopic(DemoEventWindowProperties properties) {
+        return TopicBuilder.name(properties.changelogTopic())
+            .partitions(properties.partitions())
+            .replicas(properties.replicas())
+            .compact()
+            .config(TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG, "0")
+            .config(TopicConfig.SEGMENT_MS_CONFIG, String.valueOf(60 * 60 * 1000)) // 1h 마다 segment 를 닫아 compaction 대상으로
+            .build();
+    }
+
+    @Bean
+    public NewTopic demoEventWindowResultTopic(DemoEventWindowProperties properties) {
+        return TopicBuilder.name(properties.resultTopic())
+            .partitions(properties.partitions())
+            .replicas(properties.replicas())
+            .build();
+    }
+
+    @Bean
+    public KafkaWindowChangelog demoEventWindowChangelog(
+        DemoEventWindowProperties properties,
+        KafkaProperties kafkaProperties
+    ) {
+        Map<String, Object> producerProperties = new HashMap<>(kafkaProperties.buildProducerProperties(null));
+        producerProperties.put(ProducerConfig.ACKS_CONFIG, "all");
+        producerProperties.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        producerProperties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        return new KafkaWindowChangelog(
+            properties.changelogTopic(),
+            producerProperties,
+            kafkaProperties.buildConsumerProperties(null)
+        );
+    }
+
+    @Bean
+    public WindowAggregationEngine<DemoEvent> demoEventWindowEngine(
+        DemoEventWindowProperties properties,
+        KafkaWindowChangelog demoEventWindowChangelog,
+        KafkaTemplate<Object, Object> kafkaTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        return new WindowAggregationEngine<>(
+            new DemoEventCountAggregation(properties.spec(), properties.grace()),
+            demoEventWindowChangelog,
+            new KafkaWindowResultPublisher(kafkaTemplate, properties.resultTopic()),
+            meterRegistry
+        );
+    }
+}
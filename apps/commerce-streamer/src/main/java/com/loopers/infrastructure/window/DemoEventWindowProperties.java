@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.window;
+
+import com.loopers.domain.window.WindowSpec;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param size            window 크기
+ * @param advance         window 이동 간격. size 와 같으면 tumbling, 작으면 hopping
+ * @param grace           window 종료 후 늦은 이벤트를 받아주는 시간
+ * @param changelogTopic  상태 복원용 compacted topic
+ * @param resultTopic     닫힌 window 결과를 발행할 topic
+ * @param partitions      changelog topic 파티션 수. source topic 과 같아야 한다.
+ * @param replicas        changelog / 결과 topic 의 replication factor
+ */
+@ConfigurationProperties("demo-kafka.window")
+public record DemoEventWindowProperties(
+    @DefaultValue("1m") Duration size,
+    @DefaultValue("1m") Duration advance,
+    @DefaultValue("10s") Duration grace,
+    String changelogTopic,
+    String resultTopic,
+    @DefaultValue("3") int partitions,
+    @DefaultValue("1") int replicas
+) {
+    public WindowSpec spec() {
+        return WindowSpec.hopping(size, advance);
+    }
+}
@@ -0,0 +1,161 @@
+package com.loopers.infrastructure.window;
+
+import com.loopers.domain.window.WindowChangelog;
+import com.loopers.domain.window.WindowState;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * window 상태를 compacted topic 에 기록하는 changelog.
+ * <p>
+ * source 파티션 p 의 상태는 changelog 파티션 p 에 기록하므로, changelog topic 의 파티션 수는 source 와 같아야 한다.
+ * <ul>
+ *     <li>집계 - key: {@code w:{windowStart}:{key}}, value: count(8byte) + sum(8byte). 닫힌 window 는 tombstone 으로 지운다.</li>
+ *     <li>checkpoint - key: {@code checkpoint}, value: offset(8byte) + streamTime(8byte)</li>
+ * </ul>
+ * compaction 으로 key 별 최신 값만 남으므로, 복원 시간은 처리한 이벤트 수가 아니라 열린 (window, key) 수에 비례한다.
+ */
+@Slf4j
+public class KafkaWindowChangelog implements WindowChangelog, DisposableBean {
+    private static final String CHECKPOINT_KEY = "checkpoint";
+    private static final String WINDOW_KEY_PREFIX = "w:";
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final String topic;
+    private final Producer<String, byte[]> producer;
+    private final Map<String, Object> consumerProperties;
+
+    public KafkaWindowChangelog(String topic, Map<String, Object> producerProperties, Map<String, Object> consumerProperties) {
+        this.topic = topic;
+        this.producer = new KafkaProducer<>(producerProperties, new StringSerializer(), new ByteArraySerializer());
+
+        Map<String, Object> restoreProperties = new HashMap<>(consumerProperties);
+        restoreProperties.remove(ConsumerConfig.GROUP_ID_CONFIG); // assign 으로만 읽고 offset 을 커밋하지 않는다.
+        restoreProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        restoreProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 5000);
+        this.consumerProperties = restoreProperties;
+    }
+
+    @Override
+    public void restore(int partition, WindowState state) {
+        TopicPartition topicPartition = new TopicPartition(topic, partition);
+        try (Consumer<String, byte[]> consumer =
+                 new KafkaConsumer<>(consumerProperties, new StringDeserializer(), new ByteArrayDeserializer())) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(topic);
+            if (partitions == null || partitions.size() <= partition) {
+                log.warn("[window] changelog {}-{} 가 없어 빈 상태로 시작합니다.", topic, partition);
+                return;
+            }
+
+            consumer.assign(List.of(topicPartition));
+            consumer.seekToBeginning(List.of(topicPartition));
+            long endOffset = consumer.endOffsets(List.of(topicPartition)).get(topicPartition);
+
+            // compaction 전 구간에는 같은 key 가 여러 번 있을 수 있으므로 최신 값만 모아 한 번에 반영한다.
+            Map<String, byte[]> latest = new HashMap<>();
+            while (consumer.position(topicPartition) < endOffset) {
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                    latest.put(record.key(), record.value());
+                }
+            }
+            latest.forEach((key, value) -> apply(key, value, state));
+        }
+    }
+
+    @Override
+    public WindowChangelog.Writer writer() {
+        return new Writer();
+    }
+
+    @Override
+    public void destroy() {
+        producer.close();
+    }
+
+    private void apply(String key, byte[] value, WindowState state) {
+        if (value == null) {
+            return; // tombstone - 닫힌 window
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        if (CHECKPOINT_KEY.equals(key)) {
+            state.restoreCheckpoint(buffer.getLong(), buffer.getLong());
+            return;
+        }
+
+        int separator = key.indexOf(':', WINDOW_KEY_PREFIX.length());
+        long windowStart = Long.parseLong(key, WINDOW_KEY_PREFIX.length(), separator, 10);
+        long aggregateKey = Long.parseLong(key, separator + 1, key.length(), 10);
+        state.restore(windowStart, aggregateKey, buffer.getLong(), buffer.getLong());
+    }
+
+    private static String windowKey(long windowStart, long key) {
+        return WINDOW_KEY_PREFIX + windowStart + ":" + key;
+    }
+
+    private static byte[] pair(long first, long second) {
+        return ByteBuffer.allocate(Long.BYTES * 2).putLong(first).putLong(second).array();
+    }
+
+    private class Writer implements WindowChangelog.Writer {
+        private final List<Future<RecordMetadata>> pending = new ArrayList<>();
+
+        @Override
+        public void put(int partition, long windowStart, long key, long count, long sum) {
+            send(partition, windowKey(windowStart, key), pair(count, sum));
+        }
+
+        @Override
+        public void remove(int partition, long windowStart, long key) {
+            send(partition, windowKey(windowStart, key), null);
+        }
+
+        @Override
+        public void checkpoint(int partition, long offset, long streamTime) {
+            send(partition, CHECKPOINT_KEY, pair(offset, streamTime));
+        }
+
+        @Override
+        public void flush() {
+            try {
+                for (Future<RecordMetadata> future : pending) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("changelog 기록을 기다리다 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("changelog " + topic + " 기록에 실패했습니다.", e.getCause());
+            } finally {
+                pending.clear();
+            }
+        }
+
+        private void send(int partition, String key, byte[] value) {
+            pending.add(producer.send(new ProducerRecord<>(topic, partition, key, value)));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.infrastructure.window;
+
+import com.loopers.domain.window.WindowResult;
+import com.loopers.domain.window.WindowResultPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * window 결과를 key 별로 결과 topic 에 JSON 으로 발행한다.
+ */
+@RequiredArgsConstructor
+public class KafkaWindowResultPublisher implements WindowResultPublisher {
+
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final String topic;
+
+    @Override
+    public void publish(List<WindowResult> results) {
+        CompletableFuture<?>[] futures = results.stream()
+            .map(result -> kafkaTemplate.send(topic, String.valueOf(result.key()), result))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.event.DemoEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * deserializer 가 넘겨준 record value 를 DemoEvent 로 변환한다. (live listener / replay 공용)
+ */
+@RequiredArgsConstructor
+@Component
+public class DemoEventReader {
+
+    private final ObjectMapper objectMapper;
+
+    public DemoEvent read(Object value) throws Exception {
+        // String, Map, DemoEvent 모두 처리
+        if (value instanceof DemoEvent demoEvent) {
+            return demoEvent;
+        } else if (value instanceof String jsonString) {
+            // JSON String을 DemoEvent로 파싱
+            return objectMapper.readValue(jsonString, DemoEvent.class);
+        } else if (value instanceof Map) {
+            // JSON deserializer가 Map으로 역직렬화한 경우
+            @SuppressWarnings("unchecked")
+            Map<String, Object> map = (Map<String, Object>) value;
+            return DemoEvent.builder()
+                .id((String) map.get("id"))
+                .message((String) map.get("message"))
+                .timestamp(((Number) map.get("timestamp")).longValue())
+                .build();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.application.window.WindowAggregationEngine;
+import com.loopers.confg.kafka.rebalance.RebalanceHook;
+import com.loopers.domain.event.DemoEvent;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 파티션을 넘겨주기 전에 그 파티션의 window 상태를 changelog 에 기록한다.
+ * offset 커밋 전에 실행되므로, 새 소유자는 커밋된 offset 과 같은 지점의 checkpoint 에서 복원한다.
+ * (상태를 버리는 {@link DemoKafkaConsumer#onPartitionsRevoked} 보다 먼저 호출된다.)
+ */
+@Component
+public class DemoEventWindowRebalanceHook implements RebalanceHook {
+    private final WindowAggregationEngine<DemoEvent> demoEventWindowEngine;
+    private final String topic;
+
+    public DemoEventWindowRebalanceHook(
+        WindowAggregationEngine<DemoEvent> demoEventWindowEngine,
+        @Value("${demo-kafka.test.topic-name}") String topic
+    ) {
+        this.demoEventWindowEngine = demoEventWindowEngine;
+        this.topic = topic;
+    }
+
+    @Override
+    public void beforeRevoke(Collection<TopicPartition> partitions) {
+        List<Integer> revoked = partitions.stream()
+            .filter(partition -> partition.topic().equals(topic))
+            .map(TopicPartition::partition)
+            .toList();
+        if (!revoked.isEmpty()) {
+            demoEventWindowEngine.flush(revoked);
+        }
+    }
+}
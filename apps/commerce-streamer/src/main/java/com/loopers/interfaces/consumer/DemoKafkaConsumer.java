@@ -1,74 +1,211 @@
 package com.loopers.interfaces.consumer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.window.WindowAggregationEngine;
 import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.confg.kafka.autoscale.ListenerParallelismRegistry;
+import com.loopers.confg.kafka.metrics.KafkaBatchListenerMetrics;
+import com.loopers.confg.kafka.retry.RetryTopicPublisher;
 import com.loopers.domain.event.DemoEvent;
+import com.loopers.domain.event.DemoEventCoalescer;
+import com.loopers.domain.sink.BatchSink;
+import com.loopers.infrastructure.sink.RedisPipelineBatchSink;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
-public class DemoKafkaConsumer {
+public class DemoKafkaConsumer implements ConsumerSeekAware {
+    public static final String LISTENER_ID = "demo-listener";
+    // 재시도 레코드에 남기는 아직 적재되지 않은 sink 이름 목록 (쉼표 구분)
+    public static final String PENDING_SINKS_HEADER = "x-pending-sinks";
 
-    private final ObjectMapper objectMapper;
+    private record Decoded(ConsumerRecord<Object, Object> record, DemoEvent event) { }
+
+    /**
+     * 실패한 sink 와 그 뒤에 실행되지 못한 sink 이름을 담는다. 앞서 성공한 sink 는 포함하지 않는다.
+     */
+    private static class SinkWriteException extends RuntimeException {
+        private final List<String> unwritten;
+
+        SinkWriteException(List<String> unwritten, Throwable cause) {
+            super("Failed to write sinks " + unwritten, cause);
+            this.unwritten = unwritten;
+        }
+    }
+
+    private final DemoEventReader demoEventReader;
+    private final KafkaBatchListenerMetrics batchListenerMetrics;
+    private final BatchSink<DemoEvent> demoEventSink;
+    private final ObjectProvider<RedisPipelineBatchSink<DemoEvent>> demoEventRedisSinks;
+    private final WindowAggregationEngine<DemoEvent> demoEventWindowEngine;
+    private final RetryTopicPublisher retryTopicPublisher;
+    private final DemoEventCoalescer demoEventCoalescer;
+    private final ListenerParallelismRegistry listenerParallelismRegistry;
+
+    @Value("${demo-kafka.sink.coalesce:true}")
+    private boolean coalesce;
 
     // 테스트를 위한 수신된 이벤트 저장
     private final List<DemoEvent> receivedEvents = new CopyOnWriteArrayList<>();
 
     @KafkaListener(
+        id = LISTENER_ID,
+        idIsGroup = false,
         topics = {"${demo-kafka.test.topic-name}"},
-        containerFactory = KafkaConfig.BATCH_LISTENER
+        containerFactory = KafkaConfig.BATCH_LISTENER,
+        autoStartup = "#{!${demo-kafka.replay.enabled:false}}" // replay 모드에서는 live group 에 참여하지 않는다.
     )
     public void demoListener(
         List<ConsumerRecord<Object, Object>> messages,
         Acknowledgment acknowledgment
     ) {
-        log.info("Received {} messages", messages.size());
+        log.debug("Received {} messages", messages.size());
+
+        List<Decoded> decoded = new ArrayList<>(messages.size());
+        Set<Integer> partitions = new LinkedHashSet<>();
+        List<CompletableFuture<?>> deadLetters = new ArrayList<>();
+        for (ConsumerRecord<Object, Object> record : messages) {
+            Object value = record.value();
+            log.debug("Processing message: key={}, value={}, type={}",
+                record.key(), value, value != null ? value.getClass().getName() : "null");
 
-        messages.forEach(record -> {
+            DemoEvent event;
             try {
-                Object value = record.value();
-                log.info("Processing message: key={}, value={}, type={}",
-                    record.key(), value, value != null ? value.getClass().getName() : "null");
-
-                // String, Map, DemoEvent 모두 처리
-                DemoEvent event = null;
-                if (value instanceof DemoEvent demoEvent) {
-                    event = demoEvent;
-                } else if (value instanceof String jsonString) {
-                    // JSON String을 DemoEvent로 파싱
-                    event = objectMapper.readValue(jsonString, DemoEvent.class);
-                } else if (value instanceof java.util.Map) {
-                    // JSON deserializer가 Map으로 역직렬화한 경우
-                    @SuppressWarnings("unchecked")
-                    java.util.Map<String, Object> map = (java.util.Map<String, Object>) value;
-                    event = DemoEvent.builder()
-                        .id((String) map.get("id"))
-                        .message((String) map.get("message"))
-                        .timestamp(((Number) map.get("timestamp")).longValue())
-                        .build();
-                }
-
-                if (event != null) {
-                    receivedEvents.add(event);
-                    log.info("Successfully processed event: {}", event.getId());
-                }
+                event = demoEventReader.read(value);
             } catch (Exception e) {
-                log.error("Error processing message", e);
+                // 디코딩 실패는 다시 읽어도 같으므로 재시도 단계를 거치지 않고 DLT 로 보낸다.
+                log.warn("Cannot decode message, forwarding to DLT", e);
+                deadLetters.add(retryTopicPublisher.deadLetter(record, e));
+                continue;
             }
-        });
+            if (event == null) {
+                continue;
+            }
+            decoded.add(new Decoded(record, event));
+            receivedEvents.add(event);
+            batchListenerMetrics.recordEventLatency(record.topic(), event.getTimestamp());
+            demoEventWindowEngine.accept(record.partition(), record.offset(),
+                event.getTimestamp() != null ? event.getTimestamp() : record.timestamp(), event);
+            partitions.add(record.partition());
+        }
 
+        // window 결과와 changelog 를 먼저 기록한 뒤 poll 을 적재한다.
+        // autoscaler 가 batch 내부 병렬도를 올렸다면 id 별로 나누어 묶음마다 한 트랜잭션으로 동시에 적재한다. (같은 id 는 같은 묶음)
+        demoEventWindowEngine.flush(partitions);
+        List<CompletableFuture<?>> retries = new CopyOnWriteArrayList<>(deadLetters);
+        listenerParallelismRegistry.dispatch(LISTENER_ID, decoded, d -> d.event().getId(), group -> {
+            try {
+                write(group.stream().map(Decoded::event).toList(), null);
+            } catch (SinkWriteException e) {
+                // DB / Redis timeout 등 일시적인 실패 - 묶음의 레코드를 재시도 topic 으로 옮기고 파티션은 계속 진행한다.
+                // 재시도 단계에서는 레코드 단위로 적재하므로, 특정 레코드 때문에 실패했다면 그 레코드만 DLT 까지 간다.
+                // 이미 성공한 sink 는 다시 쓰지 않도록 남은 sink 만 header 에 적는다. (건수 / 점수 증가는 멱등하지 않다.)
+                log.warn("Failed to write {} events to {}, forwarding them to retry topic", group.size(), e.unwritten, e);
+                group.forEach(d -> {
+                    setPendingSinks(d.record().headers(), e.unwritten);
+                    retries.add(retryTopicPublisher.forward(d.record(), e.getCause()));
+                });
+            }
+        });
+        // 적재가 커밋되었거나 실패한 레코드를 모두 옮긴 뒤에만 offset 을 ack 한다.
+        CompletableFuture.allOf(retries.toArray(CompletableFuture[]::new)).join();
         acknowledgment.acknowledge();
     }
 
+    /**
+     * sink 를 순서대로 적재한다. {@code only} 가 주어지면 그 이름의 sink 만 쓴다. (null 이면 모두)
+     * 한 sink 가 실패하면 그 sink 와 뒤의 sink 이름을 {@link SinkWriteException} 으로 알린다.
+     */
+    private void write(List<DemoEvent> events, Set<String> only) {
+        // 같은 id 가 여러 번 온 경우 최신 이벤트만 적재한다. (오래된 이벤트는 sink 의 version 비교로도 걸러진다.)
+        List<DemoEvent> latest = coalesce ? demoEventCoalescer.coalesce(events) : events;
+        if (latest.size() < events.size()) {
+            log.debug("Coalesced {} events into {}", events.size(), latest.size());
+        }
+        // MySQL 커밋 후 Redis sink(현재 상태 / ranking 등, 켜진 것만)의 pipeline 까지 모두 성공해야 성공으로 본다.
+        // Redis 는 MySQL 트랜잭션이 끝나 커넥션을 반납한 뒤에 쓴다. 건수 / 점수 sink 는 합치기 전의 이벤트를 받는다.
+        List<BatchSink<DemoEvent>> sinks = new ArrayList<>();
+        sinks.add(demoEventSink);
+        demoEventRedisSinks.orderedStream().forEach(sinks::add);
+        List<BatchSink<DemoEvent>> targets = sinks.stream()
+            .filter(sink -> only == null || only.contains(sink.name()))
+            .toList();
+        for (int i = 0; i < targets.size(); i++) {
+            BatchSink<DemoEvent> sink = targets.get(i);
+            try {
+                sink.write(sink.coalescible() ? latest : events, () -> { });
+            } catch (RuntimeException e) {
+                throw new SinkWriteException(
+                    targets.subList(i, targets.size()).stream().map(BatchSink::name).toList(), e);
+            }
+        }
+    }
+
+    private static Set<String> pendingSinks(Headers headers) {
+        Header header = headers.lastHeader(PENDING_SINKS_HEADER);
+        if (header == null) {
+            return null;
+        }
+        return new LinkedHashSet<>(Arrays.asList(new String(header.value(), StandardCharsets.UTF_8).split(",")));
+    }
+
+    private static void setPendingSinks(Headers headers, List<String> sinks) {
+        headers.remove(PENDING_SINKS_HEADER);
+        headers.add(PENDING_SINKS_HEADER, String.join(",", sinks).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 재시도 topic 으로 옮겨진 레코드를 단건으로 다시 처리한다. 실패하면 예외를 던져 다음 재시도 단계로 넘긴다.
+     * live 와 같은 sink(MySQL, Redis) 중 {@link #PENDING_SINKS_HEADER} 에 남은 sink 만 적재한다. (header 가 없으면 모두)
+     * 다시 실패하면 남은 sink 목록을 header 에 갱신한다. 다음 단계로 옮길 때 header 가 그대로 복사된다.
+     * (window 집계는 원본 파티션의 stream time 기준이므로 재시도 레코드는 반영하지 않는다.)
+     */
+    public void handleRetry(ConsumerRecord<Object, Object> record) throws Exception {
+        DemoEvent event = demoEventReader.read(record.value());
+        if (event == null) {
+            return;
+        }
+        try {
+            write(List.of(event), pendingSinks(record.headers()));
+        } catch (SinkWriteException e) {
+            setPendingSinks(record.headers(), e.unwritten);
+            throw (Exception) e.getCause();
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        // 새로 받은 파티션의 window 상태를 changelog 에서 복원한 뒤 소비를 시작한다.
+        demoEventWindowEngine.restore(assignments.keySet().stream().map(TopicPartition::partition).toList());
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        demoEventWindowEngine.revoke(partitions.stream().map(TopicPartition::partition).toList());
+    }
+
     // 테스트용 메서드
     public List<DemoEvent> getReceivedEvents() {
         return receivedEvents;
@@ -0,0 +1,38 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.confg.kafka.retry.RetryTopicChain;
+import com.loopers.confg.kafka.retry.RetryTopicListeners;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaAdmin;
+
+/**
+ * demo topic 의 재시도 chain ({topic}-retry-1s → -10s → -1m → {topic}-dlt).
+ */
+@Configuration
+public class DemoKafkaRetryConfig {
+
+    @Value("${demo-kafka.test.topic-name}")
+    private String topicName;
+
+    @Bean
+    public KafkaAdmin.NewTopics demoRetryTopics(
+        RetryTopicChain retryTopicChain,
+        @Value("${demo-kafka.retry.partitions:3}") int partitions,
+        @Value("${demo-kafka.retry.replicas:1}") int replicas
+    ) {
+        return retryTopicChain.newTopics(topicName, partitions, replicas);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "demo-kafka.replay", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public RetryTopicListeners demoRetryListeners(
+        RetryTopicChain retryTopicChain,
+        DemoKafkaConsumer demoKafkaConsumer,
+        @Value("${spring.kafka.consumer.group-id}") String groupId
+    ) {
+        return retryTopicChain.listen(topicName, groupId + "-retry", demoKafkaConsumer::handleRetry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.interfaces.producer;
+
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+/**
+ * 묶음 발행 시 레코드 단위 전송 결과.
+ * 실패한 경우 partition / offset 은 비어있고 error 에 원인이 담긴다.
+ */
+public record DemoEventSendResult(
+        String eventId,
+        Integer partition,
+        Long offset,
+        Throwable error
+) {
+    public static DemoEventSendResult success(String eventId, RecordMetadata metadata) {
+        return new DemoEventSendResult(eventId, metadata.partition(), metadata.offset(), null);
+    }
+
+    public static DemoEventSendResult failure(String eventId, Throwable error) {
+        return new DemoEventSendResult(eventId, null, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
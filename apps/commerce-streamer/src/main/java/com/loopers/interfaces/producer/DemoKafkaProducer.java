@@ -5,8 +5,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RequiredArgsConstructor
 @Component
@@ -17,8 +22,36 @@ public class DemoKafkaProducer {
 
     private final KafkaTemplate<Object, Object> kafkaTemplate;
 
-    public void sendEvent(DemoEvent event) {
-        log.info("Sending event to topic {}: {}", topicName, event);
-        kafkaTemplate.send(topicName, event.getId(), event);
+    public CompletableFuture<SendResult<Object, Object>> sendEvent(DemoEvent event) {
+        log.debug("Sending event to topic {}: {}", topicName, event.getId());
+        return kafkaTemplate.send(topicName, event.getId(), event);
+    }
+
+    /**
+     * 이벤트 묶음을 기다림 없이 연속으로 전송(pipelining)하여 producer 의 batch 에 모이도록 한다.
+     * 개별 전송의 성공/실패는 레코드 단위 결과로 모아, 모든 전송이 끝났을 때 하나의 future 로 완료된다.
+     */
+    public CompletableFuture<List<DemoEventSendResult>> sendEvents(List<DemoEvent> events) {
+        List<CompletableFuture<DemoEventSendResult>> futures = new ArrayList<>(events.size());
+        for (DemoEvent event : events) {
+            CompletableFuture<DemoEventSendResult> future;
+            try {
+                future = sendEvent(event).handle((result, error) -> error == null
+                        ? DemoEventSendResult.success(event.getId(), result.getRecordMetadata())
+                        : DemoEventSendResult.failure(event.getId(), error));
+            } catch (Exception e) {
+                // buffer 초과 등 send 호출 자체가 실패한 경우에도 나머지 전송은 계속한다.
+                future = CompletableFuture.completedFuture(DemoEventSendResult.failure(event.getId(), e));
+            }
+            futures.add(future);
+        }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<DemoEventSendResult> results = futures.stream().map(CompletableFuture::join).toList();
+                    long failed = results.stream().filter(result -> !result.isSuccess()).count();
+                    log.info("Sent {} events to topic {} (failed: {})", results.size(), topicName, failed);
+                    return results;
+                });
     }
 }
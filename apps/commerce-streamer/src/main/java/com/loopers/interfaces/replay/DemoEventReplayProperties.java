@@ -0,0 +1,36 @@
+package com.loopers.interfaces.replay;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * projection 재구축용 replay 모드 설정.
+ *
+ * @param enabled                true 면 live listener 대신 replay 를 실행한다.
+ * @param groupId                replay consumer 의 group.id. assign 으로만 읽고 offset 을 커밋하지 않으므로 live group 과 무관하다.
+ * @param fromTimestamp          이 시각 이후의 레코드부터 읽는다. (fromOffset 보다 우선)
+ * @param fromOffset             모든 파티션을 이 offset 부터 읽는다. 둘 다 없으면 처음부터 읽는다.
+ * @param parallelism            동시에 읽을 파티션 수 (파티션마다 consumer 하나, 스레드 하나)
+ * @param maxPollRecords         poll 한 번(= sink 적재 한 번)의 최대 레코드 수
+ * @param maxPartitionFetchBytes 파티션당 fetch 크기
+ * @param fetchMaxBytes          fetch 요청 하나의 최대 크기
+ * @param progressInterval       진행률 로그 주기
+ * @param exitOnComplete         replay 가 끝나면 application 을 종료한다.
+ */
+@ConfigurationProperties("demo-kafka.replay")
+public record DemoEventReplayProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("loopers-replay-consumer") String groupId,
+    Instant fromTimestamp,
+    Long fromOffset,
+    @DefaultValue("3") int parallelism,
+    @DefaultValue("5000") int maxPollRecords,
+    @DefaultValue("8388608") int maxPartitionFetchBytes,
+    @DefaultValue("67108864") int fetchMaxBytes,
+    @DefaultValue("10s") Duration progressInterval,
+    @DefaultValue("true") boolean exitOnComplete
+) {
+}
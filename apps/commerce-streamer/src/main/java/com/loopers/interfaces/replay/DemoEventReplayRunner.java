@@ -0,0 +1,255 @@
+package com.loopers.interfaces.replay;
+
+import com.loopers.application.replay.ReplayProgress;
+import com.loopers.confg.kafka.codec.AvroEventCodec;
+import com.loopers.confg.kafka.codec.SchemaAwareDeserializer;
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.domain.event.DemoEventCoalescer;
+import com.loopers.domain.sink.BatchSink;
+import com.loopers.infrastructure.sink.RedisPipelineBatchSink;
+import com.loopers.interfaces.consumer.DemoEventReader;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * demo topic 을 과거 시점부터 다시 읽어 sink 에 적재하는 replay 모드. (demo-kafka.replay.enabled=true)
+ * <p>
+ * 시작 시점의 end offset 까지만 읽고 끝난다. 파티션마다 consumer 를 assign 으로 붙이고 offset 을 커밋하지 않으므로
+ * live consumer group 의 offset 과 멤버십에는 영향을 주지 않는다. (replay 모드에서는 live / 재시도 listener 를 시작하지 않는다.)
+ * sink 는 event_timestamp 기준 last-write-wins 이므로, live 가 이미 적재한 최신 값을 오래된 이벤트가 덮어쓰지 않는다.
+ * <p>
+ * MySQL 과 함께, 같은 이벤트를 다시 적재해도 결과가 같은 Redis sink({@link BatchSink#coalescible()} 인 현재 상태 sink)도 다시 적재한다.
+ * 건수 / ranking 점수처럼 이벤트마다 더하는 sink 는 이미 반영된 구간을 두 번 세게 되므로 일부러 제외한다. (필요하면 key 를 지우고 따로 재집계한다.)
+ * batch 안의 같은 id 를 합칠지는 live 와 같이 demo-kafka.sink.coalesce 를 따른다.
+ * 실패한 파티션이 있으면 exit code 1 을 남긴다. exitOnComplete 이면 main 이 이 exit code 로 application 을 종료한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "demo-kafka.replay", name = "enabled", havingValue = "true")
+public class DemoEventReplayRunner implements ApplicationRunner, ExitCodeGenerator {
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final DemoEventReplayProperties properties;
+    private final List<BatchSink<DemoEvent>> sinks;
+    private final DemoEventCoalescer demoEventCoalescer;
+    private final boolean coalesce;
+    private final DemoEventReader demoEventReader;
+    private final AvroEventCodec avroEventCodec;
+    private final String topic;
+    private final Map<String, Object> consumerProperties;
+    private volatile int exitCode;
+
+    public DemoEventReplayRunner(
+        DemoEventReplayProperties properties,
+        KafkaProperties kafkaProperties,
+        BatchSink<DemoEvent> demoEventSink,
+        ObjectProvider<RedisPipelineBatchSink<DemoEvent>> demoEventRedisSinks,
+        DemoEventCoalescer demoEventCoalescer,
+        @Value("${demo-kafka.sink.coalesce:true}") boolean coalesce,
+        DemoEventReader demoEventReader,
+        ObjectProvider<AvroEventCodec> avroEventCodec,
+        @Value("${demo-kafka.test.topic-name}") String topic
+    ) {
+        this.properties = properties;
+        List<BatchSink<DemoEvent>> sinks = new ArrayList<>();
+        sinks.add(demoEventSink);
+        demoEventRedisSinks.orderedStream().filter(BatchSink::coalescible).forEach(sinks::add);
+        this.sinks = List.copyOf(sinks);
+        this.demoEventCoalescer = demoEventCoalescer;
+        this.coalesce = coalesce;
+        this.demoEventReader = demoEventReader;
+        this.avroEventCodec = avroEventCodec.getIfAvailable();
+        this.topic = topic;
+
+        // 밀린 데이터를 끝까지 읽는 용도이므로 live listener(1mb / 5s) 대신 큰 fetch 로 왕복 횟수를 줄인다.
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildConsumerProperties());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, properties.groupId());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.maxPollRecords());
+        props.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, properties.maxPartitionFetchBytes());
+        props.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG, properties.fetchMaxBytes());
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1); // 읽을 데이터가 이미 쌓여 있으므로 기다리지 않는다.
+        props.put(ConsumerConfig.RECEIVE_BUFFER_CONFIG, 1024 * 1024);
+        this.consumerProperties = props;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Map<TopicPartition, OffsetRange> ranges = plan();
+        long total = ranges.values().stream().mapToLong(OffsetRange::size).sum();
+        log.info("[replay] {} 파티션 {}개, 레코드 {}건을 {} 에 다시 적재합니다. (from={})",
+            topic, ranges.size(), total, sinks.stream().map(BatchSink::name).toList(),
+            properties.fromTimestamp() != null ? properties.fromTimestamp() : properties.fromOffset());
+
+        ReplayProgress progress = new ReplayProgress(total, System.currentTimeMillis());
+        int threads = Math.max(1, Math.min(properties.parallelism(), ranges.size()));
+        ExecutorService workers = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("replay-", 0).factory());
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("replay-progress").factory());
+        reporter.scheduleAtFixedRate(() -> report(progress), properties.progressInterval().toMillis(),
+            properties.progressInterval().toMillis(), TimeUnit.MILLISECONDS);
+
+        boolean failed = false;
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            ranges.forEach((partition, range) ->
+                tasks.add(workers.submit(() -> replay(partition, range.from(), range.to(), progress))));
+            for (Future<?> task : tasks) {
+                try {
+                    task.get();
+                } catch (Exception e) {
+                    failed = true;
+                    log.error("[replay] 파티션 replay 에 실패했습니다.", e);
+                }
+            }
+        } finally {
+            reporter.shutdownNow();
+            workers.shutdownNow();
+        }
+
+        report(progress);
+        if (failed) {
+            log.error("[replay] 일부 파티션이 실패했습니다. 실패한 파티션은 다시 실행해야 합니다.");
+        } else {
+            log.info("[replay] 완료했습니다.");
+        }
+        exitCode = failed ? 1 : 0;
+    }
+
+    /**
+     * replay 가 끝난 뒤 application 을 종료해야 하는지. 종료는 진입점(main)이 {@link SpringApplication#exit} 로 한다.
+     */
+    public boolean exitOnComplete() {
+        return properties.exitOnComplete();
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    /**
+     * 파티션의 [from, to) offset 구간.
+     */
+    record OffsetRange(long from, long to) {
+        long size() {
+            return Math.max(0, to - from);
+        }
+    }
+
+    private Map<TopicPartition, OffsetRange> plan() {
+        try (Consumer<String, Object> consumer = newConsumer()) {
+            return plan(consumer, topic, properties.fromTimestamp(), properties.fromOffset());
+        }
+    }
+
+    /**
+     * 파티션별로 읽을 구간. 끝은 시작 시점의 end offset 으로 고정한다.
+     * fromTimestamp 가 있으면 그 시각 이후 첫 offset, 없고 fromOffset 이 있으면 [beginning, end] 로 자른 fromOffset, 둘 다 없으면 beginning 부터 읽는다.
+     */
+    static Map<TopicPartition, OffsetRange> plan(Consumer<?, ?> consumer, String topic, Instant fromTimestamp, Long fromOffset) {
+        List<TopicPartition> partitions = new ArrayList<>();
+        for (PartitionInfo info : consumer.partitionsFor(topic)) {
+            partitions.add(new TopicPartition(topic, info.partition()));
+        }
+        Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions);
+        Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+
+        Map<TopicPartition, Long> from = new HashMap<>(beginning);
+        if (fromTimestamp != null) {
+            Map<TopicPartition, Long> timestamps = new HashMap<>();
+            partitions.forEach(partition -> timestamps.put(partition, fromTimestamp.toEpochMilli()));
+            Map<TopicPartition, OffsetAndTimestamp> found = consumer.offsetsForTimes(timestamps);
+            // 해당 시각 이후 레코드가 없는 파티션은 읽을 것이 없다.
+            partitions.forEach(partition -> from.put(partition,
+                found.get(partition) != null ? found.get(partition).offset() : end.get(partition)));
+        } else if (fromOffset != null) {
+            partitions.forEach(partition -> from.put(partition,
+                Math.min(end.get(partition), Math.max(beginning.get(partition), fromOffset))));
+        }
+
+        Map<TopicPartition, OffsetRange> ranges = new LinkedHashMap<>();
+        partitions.forEach(partition -> ranges.put(partition, new OffsetRange(from.get(partition), end.get(partition))));
+        return ranges;
+    }
+
+    private void replay(TopicPartition partition, long from, long to, ReplayProgress progress) {
+        if (from >= to) {
+            return;
+        }
+        try (Consumer<String, Object> consumer = newConsumer()) {
+            consumer.assign(List.of(partition));
+            consumer.seek(partition, from);
+
+            while (consumer.position(partition) < to) {
+                List<DemoEvent> events = new ArrayList<>();
+                long read = 0;
+                for (ConsumerRecord<String, Object> record : consumer.poll(POLL_TIMEOUT)) {
+                    if (record.offset() >= to) {
+                        break;
+                    }
+                    read++;
+                    try {
+                        DemoEvent event = demoEventReader.read(record.value());
+                        if (event != null) {
+                            events.add(event);
+                        }
+                    } catch (Exception e) {
+                        // replay 중에는 재시도 topic 으로 보내지 않는다. (live 재시도 흐름에 섞이지 않도록 기록만 한다.)
+                        progress.skip();
+                        log.warn("[replay] {} offset={} 를 읽을 수 없어 건너뜁니다.", partition, record.offset(), e);
+                    }
+                }
+                if (!events.isEmpty()) {
+                    List<DemoEvent> latest = coalesce ? demoEventCoalescer.coalesce(events) : events;
+                    sinks.forEach(sink -> sink.write(latest, () -> { }));
+                }
+                progress.add(read);
+            }
+        }
+    }
+
+    private Consumer<String, Object> newConsumer() {
+        Deserializer<Object> valueDeserializer = avroEventCodec != null
+            ? new SchemaAwareDeserializer(avroEventCodec, new StringDeserializer())
+            : new StringDeserializer()::deserialize;
+        return new KafkaConsumer<>(consumerProperties, new StringDeserializer(), valueDeserializer);
+    }
+
+    private void report(ReplayProgress progress) {
+        ReplayProgress.Snapshot snapshot = progress.snapshot(System.currentTimeMillis());
+        log.info("[replay] {}% ({}/{}) {} records/s, elapsed={}, eta={}, skipped={}",
+            String.format("%.1f", snapshot.percent()), snapshot.processed(), snapshot.total(),
+            String.format("%.0f", snapshot.recordsPerSecond()), snapshot.elapsed().toSeconds() + "s",
+            snapshot.eta() != null ? snapshot.eta().toSeconds() + "s" : "-", snapshot.skipped());
+    }
+}
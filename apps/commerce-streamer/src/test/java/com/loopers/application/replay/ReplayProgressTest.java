@@ -0,0 +1,54 @@
+package com.loopers.application.replay;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ReplayProgressTest {
+
+    @DisplayName("처리 속도로 남은 레코드를 처리하는 데 걸릴 시간을 계산한다.")
+    @Test
+    void calculatesEta_fromThroughput() {
+        // arrange
+        ReplayProgress progress = new ReplayProgress(10_000, 0L);
+        progress.add(1_000);
+        progress.add(1_000);
+
+        // act
+        ReplayProgress.Snapshot snapshot = progress.snapshot(2_000L);
+
+        // assert
+        assertAll(
+            () -> assertThat(snapshot.percent()).isEqualTo(20.0),
+            () -> assertThat(snapshot.recordsPerSecond()).isEqualTo(1_000.0),
+            () -> assertThat(snapshot.eta()).isEqualTo(Duration.ofSeconds(8))
+        );
+    }
+
+    @DisplayName("아직 처리한 레코드가 없으면, 남은 시간을 계산하지 않는다.")
+    @Test
+    void returnsNullEta_whenNothingProcessed() {
+        // arrange
+        ReplayProgress progress = new ReplayProgress(10_000, 0L);
+
+        // act
+        ReplayProgress.Snapshot snapshot = progress.snapshot(1_000L);
+
+        // assert
+        assertThat(snapshot.eta()).isNull();
+    }
+
+    @DisplayName("읽을 레코드가 없으면 100% 로 본다.")
+    @Test
+    void treatsEmptyReplayAsComplete() {
+        // act
+        ReplayProgress.Snapshot snapshot = new ReplayProgress(0, 0L).snapshot(1_000L);
+
+        // assert
+        assertThat(snapshot.percent()).isEqualTo(100.0);
+    }
+}
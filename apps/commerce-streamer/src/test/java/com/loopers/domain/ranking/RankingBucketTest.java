@@ -0,0 +1,59 @@
+package com.loopers.domain.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RankingBucketTest {
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private static long at(int day, int hour, int minute) {
+        return ZonedDateTime.of(2025, 1, day, hour, minute, 0, 0, SEOUL).toInstant().toEpochMilli();
+    }
+
+    @DisplayName("일 단위 구간은 기준 시간대의 자정부터 나누고, 다음 구간 key 는 다음 날이다.")
+    @Test
+    void dailyBucket_startsAtLocalMidnight() {
+        // arrange
+        RankingBucket bucket = new RankingBucket("all", Duration.ofDays(1), SEOUL);
+
+        // act
+        String key = bucket.key(at(1, 0, 30));
+        String nextKey = bucket.nextKey(at(1, 23, 59));
+
+        // assert
+        assertAll(
+            () -> assertThat(key).isEqualTo("ranking:all:202501010000"),
+            () -> assertThat(nextKey).isEqualTo("ranking:all:202501020000")
+        );
+    }
+
+    @DisplayName("시간 단위 구간은 같은 시의 이벤트를 같은 key 로 모은다.")
+    @Test
+    void hourlyBucket_groupsSameHour() {
+        // arrange
+        RankingBucket bucket = new RankingBucket("all", Duration.ofHours(1), SEOUL);
+
+        // act & assert
+        assertAll(
+            () -> assertThat(bucket.key(at(1, 13, 0))).isEqualTo(bucket.key(at(1, 13, 59))),
+            () -> assertThat(bucket.key(at(1, 13, 59))).isEqualTo("ranking:all:202501011300"),
+            () -> assertThat(bucket.end(at(1, 13, 10)).toEpochMilli()).isEqualTo(at(1, 14, 0))
+        );
+    }
+
+    @DisplayName("하루의 약수가 아닌 구간 크기는 허용하지 않는다.")
+    @Test
+    void rejectsSizeNotDividingDay() {
+        // act & assert
+        assertThatThrownBy(() -> new RankingBucket("all", Duration.ofHours(7), SEOUL))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
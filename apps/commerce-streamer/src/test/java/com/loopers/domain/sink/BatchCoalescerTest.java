@@ -0,0 +1,68 @@
+package com.loopers.domain.sink;
+
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.domain.event.DemoEventCoalescer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchCoalescerTest {
+    private final BatchCoalescer<DemoEvent> coalescer = new DemoEventCoalescer();
+
+    private static DemoEvent event(String id, String message, Long timestamp) {
+        return DemoEvent.builder().id(id).message(message).timestamp(timestamp).build();
+    }
+
+    @DisplayName("같은 id 가 여러 번 있으면, timestamp 가 가장 최신인 이벤트만 남기고 처음 등장한 순서를 유지한다.")
+    @Test
+    void keepsNewestEventPerKey() {
+        // arrange
+        List<DemoEvent> events = List.of(
+            event("a", "a-1", 100L),
+            event("b", "b-1", 100L),
+            event("a", "a-3", 300L),
+            event("a", "a-2", 200L)
+        );
+
+        // act
+        List<DemoEvent> coalesced = coalescer.coalesce(events);
+
+        // assert
+        assertThat(coalesced).extracting(DemoEvent::getMessage).containsExactly("a-3", "b-1");
+    }
+
+    @DisplayName("timestamp 가 같으면, batch 에서 뒤에 있는(offset 이 큰) 이벤트를 남긴다.")
+    @Test
+    void keepsLaterEvent_whenTimestampsAreEqual() {
+        // arrange
+        List<DemoEvent> events = List.of(
+            event("a", "first", 100L),
+            event("a", "second", 100L)
+        );
+
+        // act
+        List<DemoEvent> coalesced = coalescer.coalesce(events);
+
+        // assert
+        assertThat(coalesced).extracting(DemoEvent::getMessage).containsExactly("second");
+    }
+
+    @DisplayName("timestamp 가 없는 이벤트는 timestamp 가 있는 이벤트를 덮어쓰지 않는다.")
+    @Test
+    void treatsMissingTimestampAsOldest() {
+        // arrange
+        List<DemoEvent> events = List.of(
+            event("a", "with-timestamp", 100L),
+            event("a", "without-timestamp", null)
+        );
+
+        // act
+        List<DemoEvent> coalesced = coalescer.coalesce(events);
+
+        // assert
+        assertThat(coalesced).extracting(DemoEvent::getMessage).containsExactly("with-timestamp");
+    }
+}
@@ -0,0 +1,163 @@
+package com.loopers.domain.window;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WindowStateTest {
+    private static final long MINUTE = 60_000L;
+
+    @DisplayName("window 시작 시각을 계산할 때, ")
+    @Nested
+    class Spec {
+        @DisplayName("tumbling window 는 이벤트가 속한 window 하나만 반환한다.")
+        @Test
+        void returnsSingleWindow_whenTumbling() {
+            // arrange
+            WindowSpec spec = WindowSpec.tumbling(Duration.ofMinutes(1));
+
+            // act
+            long[] starts = spec.windowStarts(MINUTE * 3 + 1_500);
+
+            // assert
+            assertThat(starts).containsExactly(MINUTE * 3);
+        }
+
+        @DisplayName("hopping window 는 이벤트를 포함하는 겹친 window 를 오래된 순으로 모두 반환한다.")
+        @Test
+        void returnsOverlappingWindows_whenHopping() {
+            // arrange
+            WindowSpec spec = WindowSpec.hopping(Duration.ofMinutes(3), Duration.ofMinutes(1));
+
+            // act
+            long[] starts = spec.windowStarts(MINUTE * 5 + 10);
+
+            // assert
+            assertThat(starts).containsExactly(MINUTE * 3, MINUTE * 4, MINUTE * 5);
+        }
+
+        @DisplayName("advance 가 size 보다 크면, IllegalArgumentException 이 발생한다.")
+        @Test
+        void throwsIllegalArgumentException_whenAdvanceIsLargerThanSize() {
+            // act & assert
+            assertThrows(IllegalArgumentException.class,
+                () -> WindowSpec.hopping(Duration.ofMinutes(1), Duration.ofMinutes(2)));
+        }
+    }
+
+    @DisplayName("이벤트를 집계할 때, ")
+    @Nested
+    class Add {
+        @DisplayName("stream time 이 window 종료 + grace 를 지나면, window 가 닫히고 key 별 결과가 남는다.")
+        @Test
+        void closesWindow_whenStreamTimePassesGrace() {
+            // arrange
+            WindowState state = new WindowState(WindowSpec.tumbling(Duration.ofMinutes(1)), 10_000L);
+            state.add(1_000, 7L, 100);
+            state.add(2_000, 7L, 200);
+            state.add(3_000, 8L, 50);
+
+            // act
+            Map.Entry<Long, LongAggregateMap> beforeGrace = state.pollClosedWindow();
+            state.add(MINUTE + 10_000, 7L, 1);
+            Map.Entry<Long, LongAggregateMap> closed = state.pollClosedWindow();
+
+            // assert
+            assertThat(beforeGrace).isNull();
+            assertAll(
+                () -> assertThat(closed.getKey()).isEqualTo(0L),
+                () -> assertThat(closed.getValue().count(7L)).isEqualTo(2),
+                () -> assertThat(closed.getValue().sum(7L)).isEqualTo(300),
+                () -> assertThat(closed.getValue().count(8L)).isEqualTo(1),
+                () -> assertThat(state.openWindowCount()).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("이미 닫힌 window 에만 속하는 늦은 이벤트는 반영하지 않는다.")
+        @Test
+        void rejectsLateEvent() {
+            // arrange
+            WindowState state = new WindowState(WindowSpec.tumbling(Duration.ofMinutes(1)), 0L);
+            state.add(MINUTE * 2, 1L, 1);
+
+            // act
+            boolean accepted = state.add(MINUTE - 1, 1L, 1);
+
+            // assert
+            assertThat(accepted).isFalse();
+        }
+
+        @DisplayName("변경된 (window, key) 만 현재 값과 함께 한 번씩 넘기고 비운다.")
+        @Test
+        void drainsChangedKeysOnce() {
+            // arrange
+            WindowState state = new WindowState(WindowSpec.hopping(Duration.ofMinutes(2), Duration.ofMinutes(1)), 0L);
+            state.add(MINUTE + 1, 1L, 5);
+            state.add(MINUTE + 2, 1L, 5);
+            List<long[]> changes = new ArrayList<>();
+
+            // act
+            state.drainChanges((windowStart, key, count, sum) -> changes.add(new long[]{windowStart, key, count, sum}));
+            state.drainChanges((windowStart, key, count, sum) -> changes.add(new long[]{windowStart, key, count, sum}));
+
+            // assert
+            assertThat(changes).containsExactly(
+                new long[]{0L, 1L, 2L, 10L},
+                new long[]{MINUTE, 1L, 2L, 10L}
+            );
+        }
+    }
+
+    @DisplayName("changelog 로 복원할 때, ")
+    @Nested
+    class Restore {
+        @DisplayName("checkpoint 이하의 offset 은 이미 반영된 것으로 본다.")
+        @Test
+        void treatsOffsetsUpToCheckpointAsProcessed() {
+            // arrange
+            WindowState state = new WindowState(WindowSpec.tumbling(Duration.ofMinutes(1)), 0L);
+            state.restore(0L, 1L, 3L, 30L);
+
+            // act
+            state.restoreCheckpoint(41L, 30_000L);
+
+            // assert
+            assertAll(
+                () -> assertThat(state.isProcessed(41L)).isTrue(),
+                () -> assertThat(state.isProcessed(42L)).isFalse(),
+                () -> assertThat(state.streamTime()).isEqualTo(30_000L),
+                () -> assertThat(state.openWindowCount()).isEqualTo(1)
+            );
+        }
+    }
+
+    @DisplayName("primitive map 에 많은 key 를 넣어도, 모든 key 의 집계가 유지된다.")
+    @Test
+    void keepsAllKeys_whenMapGrows() {
+        // arrange
+        LongAggregateMap map = new LongAggregateMap();
+
+        // act
+        for (long key = 0; key < 10_000; key++) {
+            map.add(key, 1, key);
+            map.add(key, 1, key);
+        }
+
+        // assert
+        assertAll(
+            () -> assertThat(map.size()).isEqualTo(10_000),
+            () -> assertThat(map.count(9_999L)).isEqualTo(2),
+            () -> assertThat(map.sum(9_999L)).isEqualTo(19_998L),
+            () -> assertThat(map.contains(10_000L)).isFalse()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.confg.kafka.KafkaTestContainer;
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"demo-kafka.redis-sink.enabled=true", "demo-kafka.redis-sink.chunk-size=100"})
+class DemoEventCountRedisSinkIntegrationTest extends KafkaTestContainer {
+
+    @Autowired
+    private DemoEventCountRedisSink sink;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("같은 id 의 이벤트도 모두 분 단위 건수에 더한다")
+    void countsEveryEventPerMinute() {
+        // given
+        List<DemoEvent> events = IntStream.range(0, 250)
+            .mapToObj(i -> DemoEvent.builder().id("redis-id-" + (i % 10)).message("message-" + i).timestamp(60_000L + i).build())
+            .toList();
+
+        // when
+        sink.write(events, () -> { });
+
+        // then
+        assertThat(redisTemplate.opsForValue().get("demo:event:count:1")).isEqualTo("250");
+        assertThat(redisTemplate.getExpire("demo:event:count:1")).isPositive();
+    }
+}
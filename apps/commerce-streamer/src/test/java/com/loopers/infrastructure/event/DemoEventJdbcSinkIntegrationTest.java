@@ -0,0 +1,127 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.confg.kafka.KafkaTestContainer;
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.domain.event.DemoEventModel;
+import com.loopers.utils.DatabaseCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "demo-kafka.sink.chunk-size=500")
+class DemoEventJdbcSinkIntegrationTest extends KafkaTestContainer {
+
+    @Autowired
+    private DemoEventJdbcSink sink;
+
+    @Autowired
+    private DemoEventJpaRepository demoEventJpaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private List<DemoEvent> events(int count, String message) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> DemoEvent.builder()
+                        .id("sink-id-" + i)
+                        .message(message + i)
+                        .timestamp(1_000L + i)
+                        .build())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("batch 를 chunk 단위 multi-row upsert 로 적재하고, 커밋 후 콜백을 호출한다")
+    void writesBatchInChunks() {
+        // given
+        List<DemoEvent> events = events(1_200, "message-");
+        AtomicInteger committed = new AtomicInteger();
+        double statementsBefore = meterRegistry.counter("streamer.sink.statements", "sink", "demo_event").count();
+
+        // when
+        sink.write(events, committed::incrementAndGet);
+
+        // then
+        assertThat(committed.get()).isEqualTo(1);
+        assertThat(demoEventJpaRepository.count()).isEqualTo(1_200);
+        assertThat(meterRegistry.counter("streamer.sink.statements", "sink", "demo_event").count() - statementsBefore)
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("콜백은 트랜잭션이 끝나 커넥션을 반납한 뒤에 호출된다")
+    void callsCallbackAfterConnectionIsReleased() {
+        // given
+        AtomicBoolean holdingResources = new AtomicBoolean(true);
+
+        // when
+        sink.write(events(1, "message-"), () -> holdingResources.set(
+                TransactionSynchronizationManager.isActualTransactionActive()
+                        || !TransactionSynchronizationManager.getResourceMap().isEmpty()));
+
+        // then
+        assertThat(holdingResources.get()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 event_id 로 다시 적재하면 새 행을 만들지 않고 갱신한다")
+    void upsertsByEventId() {
+        // given
+        sink.write(events(10, "before-"), () -> {});
+
+        // when
+        sink.write(events(10, "after-"), () -> {});
+
+        // then
+        assertThat(demoEventJpaRepository.count()).isEqualTo(10);
+        DemoEventModel stored = demoEventJpaRepository.findByEventId("sink-id-3").orElseThrow();
+        assertThat(stored.getMessage()).isEqualTo("after-3");
+    }
+
+    @Test
+    @DisplayName("저장된 event_timestamp 보다 오래된 이벤트는 기존 값을 덮어쓰지 않는다")
+    void skipsStaleEvent() {
+        // given
+        sink.write(List.of(DemoEvent.builder().id("lww-id").message("newer").timestamp(2_000L).build()), () -> {});
+
+        // when
+        sink.write(List.of(DemoEvent.builder().id("lww-id").message("older").timestamp(1_000L).build()), () -> {});
+
+        // then
+        DemoEventModel stored = demoEventJpaRepository.findByEventId("lww-id").orElseThrow();
+        assertThat(stored.getMessage()).isEqualTo("newer");
+        assertThat(stored.getEventTimestamp()).isEqualTo(2_000L);
+    }
+
+    @Test
+    @DisplayName("적재에 실패하면 콜백을 호출하지 않고 예외를 전파한다")
+    void doesNotCallCallback_whenWriteFails() {
+        // given
+        List<DemoEvent> invalid = List.of(DemoEvent.builder().id(null).message("no-id").timestamp(1L).build());
+        AtomicInteger committed = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> sink.write(invalid, committed::incrementAndGet));
+        assertThat(committed.get()).isZero();
+    }
+}
@@ -0,0 +1,74 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.confg.kafka.KafkaTestContainer;
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"demo-kafka.redis-sink.enabled=true", "demo-kafka.redis-sink.chunk-size=100"})
+class DemoEventRedisSinkIntegrationTest extends KafkaTestContainer {
+
+    @Autowired
+    private DemoEventRedisSink sink;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("batch 를 chunk 단위 pipeline 으로 적재하고, 모두 성공한 뒤 콜백을 호출한다")
+    void writesBatchInPipelines() {
+        // given
+        List<DemoEvent> events = IntStream.range(0, 250)
+            .mapToObj(i -> DemoEvent.builder().id("redis-id-" + i).message("message-" + i).timestamp(60_000L + i).build())
+            .toList();
+        AtomicInteger committed = new AtomicInteger();
+        double roundTripsBefore = meterRegistry.counter("streamer.sink.statements", "sink", "demo_event_redis").count();
+
+        // when
+        sink.write(events, committed::incrementAndGet);
+
+        // then
+        assertThat(committed.get()).isEqualTo(1);
+        assertThat(redisTemplate.opsForHash().get("demo:event:redis-id-7", "message")).isEqualTo("message-7");
+        assertThat(redisTemplate.getExpire("demo:event:redis-id-7")).isPositive();
+        assertThat(meterRegistry.counter("streamer.sink.statements", "sink", "demo_event_redis").count() - roundTripsBefore)
+            .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("저장된 상태보다 오래된 이벤트가 늦게 도착하면 현재 상태를 덮지 않는다")
+    void keepsNewerState_whenOlderEventArrivesLate() {
+        // given
+        sink.write(List.of(DemoEvent.builder().id("lww").message("new").timestamp(2_000L).build()), () -> { });
+
+        // when
+        sink.write(List.of(DemoEvent.builder().id("lww").message("old").timestamp(1_000L).build()), () -> { });
+
+        // then
+        assertThat(redisTemplate.opsForHash().get("demo:event:lww", "message")).isEqualTo("new");
+        assertThat(redisTemplate.opsForHash().get("demo:event:lww", "timestamp")).isEqualTo("2000");
+    }
+}
@@ -0,0 +1,89 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.confg.kafka.KafkaTestContainer;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+class RankingCarryOverIntegrationTest extends KafkaTestContainer {
+    private static final String DAY_1 = "ranking:all:202501010000";
+    private static final String DAY_2 = "ranking:all:202501020000";
+    private static final Instant BEFORE_END = Instant.parse("2025-01-01T23:55:00Z");
+    private static final Instant AFTER_GRACE = Instant.parse("2025-01-02T00:15:00Z");
+
+    private final RankingProperties properties = new RankingProperties(
+        true, "all", Duration.ofDays(1), ZoneId.of("UTC"), Duration.ofDays(2),
+        0.1, Duration.ofMinutes(10), Duration.ofMinutes(10), 1000
+    );
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    private void carryOverAt(Instant now) {
+        new RankingCarryOver(redisTemplate, properties, Clock.fixed(now, ZoneOffset.UTC)).carryOver();
+    }
+
+    private double score(String key, String item) {
+        Double score = redisTemplate.opsForZSet().score(key, item);
+        return score != null ? score : 0;
+    }
+
+    @Test
+    @DisplayName("구간이 끝나기 전에 점수의 일부를 미리 넘기고, 구간이 바뀐 뒤 그 사이 더해진 점수도 한 번만 마저 넘긴다")
+    void carriesOverScoresAddedNearBucketEnd() {
+        // given
+        redisTemplate.opsForZSet().add(DAY_1, "item-a", 100);
+        redisTemplate.opsForZSet().add(DAY_2, "item-c", 7);
+        carryOverAt(BEFORE_END);
+        double carriedEarly = score(DAY_2, "item-a");
+        redisTemplate.opsForZSet().incrementScore(DAY_1, "item-a", 50); // 마지막 10분 동안 더해진 점수
+        redisTemplate.opsForZSet().incrementScore(DAY_1, "item-b", 20);
+
+        // when
+        carryOverAt(AFTER_GRACE);
+        carryOverAt(AFTER_GRACE.plusSeconds(60));
+
+        // then
+        assertThat(carriedEarly).isCloseTo(10, within(1e-9));
+        assertThat(score(DAY_2, "item-a")).isCloseTo(15, within(1e-9));
+        assertThat(score(DAY_2, "item-b")).isCloseTo(2, within(1e-9));
+        assertThat(score(DAY_2, "item-c")).isCloseTo(7, within(1e-9));
+        assertThat(redisTemplate.getExpire(DAY_2)).isPositive();
+        assertThat(redisTemplate.hasKey(DAY_2 + ":base")).isFalse();
+    }
+
+    @Test
+    @DisplayName("구간이 끝나기 전에 넘기지 못했다면, 구간이 바뀐 뒤 이전 구간 점수 전체의 일부를 넘긴다")
+    void carriesOverWholeBucket_whenEarlyCarryOverWasMissed() {
+        // given
+        redisTemplate.opsForZSet().add(DAY_1, "item-a", 100);
+
+        // when
+        carryOverAt(AFTER_GRACE);
+
+        // then
+        assertThat(score(DAY_2, "item-a")).isCloseTo(10, within(1e-9));
+    }
+}
@@ -0,0 +1,74 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.confg.kafka.KafkaTestContainer;
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "demo-kafka.ranking.enabled=true",
+    "demo-kafka.ranking.bucket-size=1d",
+    "demo-kafka.ranking.zone=UTC"
+})
+class RedisRankingSinkIntegrationTest extends KafkaTestContainer {
+    private static final long DAY_1 = Instant.parse("2025-01-01T12:00:00Z").toEpochMilli();
+    private static final long DAY_2 = Instant.parse("2025-01-02T12:00:00Z").toEpochMilli();
+
+    @Autowired
+    private RedisRankingSink<DemoEvent> sink;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    private static DemoEvent event(String id, long timestamp) {
+        return DemoEvent.builder().id(id).message("message").timestamp(timestamp).build();
+    }
+
+    @Test
+    @DisplayName("batch 에 같은 항목의 이벤트가 N 건 있으면, 그 항목의 점수는 N 만큼 오른다")
+    void addsScorePerEvent_whenItemRepeatsInBatch() {
+        // given
+        List<DemoEvent> events = List.of(
+            event("item-a", DAY_1), event("item-a", DAY_1 + 1), event("item-a", DAY_1 + 2), event("item-b", DAY_1)
+        );
+
+        // when
+        sink.write(events, () -> { });
+
+        // then
+        assertThat(sink.coalescible()).isFalse();
+        assertThat(redisTemplate.opsForZSet().score("ranking:all:202501010000", "item-a")).isEqualTo(3.0);
+        assertThat(redisTemplate.opsForZSet().score("ranking:all:202501010000", "item-b")).isEqualTo(1.0);
+        assertThat(redisTemplate.getExpire("ranking:all:202501010000")).isPositive();
+    }
+
+    @Test
+    @DisplayName("이벤트 시각이 속한 구간의 sorted set 에 반영하고, batch 를 나누어 적재해도 점수가 누적된다")
+    void addsScoreToBucketOfEventTime() {
+        // when
+        sink.write(List.of(event("item-a", DAY_1), event("item-a", DAY_2)), () -> { });
+        sink.write(List.of(event("item-a", DAY_2)), () -> { });
+
+        // then
+        assertThat(redisTemplate.opsForZSet().score("ranking:all:202501010000", "item-a")).isEqualTo(1.0);
+        assertThat(redisTemplate.opsForZSet().score("ranking:all:202501020000", "item-a")).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,109 @@
+package com.loopers.integration;
+
+import com.loopers.confg.kafka.KafkaTestContainer;
+import com.loopers.confg.kafka.transaction.KafkaTransactionConfig;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = "kafka.transaction.enabled=true")
+class KafkaTransactionIntegrationTest extends KafkaTestContainer {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+    private String topic;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        ProducerFactory<Object, Object> producerFactory =
+                applicationContext.getBean(KafkaTransactionConfig.TRANSACTIONAL_PRODUCER_FACTORY, ProducerFactory.class);
+        kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        topic = "transaction-test-" + UUID.randomUUID();
+        try (AdminClient admin = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, KAFKA_CONTAINER.getBootstrapServers()))) {
+            admin.createTopics(List.of(new NewTopic(topic, 1, (short) 1))).all().get();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 abort 되면, read_committed consumer 에게는 아무 레코드도 보이지 않는다")
+    void abortedRecordsAreInvisible_toReadCommittedConsumer() {
+        // given
+        IllegalStateException rollback = new IllegalStateException("rollback");
+
+        // when
+        assertThatThrownBy(() -> kafkaTemplate.executeInTransaction(operations -> {
+            operations.send(topic, "key", "aborted");
+            operations.flush();
+            throw rollback;
+        })).isSameAs(rollback);
+
+        // then
+        // abort 된 레코드도 log 에는 남는다. read_uncommitted 로 먼저 확인해, 아래 결과가 아직 도착하지 않아서가 아님을 보장한다.
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(poll("read_uncommitted", Duration.ofSeconds(1))).containsExactly("\"aborted\""));
+        assertThat(poll("read_committed", Duration.ofSeconds(3))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("abort 된 트랜잭션 뒤에 커밋된 트랜잭션이 있으면, read_committed consumer 는 커밋된 레코드만 받는다")
+    void readCommittedConsumer_receivesOnlyCommittedRecords() {
+        // given
+        assertThatThrownBy(() -> kafkaTemplate.executeInTransaction(operations -> {
+            operations.send(topic, "key", "aborted");
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        kafkaTemplate.executeInTransaction(operations -> operations.send(topic, "key", "committed"));
+
+        // then
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(poll("read_committed", Duration.ofSeconds(1))).containsExactly("\"committed\""));
+    }
+
+    private List<String> poll(String isolationLevel, Duration duration) {
+        Map<String, Object> config = Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, KAFKA_CONTAINER.getBootstrapServers(),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                ConsumerConfig.ISOLATION_LEVEL_CONFIG, isolationLevel
+        );
+        List<String> values = new ArrayList<>();
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(config, new StringDeserializer(), new StringDeserializer())) {
+            // group 합류를 기다리지 않도록 파티션을 직접 할당해 처음부터 읽는다.
+            consumer.assign(List.of(new TopicPartition(topic, 0)));
+            long deadline = System.nanoTime() + duration.toNanos();
+            while (System.nanoTime() < deadline) {
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(200))) {
+                    values.add(record.value());
+                }
+            }
+        }
+        return values;
+    }
+}
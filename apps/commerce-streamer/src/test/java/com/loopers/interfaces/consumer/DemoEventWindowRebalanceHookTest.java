@@ -0,0 +1,46 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.application.window.WindowAggregationEngine;
+import com.loopers.domain.event.DemoEvent;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class DemoEventWindowRebalanceHookTest {
+    private static final String TOPIC = "demo.internal.topic-v1";
+
+    @SuppressWarnings("unchecked")
+    private final WindowAggregationEngine<DemoEvent> engine = mock(WindowAggregationEngine.class);
+    private final DemoEventWindowRebalanceHook hook = new DemoEventWindowRebalanceHook(engine, TOPIC);
+
+    @DisplayName("넘겨주는 파티션 중 source topic 의 파티션만 flush 한다.")
+    @Test
+    void flushesRevokedSourcePartitions() {
+        // act
+        hook.beforeRevoke(List.of(
+            new TopicPartition(TOPIC, 0),
+            new TopicPartition(TOPIC + "-retry-1s", 1),
+            new TopicPartition(TOPIC, 2)
+        ));
+
+        // assert
+        verify(engine).flush(List.of(0, 2));
+    }
+
+    @DisplayName("source topic 의 파티션이 없으면, flush 하지 않는다.")
+    @Test
+    void skips_whenNoSourcePartitionIsRevoked() {
+        // act
+        hook.beforeRevoke(List.of(new TopicPartition(TOPIC + "-retry-1s", 0)));
+
+        // assert
+        verify(engine, never()).flush(any());
+    }
+}
@@ -2,6 +2,7 @@ package com.loopers.interfaces.consumer;
 
 import com.loopers.confg.kafka.KafkaTestContainer;
 import com.loopers.domain.event.DemoEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
@@ -29,6 +30,9 @@ class DemoKafkaConsumerTest extends KafkaTestContainer {
     @Autowired
     private DemoKafkaConsumer consumer;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Value("${demo-kafka.test.topic-name}")
     private String topicName;
 
@@ -121,4 +125,29 @@ class DemoKafkaConsumerTest extends KafkaTestContainer {
                 .extracting(DemoEvent::getId)
                 .contains("test-id-0", "test-id-1", "test-id-2", "test-id-3", "test-id-4");
     }
+
+    @Test
+    @DisplayName("Consumer가 배치를 처리하면 batch 크기와 end-to-end 지연 메트릭이 기록된다")
+    void recordsBatchMetrics() {
+        // given
+        DemoEvent event = DemoEvent.builder()
+                .id("metric-id-1")
+                .message("Metric message")
+                .timestamp(System.currentTimeMillis())
+                .build();
+
+        // when
+        testProducer.send(new ProducerRecord<>(topicName, event.getId(), event));
+        testProducer.flush();
+
+        // then
+        await()
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> {
+                    assertThat(meterRegistry.find("kafka.listener.batch.size").summary()).isNotNull();
+                    assertThat(meterRegistry.find("kafka.listener.batch.duration").timer()).isNotNull();
+                    assertThat(meterRegistry.find("kafka.listener.event.latency").tag("topic", topicName).timer())
+                            .isNotNull();
+                });
+    }
 }
@@ -0,0 +1,192 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.window.WindowAggregationEngine;
+import com.loopers.confg.kafka.autoscale.ListenerParallelismRegistry;
+import com.loopers.confg.kafka.metrics.KafkaBatchListenerMetrics;
+import com.loopers.confg.kafka.retry.RetryTopicPublisher;
+import com.loopers.domain.event.DemoEvent;
+import com.loopers.domain.event.DemoEventCoalescer;
+import com.loopers.domain.sink.BatchSink;
+import com.loopers.infrastructure.sink.RedisPipelineBatchSink;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DemoKafkaConsumerWriteTest {
+    private static final String TOPIC = "demo.internal.topic-v1";
+
+    private BatchSink<DemoEvent> sink;
+    private RedisPipelineBatchSink<DemoEvent> stateSink;
+    private RedisPipelineBatchSink<DemoEvent> rankingSink;
+    private RetryTopicPublisher publisher;
+    private Acknowledgment acknowledgment;
+    private DemoKafkaConsumer consumer;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        sink = mock(BatchSink.class);
+        when(sink.name()).thenReturn("demo_event");
+        when(sink.coalescible()).thenReturn(true);
+        publisher = mock(RetryTopicPublisher.class);
+        when(publisher.forward(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(publisher.deadLetter(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        stateSink = mock(RedisPipelineBatchSink.class);
+        when(stateSink.name()).thenReturn("demo_event_redis");
+        when(stateSink.coalescible()).thenReturn(true);
+        rankingSink = mock(RedisPipelineBatchSink.class);
+        when(rankingSink.name()).thenReturn("demo_event_ranking");
+        when(rankingSink.coalescible()).thenReturn(false);
+        ObjectProvider<RedisPipelineBatchSink<DemoEvent>> redisSinks = mock(ObjectProvider.class);
+        when(redisSinks.orderedStream()).thenAnswer(invocation -> Stream.of(stateSink, rankingSink));
+        acknowledgment = mock(Acknowledgment.class);
+
+        consumer = new DemoKafkaConsumer(
+            new DemoEventReader(new ObjectMapper()),
+            mock(KafkaBatchListenerMetrics.class),
+            sink,
+            redisSinks,
+            mock(WindowAggregationEngine.class),
+            publisher,
+            new DemoEventCoalescer(),
+            new ListenerParallelismRegistry(1)
+        );
+        ReflectionTestUtils.setField(consumer, "coalesce", true);
+    }
+
+    private static ConsumerRecord<Object, Object> record(long offset, String value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, "key-" + offset, value);
+    }
+
+    private static String pendingSinks(ConsumerRecord<Object, Object> record) {
+        Header header = record.headers().lastHeader(DemoKafkaConsumer.PENDING_SINKS_HEADER);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    @DisplayName("디코딩할 수 없는 레코드는 재시도 단계를 거치지 않고 DLT 로 보내고, 나머지는 적재한 뒤 ack 한다.")
+    @Test
+    void sendsUndecodableRecordToDlt() {
+        // arrange
+        ConsumerRecord<Object, Object> broken = record(0, "not-json");
+        ConsumerRecord<Object, Object> valid = record(1, "{\"id\":\"1\",\"message\":\"m\",\"timestamp\":1}");
+
+        // act
+        consumer.demoListener(List.of(broken, valid), acknowledgment);
+
+        // assert
+        verify(publisher).deadLetter(eq(broken), any());
+        verify(publisher, never()).forward(any(), any());
+        verify(sink).write(anyList(), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @DisplayName("적재에 실패하면 batch 의 레코드를 재시도 topic 으로 옮기고, 옮긴 뒤 ack 한다.")
+    @Test
+    void forwardsBatchToRetryTopic_whenSinkFails() {
+        // arrange
+        ConsumerRecord<Object, Object> first = record(0, "{\"id\":\"1\",\"message\":\"m\",\"timestamp\":1}");
+        ConsumerRecord<Object, Object> second = record(1, "{\"id\":\"2\",\"message\":\"m\",\"timestamp\":1}");
+        doThrow(new IllegalStateException("db timeout")).when(sink).write(anyList(), any());
+
+        // act
+        consumer.demoListener(List.of(first, second), acknowledgment);
+
+        // assert
+        verify(publisher).forward(eq(first), any(IllegalStateException.class));
+        verify(publisher).forward(eq(second), any(IllegalStateException.class));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("같은 id 의 이벤트가 여러 건이면, 현재 상태 sink 에는 최신 하나만, 점수 sink 에는 모두 넘긴다.")
+    @Test
+    void passesRawEventsToNonCoalescibleSinks() {
+        // arrange
+        List<ConsumerRecord<Object, Object>> records = List.of(
+            record(0, "{\"id\":\"1\",\"message\":\"a\",\"timestamp\":1}"),
+            record(1, "{\"id\":\"1\",\"message\":\"b\",\"timestamp\":2}"),
+            record(2, "{\"id\":\"1\",\"message\":\"c\",\"timestamp\":3}")
+        );
+        ArgumentCaptor<List<DemoEvent>> state = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<DemoEvent>> ranking = ArgumentCaptor.forClass(List.class);
+
+        // act
+        consumer.demoListener(records, acknowledgment);
+
+        // assert
+        verify(stateSink).write(state.capture(), any());
+        verify(rankingSink).write(ranking.capture(), any());
+        assertThat(state.getValue()).extracting(DemoEvent::getMessage).containsExactly("c");
+        assertThat(ranking.getValue()).extracting(DemoEvent::getMessage).containsExactly("a", "b", "c");
+    }
+
+    @DisplayName("뒤쪽 sink 만 실패하면, 실패한 sink 와 그 뒤의 sink 이름만 header 에 남겨 재시도 topic 으로 옮긴다.")
+    @Test
+    void recordsOnlyUnwrittenSinks_whenLaterSinkFails() {
+        // arrange
+        ConsumerRecord<Object, Object> record = record(0, "{\"id\":\"1\",\"message\":\"m\",\"timestamp\":1}");
+        doThrow(new IllegalStateException("redis timeout")).when(stateSink).write(anyList(), any());
+
+        // act
+        consumer.demoListener(List.of(record), acknowledgment);
+
+        // assert
+        verify(publisher).forward(eq(record), any(IllegalStateException.class));
+        verify(rankingSink, never()).write(anyList(), any());
+        assertThat(pendingSinks(record)).isEqualTo("demo_event_redis,demo_event_ranking");
+    }
+
+    @DisplayName("재시도 레코드는 header 에 남은 sink 에만 적재해, 이미 반영된 건수 / 점수를 다시 더하지 않는다.")
+    @Test
+    void retriesOnlyPendingSinks() throws Exception {
+        // arrange
+        ConsumerRecord<Object, Object> record = record(0, "{\"id\":\"1\",\"message\":\"m\",\"timestamp\":1}");
+        record.headers().add(DemoKafkaConsumer.PENDING_SINKS_HEADER,
+            "demo_event_ranking".getBytes(StandardCharsets.UTF_8));
+
+        // act
+        consumer.handleRetry(record);
+
+        // assert
+        verify(sink, never()).write(anyList(), any());
+        verify(stateSink, never()).write(anyList(), any());
+        verify(rankingSink).write(anyList(), any());
+    }
+
+    @DisplayName("재시도에서 다시 실패하면 원래 예외를 던지고, 남은 sink 목록을 header 에 갱신한다.")
+    @Test
+    void updatesPendingSinks_whenRetryFails() {
+        // arrange
+        ConsumerRecord<Object, Object> record = record(0, "{\"id\":\"1\",\"message\":\"m\",\"timestamp\":1}");
+        doThrow(new IllegalStateException("redis timeout")).when(rankingSink).write(anyList(), any());
+
+        // act & assert
+        assertThatThrownBy(() -> consumer.handleRetry(record)).isInstanceOf(IllegalStateException.class);
+        verify(sink).write(anyList(), any());
+        verify(stateSink).write(anyList(), any());
+        assertThat(pendingSinks(record)).isEqualTo("demo_event_ranking");
+    }
+}
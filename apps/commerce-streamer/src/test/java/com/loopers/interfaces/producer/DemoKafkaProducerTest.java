@@ -18,10 +18,13 @@ import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.test.utils.KafkaTestUtils;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 @SpringBootTest
 class DemoKafkaProducerTest extends KafkaTestContainer {
@@ -95,4 +98,35 @@ class DemoKafkaProducerTest extends KafkaTestContainer {
         assertThat(receivedEvent.getTimestamp()).isEqualTo(event.getTimestamp());
     }
 
+    @Test
+    @DisplayName("Producer가 이벤트 묶음을 전송하면 레코드별 전송 결과를 하나의 future로 받을 수 있다")
+    void sendEvents() {
+        // given
+        List<DemoEvent> events = IntStream.range(0, 20)
+                .mapToObj(i -> DemoEvent.builder()
+                        .id("bulk-id-" + i)
+                        .message("Bulk message " + i)
+                        .timestamp(System.currentTimeMillis())
+                        .build())
+                .toList();
+
+        // when
+        List<DemoEventSendResult> results = producer.sendEvents(events).join();
+
+        // then
+        assertThat(results).hasSize(events.size());
+        assertThat(results).allMatch(DemoEventSendResult::isSuccess);
+        assertThat(results)
+                .extracting(DemoEventSendResult::eventId)
+                .containsExactlyElementsOf(events.stream().map(DemoEvent::getId).toList());
+
+        List<String> receivedIds = new ArrayList<>();
+        await()
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> {
+                    testConsumer.poll(Duration.ofMillis(500))
+                            .forEach(record -> receivedIds.add(record.value().getId()));
+                    assertThat(receivedIds).containsAll(events.stream().map(DemoEvent::getId).toList());
+                });
+    }
 }
@@ -0,0 +1,93 @@
+package com.loopers.interfaces.replay;
+
+import com.loopers.interfaces.replay.DemoEventReplayRunner.OffsetRange;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DemoEventReplayRunnerTest {
+    private static final String TOPIC = "demo.events";
+    private static final TopicPartition P0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition P1 = new TopicPartition(TOPIC, 1);
+
+    @SuppressWarnings("unchecked")
+    private final Consumer<String, Object> consumer = mock(Consumer.class);
+
+    @BeforeEach
+    void setUp() {
+        // P0 : [10, 100), P1 : [0, 50)
+        when(consumer.partitionsFor(TOPIC)).thenReturn(List.of(
+            new PartitionInfo(TOPIC, 0, null, null, null),
+            new PartitionInfo(TOPIC, 1, null, null, null)
+        ));
+        when(consumer.beginningOffsets(anyList())).thenReturn(Map.of(P0, 10L, P1, 0L));
+        when(consumer.endOffsets(anyList())).thenReturn(Map.of(P0, 100L, P1, 50L));
+    }
+
+    @DisplayName("시작 위치가 없으면, 파티션마다 beginning offset 부터 end offset 까지 읽는다.")
+    @Test
+    void readsFromBeginning_whenNoStartIsGiven() {
+        // act
+        Map<TopicPartition, OffsetRange> ranges = DemoEventReplayRunner.plan(consumer, TOPIC, null, null);
+
+        // assert
+        assertThat(ranges).containsExactly(
+            Map.entry(P0, new OffsetRange(10, 100)),
+            Map.entry(P1, new OffsetRange(0, 50))
+        );
+    }
+
+    @DisplayName("fromOffset 은 파티션마다 [beginning, end] 범위로 잘라서 쓴다.")
+    @Test
+    void clampsFromOffset_toEachPartitionRange() {
+        // act
+        Map<TopicPartition, OffsetRange> fromFive = DemoEventReplayRunner.plan(consumer, TOPIC, null, 5L);
+        Map<TopicPartition, OffsetRange> fromSixty = DemoEventReplayRunner.plan(consumer, TOPIC, null, 60L);
+
+        // assert
+        assertThat(fromFive).containsExactly(
+            Map.entry(P0, new OffsetRange(10, 100)),
+            Map.entry(P1, new OffsetRange(5, 50))
+        );
+        assertThat(fromSixty).containsExactly(
+            Map.entry(P0, new OffsetRange(60, 100)),
+            Map.entry(P1, new OffsetRange(50, 50))
+        );
+        assertThat(fromSixty.get(P1).size()).isZero();
+    }
+
+    @DisplayName("fromTimestamp 가 있으면 그 시각 이후 첫 offset 부터 읽고, 이후 레코드가 없는 파티션은 읽지 않는다.")
+    @Test
+    void startsFromTimestampOffset_andSkipsPartitionsWithoutLaterRecords() {
+        // arrange
+        Instant from = Instant.parse("2026-10-01T00:00:00Z");
+        Map<TopicPartition, OffsetAndTimestamp> found = new HashMap<>();
+        found.put(P0, new OffsetAndTimestamp(42L, from.toEpochMilli()));
+        found.put(P1, null);
+        when(consumer.offsetsForTimes(anyMap())).thenReturn(found);
+
+        // act
+        Map<TopicPartition, OffsetRange> ranges = DemoEventReplayRunner.plan(consumer, TOPIC, from, 5L);
+
+        // assert
+        assertThat(ranges).containsExactly(
+            Map.entry(P0, new OffsetRange(42, 100)),
+            Map.entry(P1, new OffsetRange(50, 50))
+        );
+    }
+}
@@ -11,6 +11,12 @@ dependencies {
     annotationProcessor("com.querydsl:querydsl-apt::jakarta")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
+    // second-level cache ( jcache + caffeine ) / hibernate statistics -> micrometer
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    // query statistics
+    implementation("io.micrometer:micrometer-core")
     // jdbc-mysql
     runtimeOnly("com.mysql:mysql-connector-j")
 
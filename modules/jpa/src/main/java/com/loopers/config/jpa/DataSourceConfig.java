@@ -1,14 +1,27 @@
 package com.loopers.config.jpa;
 
 import com.zaxxer.hikari.HikariConfig;
+import com.loopers.config.jpa.pool.ConnectionLeakProperties;
+import com.loopers.config.jpa.pool.LeakSamplingDataSource;
+import com.loopers.config.jpa.query.QueryStatsDataSource;
+import com.loopers.config.jpa.query.QueryStatsRecorder;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
 
 @Configuration
+@EnableConfigurationProperties(MySqlReplicaProperties.class)
 class DataSourceConfig {
     @Bean
     @ConfigurationProperties(prefix = "datasource.mysql-jpa.main")
@@ -16,9 +29,47 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
-    @Primary
     @Bean
     HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
+
+    @Bean
+    MySqlReplicas mySqlReplicas(MySqlReplicaProperties replicaProperties) {
+        return new MySqlReplicas(replicaProperties);
+    }
+
+    /**
+     * main 풀의 hikaricp.connections.* metric 은 Spring Boot 가 HikariDataSource bean 에 붙인다. replica 풀은 bean 이 아니므로 여기서 붙인다.
+     */
+    @Bean
+    MeterBinder mySqlReplicaPoolMetrics(MySqlReplicas replicas) {
+        return registry -> replicas.dataSources().stream()
+                .filter(dataSource -> dataSource.getMetricsTrackerFactory() == null && dataSource.getMetricRegistry() == null)
+                .forEach(dataSource -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+
+    /**
+     * 트랜잭션이 시작될 때가 아니라 첫 쿼리 시점에 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싼다.
+     * replica 가 있으면 그 시점의 readOnly 플래그로 main / replica 를 고른다.
+     * 표본 누수 감지는 트랜잭션이 쥐고 있는 커넥션 단위로, 쿼리 통계는 가장 바깥에서 실행되는 SQL 을 기록한다.
+     */
+    @Primary
+    @Bean
+    DataSource mySqlDataSource(
+            @Qualifier("mySqlMainDataSource") HikariDataSource main,
+            MySqlReplicas replicas,
+            ConnectionLeakProperties leakProperties,
+            ObjectProvider<QueryStatsRecorder> queryStatsRecorder,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        DataSource dataSource = replicas.isEmpty()
+                ? new LazyConnectionDataSourceProxy(main)
+                : new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(main, replicas.dataSources(), replicas::isHealthy));
+        if (leakProperties.enabled()) {
+            dataSource = new LeakSamplingDataSource(dataSource, leakProperties.sampleRate(), leakProperties.threshold(), meterRegistry);
+        }
+        QueryStatsRecorder recorder = queryStatsRecorder.getIfAvailable();
+        return recorder != null ? new QueryStatsDataSource(dataSource, recorder) : dataSource;
+    }
 }
@@ -0,0 +1,26 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 MySQL replica 설정. (datasource.mysql-jpa.replicas)
+ *
+ * @param replicas            replica 별 커넥션 풀 설정. 비어 있으면 모든 요청을 main 으로 보낸다.
+ * @param maxReplicationLag   이보다 뒤처진 replica 는 라우팅 대상에서 뺀다.
+ * @param healthCheckInterval replica 복제 지연 확인 주기
+ */
+@ConfigurationProperties(prefix = "datasource.mysql-jpa")
+public record MySqlReplicaProperties(
+        List<HikariConfig> replicas,
+        @DefaultValue("5s") Duration maxReplicationLag,
+        @DefaultValue("5s") Duration healthCheckInterval
+) {
+    public boolean hasReplicas() {
+        return replicas != null && !replicas.isEmpty();
+    }
+}
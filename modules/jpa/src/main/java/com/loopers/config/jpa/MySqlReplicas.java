@@ -0,0 +1,106 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * replica 커넥션 풀 묶음.
+ * <p>
+ * 주기적으로 각 replica 의 복제 지연(SHOW REPLICA STATUS - Seconds_Behind_Source)을 확인해,
+ * maxReplicationLag 를 넘거나 복제가 멈췄거나 연결할 수 없는 replica 를 라우팅에서 뺀다. 지연이 회복되면 다시 넣는다.
+ * (replica 계정에 REPLICATION CLIENT 권한이 필요하다.)
+ */
+@Slf4j
+class MySqlReplicas implements DisposableBean {
+    private final List<HikariDataSource> dataSources;
+    private final long maxLagSeconds;
+    private final AtomicIntegerArray healthy;
+    private final ScheduledExecutorService scheduler;
+
+    MySqlReplicas(MySqlReplicaProperties properties) {
+        this.dataSources = !properties.hasReplicas() ? List.of() : properties.replicas().stream()
+                .map(config -> {
+                    config.setReadOnly(true);
+                    return new HikariDataSource(config);
+                })
+                .toList();
+        this.maxLagSeconds = properties.maxReplicationLag().toSeconds();
+        this.healthy = new AtomicIntegerArray(dataSources.size());
+        for (int i = 0; i < dataSources.size(); i++) {
+            healthy.set(i, 1); // 첫 확인 전에는 정상으로 본다.
+        }
+
+        if (dataSources.isEmpty()) {
+            this.scheduler = null;
+        } else {
+            long interval = properties.healthCheckInterval().toMillis();
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("replica-health").daemon().factory());
+            scheduler.scheduleWithFixedDelay(this::checkAll, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    List<HikariDataSource> dataSources() {
+        return dataSources;
+    }
+
+    boolean isEmpty() {
+        return dataSources.isEmpty();
+    }
+
+    boolean isHealthy(int index) {
+        return healthy.get(index) == 1;
+    }
+
+    void checkAll() {
+        for (int i = 0; i < dataSources.size(); i++) {
+            Long lag = lagSeconds(dataSources.get(i));
+            boolean ok = lag != null && lag <= maxLagSeconds;
+            boolean wasHealthy = healthy.getAndSet(i, ok ? 1 : 0) == 1;
+            if (wasHealthy == ok) {
+                continue;
+            }
+            if (ok) {
+                log.info("[datasource] {} 를 다시 읽기 대상에 넣습니다. (lag={}s)", dataSources.get(i).getPoolName(), lag);
+            } else {
+                log.warn("[datasource] {} 를 읽기 대상에서 뺍니다. (lag={}s, max={}s)", dataSources.get(i).getPoolName(), lag, maxLagSeconds);
+            }
+        }
+    }
+
+    /**
+     * 복제 지연(초). 복제가 멈췄거나 확인할 수 없으면 null.
+     */
+    private static Long lagSeconds(DataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                return null; // replica 로 설정되어 있지 않다.
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? null : lag;
+        } catch (Exception e) {
+            log.debug("[datasource] replica 상태를 확인할 수 없습니다.", e);
+            return null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
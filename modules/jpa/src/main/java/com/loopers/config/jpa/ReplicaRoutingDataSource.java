@@ -0,0 +1,58 @@
+package com.loopers.config.jpa;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * {@code @Transactional(readOnly = true)} 트랜잭션은 정상 replica 중 하나로(round-robin), 나머지는 main 으로 보낸다.
+ * <p>
+ * 트랜잭션이 시작될 때가 아니라 첫 커넥션을 얻을 때 결정하므로, LazyConnectionDataSourceProxy 로 감싸서 써야
+ * readOnly 플래그가 설정된 뒤에 라우팅된다. 정상 replica 가 없으면 읽기도 main 으로 보낸다.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String MAIN = "main";
+
+    private final int replicaCount;
+    private final IntPredicate healthy;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    ReplicaRoutingDataSource(DataSource main, List<? extends DataSource> replicas, IntPredicate healthy) {
+        this.replicaCount = replicas.size();
+        this.healthy = healthy;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(MAIN, main);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(replicaKey(i), replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(main);
+        afterPropertiesSet();
+    }
+
+    static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return MAIN;
+        }
+        int start = Math.floorMod(sequence.getAndIncrement(), replicaCount);
+        for (int i = 0; i < replicaCount; i++) {
+            int candidate = (start + i) % replicaCount;
+            if (healthy.test(candidate)) {
+                return replicaKey(candidate);
+            }
+        }
+        return MAIN;
+    }
+}
@@ -0,0 +1,15 @@
+package com.loopers.config.jpa.bulk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 대량 적재 설정. (jpa.bulk)
+ *
+ * @param chunkSize 몇 건마다 flush / clear 할지. hibernate.jdbc.batch_size 의 배수로 맞춘다.
+ */
+@ConfigurationProperties(prefix = "jpa.bulk")
+public record BulkWriteProperties(
+        @DefaultValue("1000") int chunkSize
+) {
+}
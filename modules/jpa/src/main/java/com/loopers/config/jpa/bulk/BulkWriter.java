@@ -0,0 +1,123 @@
+package com.loopers.config.jpa.bulk;
+
+import com.loopers.domain.AuditEntity;
+import com.loopers.domain.BulkAudit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * import / backfill 처럼 많은 엔티티를 한 번에 저장하는 경로.
+ * <ul>
+ *     <li>{@link #saveAll} : 영속성 컨텍스트를 쓰지만 chunk 마다 flush / clear 해서 1차 캐시와 dirty checking 대상이 쌓이지 않는다.</li>
+ *     <li>{@link #insertAll} / {@link #upsertAll} : StatelessSession 으로 1차 캐시, dirty checking, cascade, callback 없이 바로 실행한다.
+ *     callback 이 없으므로 audit 시각은 여기서 채운다.</li>
+ * </ul>
+ * INSERT 가 JDBC batch 로 묶이려면 INSERT 전에 id 를 알아야 한다. ({@link com.loopers.domain.TsidBaseEntity})
+ * IDENTITY 엔티티는 행마다 INSERT 가 실행되지만, 1차 캐시와 merge 조회 비용은 줄어든다.
+ * 모두 호출한 쪽의 트랜잭션에 참여하고, 없으면 새 트랜잭션으로 실행한다.
+ */
+@Component
+public class BulkWriter {
+    private final EntityManager entityManager;
+    private final SessionFactory sessionFactory;
+    private final DataSource dataSource;
+    private final int chunkSize;
+
+    public BulkWriter(EntityManager entityManager, DataSource dataSource, BulkWriteProperties properties) {
+        this.entityManager = entityManager;
+        this.sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        this.dataSource = dataSource;
+        this.chunkSize = properties.chunkSize();
+    }
+
+    /**
+     * 새 엔티티는 persist, 이미 id 가 있는 엔티티는 merge 한다. 반환되는 엔티티는 clear 된 이후 detached 상태다.
+     */
+    @Transactional
+    public <T> List<T> saveAll(Iterable<T> entities) {
+        PersistenceUnitUtil util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        List<T> saved = new ArrayList<>();
+        int pending = 0;
+        for (T entity : entities) {
+            if (isNew(util.getIdentifier(entity))) {
+                entityManager.persist(entity);
+                saved.add(entity);
+            } else {
+                saved.add(entityManager.merge(entity));
+            }
+            if (++pending == chunkSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
+    }
+
+    /**
+     * StatelessSession 으로 INSERT 한다. 같은 id 가 이미 있으면 예외가 발생한다.
+     */
+    @Transactional
+    public <T extends AuditEntity> long insertAll(Iterable<T> entities) {
+        return write(entities, (session, entity, now) -> {
+            BulkAudit.prepareInsert(entity, now);
+            session.insert(entity);
+        });
+    }
+
+    /**
+     * StatelessSession 으로 UPSERT 한다. (MySQL: INSERT ... ON DUPLICATE KEY UPDATE)
+     * id 가 미리 정해진 엔티티에만 쓸 수 있다. updated_at 만 갱신하고, created_at 은 수정 불가 컬럼이므로 기존 행의 값이 유지된다.
+     */
+    @Transactional
+    public <T extends AuditEntity> long upsertAll(Iterable<T> entities) {
+        return write(entities, (session, entity, now) -> {
+            BulkAudit.prepareUpsert(entity, now);
+            session.upsert(entity);
+        });
+    }
+
+    private <T extends AuditEntity> long write(Iterable<T> entities, RowWriter<T> writer) {
+        // Spring 트랜잭션이 잡은 커넥션을 그대로 써서 같은 트랜잭션으로 커밋 / 롤백되도록 한다.
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        long count = 0;
+        try (StatelessSession session = sessionFactory.withStatelessOptions().connection(connection).openStatelessSession()) {
+            session.setJdbcBatchSize(chunkSize);
+            ZonedDateTime now = ZonedDateTime.now();
+            for (T entity : entities) {
+                writer.write(session, entity, now);
+                count++;
+            }
+            // Spring 이 빌려준 커넥션이라 Hibernate 트랜잭션의 커밋 전 batch 실행이 일어나지 않는다.
+            // 직접 실행하지 않으면 close() 가 마지막 chunk 에 못 미친 나머지 행을 실행하지 않고 버린다.
+            ((SharedSessionContractImplementor) session).getJdbcCoordinator().executeBatch();
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        return count;
+    }
+
+    private static boolean isNew(Object id) {
+        // BaseEntity 는 저장 전 id 가 0 이다.
+        return id == null || (id instanceof Number number && number.longValue() == 0L);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(StatelessSession session, T entity, ZonedDateTime now);
+    }
+}
@@ -0,0 +1,47 @@
+package com.loopers.config.jpa.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+
+import javax.cache.Cache;
+import javax.cache.configuration.MutableConfiguration;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * region 을 크기 제한이 있는 Caffeine cache 로 만든다. (기본 JCache 설정은 크기 제한이 없다.)
+ * <p>
+ * 엔티티 region 이름은 엔티티 클래스 이름이므로, 해당 클래스의 {@link CacheRegion} 으로 크기 / TTL 을 정한다.
+ * update timestamps region 은 query cache 의 정합성을 지키기 위해 버리지 않는다.
+ */
+public class BoundedJCacheRegionFactory extends JCacheRegionFactory {
+    static final long DEFAULT_MAX_SIZE = 10_000;
+    static final long DEFAULT_EXPIRE_AFTER_WRITE_SECONDS = 600;
+
+    @Override
+    protected Cache<Object, Object> createCache(String regionName) {
+        if (regionName.endsWith(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)) {
+            return getCacheManager().createCache(regionName, new MutableConfiguration<>());
+        }
+
+        CacheRegion region = regionOf(regionName);
+        long maxSize = region != null ? region.maxSize() : DEFAULT_MAX_SIZE;
+        long ttlSeconds = region != null ? region.expireAfterWriteSeconds() : DEFAULT_EXPIRE_AFTER_WRITE_SECONDS;
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        configuration.setStatisticsEnabled(true);
+        return getCacheManager().createCache(regionName, configuration);
+    }
+
+    private static CacheRegion regionOf(String regionName) {
+        try {
+            return Class.forName(regionName, false, Thread.currentThread().getContextClassLoader())
+                    .getAnnotation(CacheRegion.class);
+        } catch (ClassNotFoundException e) {
+            return null; // @Cache(region = "...") 로 이름을 바꾼 region, query results region
+        }
+    }
+}
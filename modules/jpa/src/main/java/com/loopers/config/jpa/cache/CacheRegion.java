@@ -0,0 +1,25 @@
+package com.loopers.config.jpa.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 second-level cache region 의 크기와 TTL. {@code @Cacheable} + {@code @Cache} 와 함께 엔티티에 붙인다.
+ * 붙이지 않은 region 은 기본값을 쓴다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CacheRegion {
+
+    /**
+     * region 에 담을 최대 엔티티 수. 넘으면 오래 안 쓴 것부터 버린다.
+     */
+    long maxSize() default BoundedJCacheRegionFactory.DEFAULT_MAX_SIZE;
+
+    /**
+     * 저장 후 이 시간(초)이 지나면 버린다. 다른 경로(native SQL, 다른 애플리케이션)로 바뀐 값을 최대 이만큼 늦게 본다.
+     */
+    long expireAfterWriteSeconds() default BoundedJCacheRegionFactory.DEFAULT_EXPIRE_AFTER_WRITE_SECONDS;
+}
@@ -0,0 +1,10 @@
+package com.loopers.config.jpa.cache;
+
+/**
+ * 이 인스턴스에서 캐시된 엔티티가 수정 / 삭제되어 커밋됐음을 다른 인스턴스에 알린다.
+ * 받은 쪽은 {@link L2CacheInvalidation#evict} 로 자기 캐시에서 지운다.
+ */
+public interface L2CacheBroadcaster {
+
+    void publish(String entityName, Object id);
+}
@@ -0,0 +1,81 @@
+package com.loopers.config.jpa.cache;
+
+import com.loopers.domain.AuditEntity;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * second-level cache 는 인스턴스마다 따로 있으므로, 한 인스턴스에서 바뀐 엔티티를 다른 인스턴스는 TTL 이 지날 때까지 옛 값으로 본다.
+ * 캐시되는 엔티티의 수정 / 삭제가 커밋되면 {@link L2CacheBroadcaster} 로 알리고, 받은 인스턴스는 해당 엔티티만 캐시에서 지운다.
+ * broadcaster bean 이 없으면 TTL 로만 맞춰진다.
+ * <p>
+ * soft delete 는 UPDATE 이므로 READ_WRITE 캐시에는 deleted_at 이 채워진 엔티티가 남는다. 캐시에서 읽은 엔티티에는
+ * {@link AuditEntity#NOT_DELETED} filter 가 적용되지 않아 id 조회가 삭제된 행을 돌려주므로, 삭제가 커밋되면 이 인스턴스의 캐시에서도 지운다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class L2CacheInvalidation implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+    private final SessionFactoryImplementor sessionFactory;
+    private final ObjectProvider<L2CacheBroadcaster> broadcaster;
+
+    public L2CacheInvalidation(EntityManagerFactory entityManagerFactory, ObjectProvider<L2CacheBroadcaster> broadcaster) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.broadcaster = broadcaster;
+
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    public void evict(String entityName, Object id) {
+        sessionFactory.getCache().evictEntityData(entityName, id);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof AuditEntity entity && entity.getDeletedAt() != null) {
+            evict(event.getPersister().getEntityName(), event.getId());
+        }
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        broadcaster.ifAvailable(b -> {
+            try {
+                b.publish(persister.getEntityName(), id);
+            } catch (Exception e) {
+                log.warn("[l2-cache] {}#{} 변경을 다른 인스턴스에 알리지 못했습니다. TTL 이 지나면 맞춰집니다.", persister.getEntityName(), id, e);
+            }
+        });
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+}
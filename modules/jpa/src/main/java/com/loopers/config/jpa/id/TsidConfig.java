@@ -0,0 +1,44 @@
+package com.loopers.config.jpa.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * TSID node 를 설정한다. (jpa.tsid.node-id)
+ * local / test 에서는 지정하지 않으면 호스트 이름으로 정하고, 그 외 profile 에서는 인스턴스 간 충돌을 막기 위해 지정하지 않으면 기동을 실패시킨다.
+ * 인스턴스가 많으면 StatefulSet ordinal 등으로 겹치지 않게 지정한다.
+ */
+@Slf4j
+@Configuration
+class TsidConfig {
+
+    TsidConfig(@Value("${jpa.tsid.node-id:}") String nodeId, Environment environment) {
+        int node;
+        if (nodeId == null || nodeId.isBlank()) {
+            if (!environment.acceptsProfiles(Profiles.of("local", "test"))) {
+                throw new IllegalStateException("jpa.tsid.node-id ( TSID_NODE_ID ) 를 인스턴스마다 다르게 지정해야 합니다.");
+            }
+            String hostname = hostname();
+            node = Math.floorMod(hostname.hashCode(), TsidFactory.MAX_NODE + 1);
+            log.warn("[tsid] jpa.tsid.node-id 가 없어 호스트 이름({})으로 node={} 를 사용합니다. 인스턴스 간 node 가 겹치면 id 가 충돌할 수 있습니다.",
+                    hostname, node);
+        } else {
+            node = Integer.parseInt(nodeId.trim());
+        }
+        TsidFactory.configure(node);
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("호스트 이름을 알 수 없습니다. jpa.tsid.node-id 를 지정해 주세요.", e);
+        }
+    }
+}
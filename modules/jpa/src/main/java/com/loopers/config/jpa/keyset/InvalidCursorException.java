@@ -0,0 +1,12 @@
+package com.loopers.config.jpa.keyset;
+
+/**
+ * 클라이언트가 보낸 cursor 를 해석할 수 없을 때 발생한다.
+ * 쿼리 실행 중의 다른 {@link IllegalArgumentException} 과 구분해 400 으로 응답할 수 있도록 따로 둔다.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(Throwable cause) {
+        super("잘못된 cursor 입니다.", cause);
+    }
+}
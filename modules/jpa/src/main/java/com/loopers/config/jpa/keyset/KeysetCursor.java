@@ -0,0 +1,69 @@
+package com.loopers.config.jpa.keyset;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 마지막 행의 정렬 키 값들을 불투명한 문자열로 바꾼다. (정렬 키 값들을 구분자로 이어 붙인 뒤 base64url)
+ * 클라이언트는 값을 해석하지 않고 그대로 돌려보낸다. 잘못된 cursor 는 {@link InvalidCursorException} 이 발생한다.
+ */
+public final class KeysetCursor {
+    private static final char SEPARATOR = '\u001F';
+
+    private KeysetCursor() {}
+
+    public static String encode(List<?> values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                builder.append(SEPARATOR);
+            }
+            Object value = values.get(i);
+            if (value == null) {
+                throw new IllegalArgumentException("keyset 정렬 키는 null 일 수 없습니다.");
+            }
+            builder.append(value);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static List<Object> decode(String cursor, List<Class<?>> types) {
+        String[] tokens;
+        try {
+            tokens = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR), -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(e);
+        }
+        if (tokens.length != types.size()) {
+            throw new InvalidCursorException(null);
+        }
+        List<Object> values = new ArrayList<>(tokens.length);
+        for (int i = 0; i < tokens.length; i++) {
+            try {
+                values.add(parse(tokens[i], types.get(i)));
+            } catch (RuntimeException e) {
+                throw new InvalidCursorException(e);
+            }
+        }
+        return values;
+    }
+
+    private static Object parse(String token, Class<?> type) {
+        if (type == String.class) return token;
+        if (type == Long.class) return Long.valueOf(token);
+        if (type == Integer.class) return Integer.valueOf(token);
+        if (type == BigDecimal.class) return new BigDecimal(token);
+        if (type == ZonedDateTime.class) return ZonedDateTime.parse(token);
+        if (type == Instant.class) return Instant.parse(token);
+        if (type == LocalDateTime.class) return LocalDateTime.parse(token);
+        if (type == LocalDate.class) return LocalDate.parse(token);
+        throw new IllegalStateException("keyset 정렬 키로 지원하지 않는 타입입니다: " + type);
+    }
+}
@@ -0,0 +1,58 @@
+package com.loopers.config.jpa.keyset;
+
+import com.querydsl.core.types.ConstantImpl;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+
+import java.util.List;
+
+/**
+ * keyset 정렬 키. 모든 컬럼이 같은 방향이어야 (created_at, id) 같은 복합 인덱스를 그대로 (역방향으로) 읽는다.
+ * 마지막 컬럼은 유일해야 한다. (보통 id)
+ */
+public record KeysetOrder(Order direction, List<ComparableExpressionBase<?>> columns) {
+
+    public static KeysetOrder desc(ComparableExpressionBase<?>... columns) {
+        return new KeysetOrder(Order.DESC, List.of(columns));
+    }
+
+    public static KeysetOrder asc(ComparableExpressionBase<?>... columns) {
+        return new KeysetOrder(Order.ASC, List.of(columns));
+    }
+
+    public OrderSpecifier<?>[] orderSpecifiers() {
+        return columns.stream()
+                .map(column -> direction == Order.DESC ? column.desc() : column.asc())
+                .toArray(OrderSpecifier[]::new);
+    }
+
+    public List<Class<?>> types() {
+        return columns.stream().<Class<?>>map(ComparableExpressionBase::getType).toList();
+    }
+
+    /**
+     * cursor 이후의 행. (a, b, c) 내림차순이면
+     * <pre>a <= :a and (a < :a or (a = :a and (b < :b or (b = :b and c < :c))))</pre>
+     * 앞의 a <= :a 는 옵티마이저가 첫 컬럼을 range 조건으로 쓰도록 붙인다.
+     */
+    public BooleanExpression after(List<Object> values) {
+        int last = columns.size() - 1;
+        BooleanExpression predicate = compare(strict(), last, values.get(last));
+        for (int i = last - 1; i >= 0; i--) {
+            predicate = compare(strict(), i, values.get(i)).or(compare(Ops.EQ, i, values.get(i)).and(predicate));
+        }
+        return compare(direction == Order.DESC ? Ops.LOE : Ops.GOE, 0, values.get(0)).and(predicate);
+    }
+
+    private Ops strict() {
+        return direction == Order.DESC ? Ops.LT : Ops.GT;
+    }
+
+    private BooleanExpression compare(Ops op, int index, Object value) {
+        return Expressions.booleanOperation(op, columns.get(index), ConstantImpl.create(value));
+    }
+}
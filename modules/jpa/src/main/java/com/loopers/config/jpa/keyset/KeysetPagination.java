@@ -0,0 +1,42 @@
+package com.loopers.config.jpa.keyset;
+
+import com.loopers.domain.KeysetPage;
+import com.querydsl.jpa.impl.JPAQuery;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * offset / COUNT(*) 없이 마지막으로 본 행의 정렬 키 다음부터 읽는다. 페이지가 깊어져도 첫 페이지와 같은 비용이 든다.
+ * 다음 페이지 여부는 size + 1 건을 읽어 판단한다.
+ * <pre>
+ * KeysetPagination.fetch(
+ *     queryFactory.selectFrom(example),
+ *     KeysetOrder.desc(example.createdAt, example.id),
+ *     row -> List.of(row.getCreatedAt(), row.getId()),
+ *     cursor, size);
+ * </pre>
+ */
+public final class KeysetPagination {
+
+    private KeysetPagination() {}
+
+    /**
+     * @param key    행에서 정렬 키 값을 {@link KeysetOrder#columns()} 순서대로 꺼낸다.
+     * @param cursor 이전 페이지의 {@link KeysetPage#nextCursor()}. 없으면 첫 페이지
+     */
+    public static <T> KeysetPage<T> fetch(JPAQuery<T> query, KeysetOrder order, Function<T, List<?>> key, String cursor, int size) {
+        if (cursor != null && !cursor.isBlank()) {
+            query.where(order.after(KeysetCursor.decode(cursor, order.types())));
+        }
+        List<T> rows = query.orderBy(order.orderSpecifiers())
+                .limit(size + 1L)
+                .fetch();
+
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> content = rows.subList(0, size);
+        return new KeysetPage<>(List.copyOf(content), KeysetCursor.encode(key.apply(content.getLast())));
+    }
+}
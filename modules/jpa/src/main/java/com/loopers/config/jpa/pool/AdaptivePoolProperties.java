@@ -0,0 +1,33 @@
+package com.loopers.config.jpa.pool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * main 커넥션 풀 크기 자동 조절 설정. (datasource.mysql-jpa.adaptive)
+ *
+ * @param minPoolSize      maximum-pool-size 하한
+ * @param maxPoolSize      maximum-pool-size 상한. DB max_connections / 인스턴스 수를 넘지 않게 잡는다.
+ * @param step             한 번에 늘리거나 줄이는 커넥션 수
+ * @param maxAcquireTime   커넥션 획득 평균 대기가 이를 넘으면 풀이 부족한 것으로 본다.
+ * @param maxQueryLatency  쿼리 평균 시간이 이를 넘으면 DB 가 포화된 것으로 보고 늘리지 않는다.
+ * @param scaleDownUsage   사용 중 커넥션 / maximum-pool-size 가 이보다 낮으면 줄인다.
+ * @param stableIntervals  같은 판정이 연속으로 이만큼 나와야 조절한다. (hysteresis)
+ * @param cooldown         조절 후 이 시간 동안은 유지한다.
+ */
+@ConfigurationProperties(prefix = "datasource.mysql-jpa.adaptive")
+public record AdaptivePoolProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10s") Duration interval,
+        @DefaultValue("10") int minPoolSize,
+        @DefaultValue("80") int maxPoolSize,
+        @DefaultValue("5") int step,
+        @DefaultValue("20ms") Duration maxAcquireTime,
+        @DefaultValue("200ms") Duration maxQueryLatency,
+        @DefaultValue("0.5") double scaleDownUsage,
+        @DefaultValue("3") int stableIntervals,
+        @DefaultValue("1m") Duration cooldown
+) {
+}
@@ -0,0 +1,114 @@
+package com.loopers.config.jpa.pool;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * interval 마다 main 풀을 관측해 {@link PoolSizingPolicy} 의 결정대로 maximum-pool-size 를 바꾼다.
+ * <ul>
+ *     <li>획득 대기 : hikaricp.connections.acquire 의 직전 관측 이후 평균</li>
+ *     <li>DB 지연 : jpa.query 의 직전 관측 이후 평균 (쿼리 통계가 꺼져 있으면 0 으로 보고 대기만으로 판단한다.)</li>
+ * </ul>
+ * minimum-idle 은 설정값과 새 크기 중 작은 값으로 맞춘다. (줄일 때 함께 줄이고, 다시 늘리면 설정값까지 되돌린다.)
+ */
+@Slf4j
+public class AdaptivePoolSizer implements SmartLifecycle {
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final PoolSizingPolicy policy;
+    private final Duration interval;
+    private final int configuredMinimumIdle;
+    private final Window acquire = new Window();
+    private final Window query = new Window();
+    private ScheduledExecutorService scheduler;
+
+    public AdaptivePoolSizer(HikariDataSource dataSource, MeterRegistry meterRegistry, AdaptivePoolProperties properties) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.policy = new PoolSizingPolicy(properties);
+        this.interval = properties.interval();
+        this.configuredMinimumIdle = dataSource.getMinimumIdle();
+    }
+
+    void adjust() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return;
+        }
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        PoolSizingPolicy.Observation observation = new PoolSizingPolicy.Observation(
+                acquire.mean(meterRegistry.find("hikaricp.connections.acquire").tag("pool", dataSource.getPoolName()).timers()),
+                query.mean(meterRegistry.find("jpa.query").timers()),
+                pool.getThreadsAwaitingConnection(),
+                pool.getActiveConnections(),
+                config.getMaximumPoolSize()
+        );
+        PoolSizingPolicy.Decision decision = policy.decide(observation, Instant.now());
+        if (!decision.changed()) {
+            return;
+        }
+        config.setMaximumPoolSize(decision.poolSize());
+        config.setMinimumIdle(Math.min(configuredMinimumIdle, decision.poolSize()));
+        log.info("[datasource] {} maximum-pool-size {} -> {} ({}: {})", dataSource.getPoolName(),
+                observation.poolSize(), decision.poolSize(), decision.action(), decision.reason());
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("adaptive-pool").daemon().factory());
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                adjust();
+            } catch (Exception e) {
+                log.warn("[datasource] 커넥션 풀 크기 조절에 실패했습니다.", e);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * 누적 timer 들의 직전 관측 이후 평균.
+     */
+    private static final class Window {
+        private long lastCount;
+        private double lastTotalNanos;
+
+        Duration mean(Collection<Timer> timers) {
+            long count = 0;
+            double totalNanos = 0;
+            for (Timer timer : timers) {
+                count += timer.count();
+                totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+            }
+            long deltaCount = count - lastCount;
+            double deltaNanos = totalNanos - lastTotalNanos;
+            lastCount = count;
+            lastTotalNanos = totalNanos;
+            return deltaCount <= 0 ? Duration.ZERO : Duration.ofNanos((long) (deltaNanos / deltaCount));
+        }
+    }
+}
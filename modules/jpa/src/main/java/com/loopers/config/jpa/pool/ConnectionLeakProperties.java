@@ -0,0 +1,22 @@
+package com.loopers.config.jpa.pool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 표본 커넥션 누수 감지 설정. (datasource.mysql-jpa.leak-detection)
+ *
+ * @param sampleRate 대여 중 stack trace 를 남길 비율 (0 ~ 1). 0 이면 끈다.
+ * @param threshold  이 시간 안에 반납되지 않으면 누수로 의심한다.
+ */
+@ConfigurationProperties(prefix = "datasource.mysql-jpa.leak-detection")
+public record ConnectionLeakProperties(
+        @DefaultValue("0.01") double sampleRate,
+        @DefaultValue("30s") Duration threshold
+) {
+    public boolean enabled() {
+        return sampleRate > 0;
+    }
+}
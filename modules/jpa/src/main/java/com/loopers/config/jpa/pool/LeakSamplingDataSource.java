@@ -0,0 +1,94 @@
+package com.loopers.config.jpa.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 누수 감지. Hikari 의 leak-detection-threshold 는 모든 대여마다 stack trace 를 만들므로,
+ * 대여 중 sampleRate 비율만 골라 stack trace 를 남기고 threshold 안에 반납되지 않으면 대여 위치와 함께 경고한다.
+ * 누수가 반복되는 코드라면 낮은 비율로도 금방 잡힌다. (jpa.connection.leak.suspected)
+ * <p>
+ * 반납된 커넥션의 검사는 취소와 함께 대기열에서 빼서, 대여가 많아도 대기열이 threshold 동안의 대여 수만큼 쌓이지 않게 한다.
+ * 검사 스레드는 DataSource bean 이 내려갈 때 {@link #close()} 로 멈춘다.
+ */
+@Slf4j
+public class LeakSamplingDataSource extends DelegatingDataSource implements AutoCloseable {
+    private final double sampleRate;
+    private final Duration threshold;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    public LeakSamplingDataSource(DataSource target, double sampleRate, Duration threshold, ObjectProvider<MeterRegistry> meterRegistry) {
+        super(target);
+        this.sampleRate = sampleRate;
+        this.threshold = threshold;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("connection-leak").daemon().factory());
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return sample(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return sample(super.getConnection(username, password));
+    }
+
+    private Connection sample(Connection target) {
+        if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return target;
+        }
+        Throwable borrowedAt = new Throwable("connection borrowed by " + Thread.currentThread().getName());
+        ScheduledFuture<?> check = scheduler.schedule(() -> {
+            log.warn("[datasource] 커넥션이 {}ms 넘게 반납되지 않았습니다. 누수가 의심됩니다.", threshold.toMillis(), borrowedAt);
+            meterRegistry.ifAvailable(registry -> registry.counter("jpa.connection.leak.suspected").increment());
+        }, threshold.toMillis(), TimeUnit.MILLISECONDS);
+
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "close" -> check.cancel(false);
+                default -> {
+                }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        });
+    }
+
+    /**
+     * 대기 중인 검사 수. (테스트용)
+     */
+    int pendingChecks() {
+        return scheduler.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
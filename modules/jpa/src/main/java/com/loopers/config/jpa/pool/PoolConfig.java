@@ -0,0 +1,24 @@
+package com.loopers.config.jpa.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({AdaptivePoolProperties.class, ConnectionLeakProperties.class})
+class PoolConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.mysql-jpa.adaptive", name = "enabled", havingValue = "true")
+    AdaptivePoolSizer adaptivePoolSizer(
+            @Qualifier("mySqlMainDataSource") HikariDataSource main,
+            MeterRegistry meterRegistry,
+            AdaptivePoolProperties properties
+    ) {
+        return new AdaptivePoolSizer(main, meterRegistry, properties);
+    }
+}
@@ -0,0 +1,76 @@
+package com.loopers.config.jpa.pool;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 관측된 커넥션 획득 대기 / 쿼리 시간 / 사용량으로 maximum-pool-size 를 결정한다.
+ * <p>
+ * 획득 대기가 길어도 쿼리 시간이 함께 길면 DB 가 병목이므로 늘리지 않는다. (커넥션을 늘리면 DB 경합만 커진다.)
+ * 같은 판정이 {@code stableIntervals} 회 연속으로 나와야 조절하고, 조절 후에는 {@code cooldown} 동안 유지한다.
+ */
+public class PoolSizingPolicy {
+
+    public enum Action { GROW, SHRINK, HOLD }
+
+    public record Observation(Duration acquireTime, Duration queryLatency, int pending, int active, int poolSize) { }
+
+    public record Decision(Action action, int poolSize, String reason) {
+        static Decision hold(Observation observation, String reason) {
+            return new Decision(Action.HOLD, observation.poolSize(), reason);
+        }
+
+        public boolean changed() {
+            return action != Action.HOLD;
+        }
+    }
+
+    private final AdaptivePoolProperties properties;
+    private int starved;
+    private int idle;
+    private Instant lastChangedAt = Instant.MIN;
+
+    public PoolSizingPolicy(AdaptivePoolProperties properties) {
+        this.properties = properties;
+    }
+
+    public synchronized Decision decide(Observation observation, Instant now) {
+        boolean waiting = observation.pending() > 0
+                || observation.acquireTime().compareTo(properties.maxAcquireTime()) > 0;
+        boolean dbSaturated = observation.queryLatency().compareTo(properties.maxQueryLatency()) > 0;
+        boolean underused = observation.pending() == 0
+                && observation.active() < observation.poolSize() * properties.scaleDownUsage();
+
+        starved = waiting && !dbSaturated ? starved + 1 : 0;
+        idle = underused ? idle + 1 : 0;
+
+        if (waiting && dbSaturated) {
+            return Decision.hold(observation, "db saturated (queryLatency=" + observation.queryLatency().toMillis() + "ms)");
+        }
+        if (lastChangedAt.plus(properties.cooldown()).isAfter(now)) {
+            return Decision.hold(observation, "cooldown");
+        }
+
+        Decision decision;
+        if (starved >= properties.stableIntervals()) {
+            decision = observation.poolSize() < properties.maxPoolSize()
+                    ? new Decision(Action.GROW, Math.min(properties.maxPoolSize(), observation.poolSize() + properties.step()),
+                            "pending=" + observation.pending() + ", acquireTime=" + observation.acquireTime().toMillis() + "ms")
+                    : Decision.hold(observation, "upper bound reached");
+        } else if (idle >= properties.stableIntervals()) {
+            decision = observation.poolSize() > properties.minPoolSize()
+                    ? new Decision(Action.SHRINK, Math.max(properties.minPoolSize(), observation.poolSize() - properties.step()),
+                            "active=" + observation.active())
+                    : Decision.hold(observation, "lower bound reached");
+        } else {
+            decision = Decision.hold(observation, "stable");
+        }
+
+        if (decision.changed()) {
+            lastChangedAt = now;
+            starved = 0;
+            idle = 0;
+        }
+        return decision;
+    }
+}
@@ -0,0 +1,91 @@
+package com.loopers.config.jpa.query;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 열린 구간(요청, 트랜잭션, 테스트 등) 동안 실행된 쿼리를 센다. 구간은 중첩될 수 있고, 쿼리는 열린 모든 구간에 기록된다.
+ * <pre>
+ * try (QueryScope scope = QueryScope.open("GET /api/v1/examples")) {
+ *     ...
+ *     scope.count();
+ * }
+ * </pre>
+ */
+public final class QueryScope implements AutoCloseable {
+    private static final ThreadLocal<Deque<QueryScope>> OPEN = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final int MAX_STATEMENTS = 200;
+
+    private final String name;
+    private final Map<String, Integer> repeats = new HashMap<>();
+    private final List<String> statements = new ArrayList<>();
+    private int count;
+
+    private QueryScope(String name) {
+        this.name = name;
+    }
+
+    public static QueryScope open(String name) {
+        QueryScope scope = new QueryScope(name);
+        OPEN.get().push(scope);
+        return scope;
+    }
+
+    /**
+     * @param normalized {@link SqlNormalizer#normalize} 를 거친 SQL
+     */
+    static void record(String normalized) {
+        Deque<QueryScope> scopes = OPEN.get();
+        if (scopes.isEmpty()) {
+            return;
+        }
+        for (QueryScope scope : scopes) {
+            scope.count++;
+            scope.repeats.merge(normalized, 1, Integer::sum);
+            if (scope.statements.size() < MAX_STATEMENTS) {
+                scope.statements.add(normalized);
+            }
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * 실행 순서대로의 정규화된 SQL. (최대 200개)
+     */
+    public List<String> statements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    /**
+     * threshold 번 이상 반복된 SELECT 와 반복 횟수. N+1 의 전형적인 모습이다.
+     */
+    public Map<String, Integer> repeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        repeats.forEach((sql, times) -> {
+            if (times >= threshold && SqlNormalizer.type(sql).equals("select")) {
+                repeated.put(sql, times);
+            }
+        });
+        return repeated;
+    }
+
+    @Override
+    public void close() {
+        OPEN.get().remove(this);
+        if (OPEN.get().isEmpty()) {
+            OPEN.remove();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.config.jpa.query;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(QueryStatsProperties.class)
+@ConditionalOnProperty(prefix = "jpa.query-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+class QueryStatsConfig {
+
+    @Bean
+    QueryStatsRecorder queryStatsRecorder(QueryStatsProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new QueryStatsRecorder(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,109 @@
+package com.loopers.config.jpa.query;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Connection / Statement 를 감싸 실행된 SQL, bind parameter, 실행 시간을 {@link QueryStatsRecorder} 에 넘긴다.
+ * Hibernate 가 만든 SQL 뿐 아니라 native query, JdbcTemplate 도 함께 잡힌다.
+ * 닫을 때 감싼 DataSource 가 닫을 수 있는 것이면 함께 닫는다. (예: {@link com.loopers.config.jpa.pool.LeakSamplingDataSource})
+ */
+public class QueryStatsDataSource extends DelegatingDataSource implements AutoCloseable {
+    private static final Set<String> EXECUTE = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate",
+            "executeBatch", "executeLargeBatch");
+
+    private final QueryStatsRecorder recorder;
+
+    public QueryStatsDataSource(DataSource target, QueryStatsRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(proxy, target, method, args);
+            if (result instanceof Statement statement && !method.getName().equals("unwrap")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return statement(method.getReturnType(), statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private Object statement(Class<?> type, Statement target, String preparedSql) {
+        TreeMap<Integer, Object> parameters = new TreeMap<>();
+        return proxy(type, target, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (EXECUTE.contains(name)) {
+                String sql = preparedSql != null ? preparedSql : args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                long start = System.nanoTime();
+                boolean success = false;
+                try {
+                    Object result = invoke(proxy, target, method, args);
+                    success = true;
+                    return result;
+                } finally {
+                    if (sql != null) {
+                        recorder.record(sql, parameters, System.nanoTime() - start, success);
+                    }
+                }
+            }
+            return invoke(proxy, target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryStatsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        // 프록시 자신과의 비교 / 해시는 프록시 기준으로 한다. (커넥션을 key 로 쓰는 곳이 있다.)
+        switch (method.getName()) {
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            default -> {
+            }
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
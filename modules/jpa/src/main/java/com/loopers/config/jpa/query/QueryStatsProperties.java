@@ -0,0 +1,27 @@
+package com.loopers.config.jpa.query;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 쿼리 통계 설정. (jpa.query-stats)
+ *
+ * @param enabled                 false 면 DataSource 를 감싸지 않는다.
+ * @param slowQueryThreshold      이보다 오래 걸린 쿼리는 경고 로그를 남긴다.
+ * @param logParameters           true 면 느린 쿼리 로그에 bind parameter 값을 함께 남긴다. 개인정보가 로그에 남을 수 있어 기본은 끈다. (개수만 남김)
+ * @param maxSqlTags              jpa.query 의 sql tag 로 쓸 정규화된 SQL 의 최대 개수. 넘으면 나머지는 sql=other 로 묶는다.
+ * @param repeatedQueryThreshold  한 요청 / 트랜잭션에서 같은 SELECT 가 이만큼 반복되면 N+1 로 의심해 경고한다.
+ * @param maxQueriesPerScope      한 요청 / 트랜잭션의 쿼리 수가 이를 넘으면 경고한다.
+ */
+@ConfigurationProperties(prefix = "jpa.query-stats")
+public record QueryStatsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500ms") Duration slowQueryThreshold,
+        @DefaultValue("false") boolean logParameters,
+        @DefaultValue("200") int maxSqlTags,
+        @DefaultValue("10") int repeatedQueryThreshold,
+        @DefaultValue("50") int maxQueriesPerScope
+) {
+}
@@ -0,0 +1,145 @@
+package com.loopers.config.jpa.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JDBC 로 실행된 쿼리를 기록한다.
+ * <ul>
+ *     <li>jpa.query : 정규화된 SQL 별 실행 시간 (tag: sql, type, outcome). sql tag 는 maxSqlTags 개까지만 만들고 나머지는 other 로 묶는다.</li>
+ *     <li>jpa.query.per.scope : 요청 / 트랜잭션 당 쿼리 수 (tag: scope)</li>
+ *     <li>slowQueryThreshold 를 넘긴 쿼리는 경고 로그 (bind parameter 값은 logParameters 를 켠 경우만)</li>
+ *     <li>요청 / 트랜잭션이 끝날 때 같은 SELECT 가 repeatedQueryThreshold 번 이상 반복됐으면 N+1 의심 경고 로그</li>
+ * </ul>
+ * 트랜잭션 구간은 트랜잭션 안의 첫 쿼리에서 열고 트랜잭션이 끝나면 닫는다. 요청 구간은 웹 애플리케이션이 {@link #complete} 로 닫는다.
+ * <p>
+ * 모든 statement 실행마다 호출되므로 Timer 는 한 번만 만들어 재사용하고, bind parameter 는 느린 쿼리일 때만 읽는다.
+ */
+@Slf4j
+public class QueryStatsRecorder {
+    private static final Object TRANSACTION_SCOPE_KEY = new Object();
+    static final String OTHER_SQL = "other";
+
+    private record TimerKey(String sql, String type, boolean success) { }
+
+    private final QueryStatsProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private volatile MeterRegistry meterRegistry;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Set<String> sqlTags = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean sqlTagsExhausted = new AtomicBoolean();
+
+    /**
+     * DataSource 는 MeterRegistry 보다 먼저 만들어지므로, registry 는 첫 쿼리 시점에 찾는다.
+     */
+    public QueryStatsRecorder(QueryStatsProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.properties = properties;
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    /**
+     * @param parameters statement 가 들고 있는 bind parameter (index 순). 호출 중에만 읽고 보관하지 않는다.
+     */
+    void record(String sql, Map<Integer, Object> parameters, long elapsedNanos, boolean success) {
+        openTransactionScope();
+        String normalized = SqlNormalizer.normalize(sql);
+        QueryScope.record(normalized);
+
+        MeterRegistry meterRegistry = meterRegistry();
+        if (meterRegistry != null) {
+            timer(meterRegistry, normalized, SqlNormalizer.type(sql), success).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        if (elapsedNanos >= properties.slowQueryThreshold().toNanos()) {
+            if (properties.logParameters()) {
+                log.warn("[query] slow query {}ms: {} params={}",
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql, new ArrayList<>(parameters.values()));
+            } else {
+                log.warn("[query] slow query {}ms: {} ({} params)", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql, parameters.size());
+            }
+        }
+    }
+
+    private Timer timer(MeterRegistry meterRegistry, String normalized, String type, boolean success) {
+        return timers.computeIfAbsent(new TimerKey(sqlTag(normalized), type, success), key -> Timer.builder("jpa.query")
+                .tag("sql", key.sql())
+                .tag("type", key.type())
+                .tag("outcome", key.success() ? "success" : "error")
+                .register(meterRegistry));
+    }
+
+    /**
+     * literal 이 그대로 들어간 동적 SQL 등으로 문장 종류가 계속 늘어도 meter 수가 maxSqlTags 를 넘지 않도록 한다.
+     */
+    private String sqlTag(String normalized) {
+        if (sqlTags.contains(normalized)) {
+            return normalized;
+        }
+        if (sqlTags.size() < properties.maxSqlTags()) {
+            sqlTags.add(normalized);
+            return normalized;
+        }
+        if (sqlTagsExhausted.compareAndSet(false, true)) {
+            log.warn("[query] 정규화된 SQL 이 {}개를 넘어 이후 새 SQL 은 jpa.query 의 sql tag 를 other 로 묶어 기록합니다.", properties.maxSqlTags());
+        }
+        return OTHER_SQL;
+    }
+
+    /**
+     * 구간을 닫고 쿼리 수를 기록한다. 쿼리가 많거나 N+1 이 의심되면 경고한다.
+     */
+    public void complete(QueryScope scope, String type) {
+        scope.close();
+        if (scope.count() == 0) {
+            return;
+        }
+        MeterRegistry meterRegistry = meterRegistry();
+        if (meterRegistry != null) {
+            DistributionSummary.builder("jpa.query.per.scope")
+                    .tag("scope", type)
+                    .register(meterRegistry)
+                    .record(scope.count());
+        }
+        scope.repeatedSelects(properties.repeatedQueryThreshold()).forEach((sql, times) ->
+                log.warn("[query] {} 에서 같은 쿼리가 {}번 실행됐습니다. N+1 이 의심됩니다: {}", scope.name(), times, sql));
+        if (scope.count() > properties.maxQueriesPerScope()) {
+            log.warn("[query] {} 에서 쿼리가 {}번 실행됐습니다. (max={})", scope.name(), scope.count(), properties.maxQueriesPerScope());
+        }
+    }
+
+    private MeterRegistry meterRegistry() {
+        if (meterRegistry == null) {
+            meterRegistry = meterRegistryProvider.getIfAvailable();
+        }
+        return meterRegistry;
+    }
+
+    private void openTransactionScope() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(TRANSACTION_SCOPE_KEY)) {
+            return;
+        }
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        QueryScope scope = QueryScope.open(name != null ? name : "transaction");
+        TransactionSynchronizationManager.bindResource(TRANSACTION_SCOPE_KEY, scope);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_SCOPE_KEY);
+                complete(scope, "transaction");
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.config.jpa.softdelete;
+
+import com.loopers.domain.AuditEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.util.function.Supplier;
+
+/**
+ * 삭제된 행까지 조회해야 하는 곳(복원, 관리자 조회 등)에서 {@link AuditEntity#NOT_DELETED} filter 를 잠시 끈다.
+ * 이미 영속성 컨텍스트에 올라온 엔티티에는 영향이 없으므로, 트랜잭션 안에서 먼저 호출한다.
+ */
+public final class SoftDeleteFilter {
+
+    private SoftDeleteFilter() {}
+
+    public static <T> T includingDeleted(EntityManager entityManager, Supplier<T> query) {
+        Session session = entityManager.unwrap(Session.class);
+        session.disableFilter(AuditEntity.NOT_DELETED);
+        try {
+            return query.get();
+        } finally {
+            session.enableFilter(AuditEntity.NOT_DELETED);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.loopers.config.jpa.softdelete;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(SoftDeletePurgeProperties.class)
+@ConditionalOnProperty(prefix = "jpa.purge", name = "enabled", havingValue = "true")
+class SoftDeletePurgeConfig {
+
+    @Bean
+    SoftDeletePurger softDeletePurger(
+            EntityManagerFactory entityManagerFactory,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            SoftDeletePurgeProperties properties
+    ) {
+        return new SoftDeletePurger(entityManagerFactory, jdbcTemplate, transactionTemplate, properties);
+    }
+}
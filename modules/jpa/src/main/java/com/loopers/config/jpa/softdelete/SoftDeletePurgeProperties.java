@@ -0,0 +1,29 @@
+package com.loopers.config.jpa.softdelete;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 오래된 soft delete 행 정리 설정. (jpa.purge)
+ *
+ * @param retention     삭제 후 이 기간이 지난 행을 지운다.
+ * @param batchSize     한 트랜잭션에서 지울 행 수. 작을수록 잠금이 짧다.
+ * @param pause         batch 사이 쉬는 시간 (replica 복제 지연 완화)
+ * @param interval      정리 주기
+ * @param archiveSuffix 비어 있지 않으면 지우기 전에 {table}{suffix} 테이블로 옮긴다. (같은 컬럼 구성의 테이블이 있어야 한다.)
+ * @param tables        정리할 테이블. 비어 있으면 AuditEntity 를 상속한 모든 엔티티의 테이블
+ */
+@ConfigurationProperties(prefix = "jpa.purge")
+public record SoftDeletePurgeProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("30d") Duration retention,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("100ms") Duration pause,
+        @DefaultValue("10m") Duration interval,
+        @DefaultValue("") String archiveSuffix,
+        @DefaultValue List<String> tables
+) {
+}
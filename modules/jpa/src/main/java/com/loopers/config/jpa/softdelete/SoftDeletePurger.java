@@ -0,0 +1,126 @@
+package com.loopers.config.jpa.softdelete;
+
+import com.loopers.domain.AuditEntity;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * retention 이 지난 soft delete 행(tombstone)을 주기적으로 지운다.
+ * <p>
+ * deleted_at 순으로 batchSize 개의 id 를 찾고, 그 id 들만 PK 로 지우는 짧은 트랜잭션을 반복한다.
+ * 잠금은 지우는 행에만 걸리고, batch 사이에 pause 만큼 쉰다.
+ * 여러 인스턴스가 동시에 실행해도 같은 행을 지울 뿐이므로 결과는 같다.
+ */
+@Slf4j
+public class SoftDeletePurger implements SmartLifecycle {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SoftDeletePurgeProperties properties;
+    private final Map<String, String> tables; // table -> id column
+    private ScheduledExecutorService scheduler;
+
+    public SoftDeletePurger(
+            EntityManagerFactory entityManagerFactory,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            SoftDeletePurgeProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.tables = tables(entityManagerFactory, properties.tables());
+    }
+
+    private static Map<String, String> tables(EntityManagerFactory entityManagerFactory, List<String> only) {
+        Map<String, String> tables = new LinkedHashMap<>();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel().forEachEntityDescriptor(descriptor -> {
+            if (AuditEntity.class.isAssignableFrom(descriptor.getMappedClass())
+                    && descriptor instanceof AbstractEntityPersister persister
+                    && (only.isEmpty() || only.contains(persister.getTableName()))) {
+                tables.putIfAbsent(persister.getTableName(), persister.getIdentifierColumnNames()[0]);
+            }
+        });
+        return tables;
+    }
+
+    public void purgeAll() {
+        Instant cutoff = Instant.now().minus(properties.retention());
+        tables.keySet().forEach(table -> {
+            try {
+                long purged = purge(table, cutoff);
+                if (purged > 0) {
+                    log.info("[purge] {} 에서 {} 이전에 삭제된 행 {}건을 정리했습니다.", table, cutoff, purged);
+                }
+            } catch (Exception e) {
+                log.warn("[purge] {} 정리에 실패했습니다. 다음 주기에 다시 시도합니다.", table, e);
+            }
+        });
+    }
+
+    /**
+     * cutoff 이전에 삭제된 행을 지운다.
+     */
+    public long purge(String table, Instant cutoff) throws InterruptedException {
+        String id = tables.get(table);
+        // deleted_at 은 UTC 로 저장된다. (hibernate.jdbc.time_zone)
+        LocalDateTime before = LocalDateTime.ofInstant(cutoff, ZoneOffset.UTC);
+        String select = "SELECT " + id + " FROM " + table + " WHERE deleted_at < ? ORDER BY deleted_at, " + id + " LIMIT ?";
+
+        long total = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(select, Long.class, before, properties.batchSize());
+            if (ids.isEmpty()) {
+                return total;
+            }
+            String in = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+            Integer deleted = transactionTemplate.execute(status -> {
+                if (!properties.archiveSuffix().isBlank()) {
+                    jdbcTemplate.update("INSERT INTO " + table + properties.archiveSuffix()
+                            + " SELECT * FROM " + table + " WHERE " + id + " IN (" + in + ")");
+                }
+                return jdbcTemplate.update("DELETE FROM " + table + " WHERE " + id + " IN (" + in + ")");
+            });
+            total += deleted != null ? deleted : 0;
+            if (ids.size() < properties.batchSize()) {
+                return total;
+            }
+            Thread.sleep(properties.pause().toMillis());
+        }
+    }
+
+    @Override
+    public void start() {
+        long interval = properties.interval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("soft-delete-purge").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::purgeAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.loopers.config.jpa.stream;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+
+import java.util.function.Consumer;
+
+/**
+ * 결과를 목록으로 모으지 않고 한 행씩 넘긴다. 행 수와 상관없이 메모리 사용량이 일정하다.
+ * <p>
+ * MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 서버 커서처럼 한 행씩 보낸다. (그 외에는 전부 받아 메모리에 올린다.)
+ * 엔티티를 읽으면 넘긴 뒤 바로 detach 해서 영속성 컨텍스트가 커지지 않게 한다.
+ * action 이 실패하면 (클라이언트 연결 끊김 등) 실행 중인 쿼리를 취소한다. 취소하지 않으면 남은 행을 모두 읽은 뒤에야 닫힌다.
+ * 스트리밍하는 동안 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로, 트랜잭션 안에서 이 쿼리만 실행한다.
+ * readOnly 트랜잭션에서 호출하면 flush 와 엔티티 스냅샷이 함께 빠진다. (HibernateJpaDialect 가 session 에 FlushMode.MANUAL 과 read only 를 건다.)
+ */
+public final class QueryStreams {
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private QueryStreams() {}
+
+    public static <T> long forEach(EntityManager entityManager, JPAQuery<T> query, Consumer<? super T> action) {
+        Session session = entityManager.unwrap(Session.class);
+        @SuppressWarnings("unchecked")
+        Query<T> hibernateQuery = query.createQuery().unwrap(Query.class);
+        hibernateQuery.setFetchSize(MYSQL_STREAMING_FETCH_SIZE);
+
+        long count = 0;
+        Boolean entity = null;
+        try (ScrollableResults<T> rows = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                T row = rows.get();
+                if (entity == null) {
+                    entity = row != null && isEntity(entityManager, row);
+                }
+                try {
+                    action.accept(row);
+                } catch (RuntimeException e) {
+                    session.cancelQuery();
+                    throw e;
+                }
+                if (entity) {
+                    session.detach(row);
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isEntity(EntityManager entityManager, Object row) {
+        return entityManager.getMetamodel().getEntities().stream()
+                .anyMatch(type -> type.getJavaType().isInstance(row));
+    }
+}
@@ -0,0 +1,102 @@
+package com.loopers.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.Getter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import java.time.ZonedDateTime;
+
+/**
+ * 생성/수정/삭제 정보를 자동으로 관리해준다. id 생성 방식은 하위 클래스({@link BaseEntity}, {@link TsidBaseEntity})가 정한다.
+ * 재사용성을 위해 이 외의 컬럼이나 동작은 추가하지 않는다.
+ * <p>
+ * 삭제된 행은 모든 HQL / Criteria / QueryDSL 조회와 id 조회에서 자동으로 빠진다. ({@value #NOT_DELETED} filter)
+ * 삭제된 행까지 봐야 하면 {@code SoftDeleteFilter.includingDeleted} 로 감싼다. native SQL 에는 적용되지 않는다.
+ * <ul>
+ *     <li>조회 인덱스는 deleted_at 을 맨 앞에 둔다. (deleted_at, created_at, id) 이면 deleted_at IS NULL 이 ref 조건이 되고,
+ *     같은 인덱스로 오래된 tombstone 도 찾는다.</li>
+ *     <li>MySQL 에는 partial index 가 없으므로, 살아있는 행만 유일해야 하는 컬럼은 generated column 으로 만든다.
+ *     {@code alive TINYINT AS (IF(deleted_at IS NULL, 1, NULL)) VIRTUAL, UNIQUE (email, alive)} - NULL 은 unique 에서 서로 다른 값으로 본다.</li>
+ * </ul>
+ */
+@MappedSuperclass
+@Getter
+@FilterDef(name = AuditEntity.NOT_DELETED, defaultCondition = "deleted_at is null", autoEnabled = true, applyToLoadByKey = true)
+@Filter(name = AuditEntity.NOT_DELETED)
+public abstract class AuditEntity {
+    public static final String NOT_DELETED = "notDeleted";
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private ZonedDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+
+    @Column(name = "deleted_at")
+    private ZonedDateTime deletedAt;
+
+    /**
+     * 엔티티의 유효성을 검증한다.
+     * 이 메소드는 PrePersist 및 PreUpdate 시점에 호출된다.
+     */
+    protected void guard() {}
+
+    @PrePersist
+    private void prePersist() {
+        prepareInsert(ZonedDateTime.now());
+    }
+
+    @PreUpdate
+    private void preUpdate() {
+        prepareUpdate(ZonedDateTime.now());
+    }
+
+    /**
+     * StatelessSession 은 엔티티 callback 을 실행하지 않으므로, bulk 경로에서는 {@link BulkAudit} 를 통해 직접 호출한다.
+     */
+    void prepareInsert(ZonedDateTime now) {
+        guard();
+
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    void prepareUpdate(ZonedDateTime now) {
+        guard();
+
+        this.updatedAt = now;
+    }
+
+    /**
+     * UPSERT 는 기존 행이면 UPDATE 이므로 updated_at 만 갱신한다. created_at 은 새 행으로 INSERT 될 때를 위해 비어 있을 때만 채운다.
+     */
+    void prepareUpsert(ZonedDateTime now) {
+        guard();
+
+        if (this.createdAt == null) {
+            this.createdAt = now;
+        }
+        this.updatedAt = now;
+    }
+
+    /**
+     * delete 연산은 멱등하게 동작할 수 있도록 한다. (삭제된 엔티티를 다시 삭제해도 동일한 결과가 나오도록)
+     */
+    public void delete() {
+        if (this.deletedAt == null) {
+            this.deletedAt = ZonedDateTime.now();
+        }
+    }
+
+    /**
+     * restore 연산은 멱등하게 동작할 수 있도록 한다. (삭제되지 않은 엔티티를 복원해도 동일한 결과가 나오도록)
+     */
+    public void restore() {
+        if (this.deletedAt != null) {
+            this.deletedAt = null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.loopers.domain;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 엔티티 callback 이 실행되지 않는 bulk 경로(StatelessSession)에서 audit 시각을 채운다.
+ * 엔티티의 공개 API 로 audit 시각을 바꿀 수 없도록, {@link AuditEntity} 의 준비 메소드는 이 클래스를 통해서만 호출한다.
+ */
+public final class BulkAudit {
+
+    private BulkAudit() {}
+
+    public static void prepareInsert(AuditEntity entity, ZonedDateTime now) {
+        entity.prepareInsert(now);
+    }
+
+    public static void prepareUpsert(AuditEntity entity, ZonedDateTime now) {
+        entity.prepareUpsert(now);
+    }
+}
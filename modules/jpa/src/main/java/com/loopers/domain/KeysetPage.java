@@ -0,0 +1,21 @@
+package com.loopers.domain;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset(seek) 방식으로 읽은 한 페이지. 전체 개수는 세지 않는다.
+ *
+ * @param content    이번 페이지의 행
+ * @param nextCursor 다음 페이지를 요청할 때 넘길 cursor. 다음 페이지가 없으면 null
+ */
+public record KeysetPage<T>(List<T> content, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
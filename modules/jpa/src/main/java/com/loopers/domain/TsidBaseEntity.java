@@ -0,0 +1,22 @@
+package com.loopers.domain;
+
+import com.loopers.config.jpa.id.TsidGenerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+/**
+ * INSERT 전에 애플리케이션에서 시간순 64bit id(TSID)를 붙이는 엔티티.
+ * <p>
+ * id 를 미리 알 수 있으므로 Hibernate 가 여러 INSERT 를 JDBC batch 로 묶고, rewriteBatchedStatements 로 multi-row INSERT 가 된다.
+ * id 가 시간순으로 증가하므로 InnoDB clustered index 에 순서대로 추가된다.
+ * 새 엔티티의 id 는 null 이어야 Spring Data 가 merge(SELECT) 없이 persist 한다.
+ */
+@MappedSuperclass
+@Getter
+public abstract class TsidBaseEntity extends AuditEntity {
+
+    @Id
+    @TsidGenerated
+    private Long id;
+}
@@ -0,0 +1,68 @@
+package com.loopers.config.jpa;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+    private final DataSource main = mock(DataSource.class);
+    private final List<DataSource> replicas = List.of(mock(DataSource.class), mock(DataSource.class));
+    private final Set<Integer> ejected = new HashSet<>();
+    private final ReplicaRoutingDataSource routing =
+        new ReplicaRoutingDataSource(main, replicas, index -> !ejected.contains(index));
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @DisplayName("readOnly 가 아닌 트랜잭션은 main 으로 보낸다.")
+    @Test
+    void routesToMain_whenNotReadOnly() {
+        // act
+        Object key = routing.determineCurrentLookupKey();
+
+        // assert
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.MAIN);
+    }
+
+    @DisplayName("readOnly 트랜잭션은 replica 들에 번갈아 보낸다.")
+    @Test
+    void routesReadOnlyToReplicasInTurn() {
+        // arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // act
+        List<Object> keys = IntStream.range(0, 4).mapToObj(i -> routing.determineCurrentLookupKey()).toList();
+
+        // assert
+        assertThat(keys).containsExactly("replica-0", "replica-1", "replica-0", "replica-1");
+    }
+
+    @DisplayName("빠진 replica 는 건너뛰고, 정상 replica 가 없으면 main 으로 보낸다.")
+    @Test
+    void skipsEjectedReplicas() {
+        // arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ejected.add(0);
+
+        // act
+        Object healthyOnly = routing.determineCurrentLookupKey();
+        ejected.add(1);
+        Object noneHealthy = routing.determineCurrentLookupKey();
+
+        // assert
+        assertThat(healthyOnly).isEqualTo("replica-1");
+        assertThat(noneHealthy).isEqualTo(ReplicaRoutingDataSource.MAIN);
+    }
+}
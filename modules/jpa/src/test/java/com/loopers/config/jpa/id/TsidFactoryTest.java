@@ -0,0 +1,92 @@
+package com.loopers.config.jpa.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TsidFactoryTest {
+    private static final long NOW = TsidFactory.EPOCH + 1_000_000L;
+
+    @DisplayName("같은 ms 안에서도 순번으로 서로 다른, 증가하는 id 를 만든다.")
+    @Test
+    void generatesIncreasingIds_withinSameMillisecond() {
+        // arrange
+        TsidFactory factory = new TsidFactory(7, () -> NOW);
+
+        // act
+        long first = factory.next();
+        long second = factory.next();
+
+        // assert
+        assertAll(
+            () -> assertThat(second).isGreaterThan(first),
+            () -> assertThat(TsidFactory.timestampOf(first)).isEqualTo(NOW),
+            () -> assertThat(TsidFactory.nodeOf(first)).isEqualTo(7)
+        );
+    }
+
+    @DisplayName("ms 당 순번(4096)이 넘치면 다음 ms 를 당겨 써서 중복 없이 계속 증가한다.")
+    @Test
+    void borrowsNextMillisecond_whenSequenceOverflows() {
+        // arrange
+        TsidFactory factory = new TsidFactory(1, () -> NOW);
+        Set<Long> ids = new HashSet<>();
+        long last = -1;
+
+        // act
+        for (int i = 0; i < 10_000; i++) {
+            long id = factory.next();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+            ids.add(id);
+        }
+
+        // assert
+        assertAll(
+            () -> assertThat(ids).hasSize(10_000),
+            () -> assertThat(TsidFactory.timestampOf(factory.next())).isEqualTo(NOW + 2)
+        );
+    }
+
+    @DisplayName("시계가 뒤로 가도 이전 id 보다 작은 id 를 만들지 않는다.")
+    @Test
+    void staysMonotonic_whenClockGoesBackwards() {
+        // arrange
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidFactory factory = new TsidFactory(1, clock::get);
+        long before = factory.next();
+
+        // act
+        clock.set(NOW - 5_000);
+        long after = factory.next();
+
+        // assert
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @DisplayName("node 가 다르면 같은 시각, 같은 순번이어도 id 가 다르다.")
+    @Test
+    void generatesDifferentIds_forDifferentNodes() {
+        // act
+        long a = new TsidFactory(1, () -> NOW).next();
+        long b = new TsidFactory(2, () -> NOW).next();
+
+        // assert
+        assertThat(a).isNotEqualTo(b);
+    }
+
+    @DisplayName("node 가 0 ~ 1023 범위를 벗어나면 예외가 발생한다.")
+    @Test
+    void throwsException_whenNodeIsOutOfRange() {
+        // act & assert
+        assertThatThrownBy(() -> new TsidFactory(TsidFactory.MAX_NODE + 1, () -> NOW))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
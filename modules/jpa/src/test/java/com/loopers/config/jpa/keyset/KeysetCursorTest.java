@@ -0,0 +1,52 @@
+package com.loopers.config.jpa.keyset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+    private static final List<Class<?>> TYPES = List.of(ZonedDateTime.class, Long.class);
+
+    @DisplayName("정렬 키 값들을 cursor 로 만들었다가 같은 타입의 값으로 되돌린다.")
+    @Test
+    void decodesEncodedValues() {
+        // arrange
+        ZonedDateTime createdAt = ZonedDateTime.of(2025, 3, 1, 12, 30, 0, 123_456_000, ZoneId.of("UTC"));
+        String cursor = KeysetCursor.encode(List.of(createdAt, 42L));
+
+        // act
+        List<Object> values = KeysetCursor.decode(cursor, TYPES);
+
+        // assert
+        assertThat(values).containsExactly(createdAt, 42L);
+    }
+
+    @DisplayName("cursor 는 URL 에 그대로 넣을 수 있는 문자만 사용한다.")
+    @Test
+    void encodesUrlSafeCursor() {
+        // act
+        String cursor = KeysetCursor.encode(List.of("a/b+c?", 1L));
+
+        // assert
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @DisplayName("정렬 키 개수가 맞지 않거나 해석할 수 없는 cursor 는 InvalidCursorException 이 발생한다.")
+    @Test
+    void throwsException_whenCursorIsInvalid() {
+        // arrange
+        String missingKey = KeysetCursor.encode(List.of(42L));
+        String wrongType = KeysetCursor.encode(List.of("yesterday", 42L));
+
+        // act & assert
+        assertThatThrownBy(() -> KeysetCursor.decode(missingKey, TYPES)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(wrongType, TYPES)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%", TYPES)).isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,93 @@
+package com.loopers.config.jpa.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeakSamplingDataSourceTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private LeakSamplingDataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private LeakSamplingDataSource dataSource(double sampleRate, Duration threshold) throws SQLException {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<MeterRegistry>>getArgument(0).accept(meterRegistry);
+            return null;
+        }).when(provider).ifAvailable(any());
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new LeakSamplingDataSource(target, sampleRate, threshold, provider);
+        return dataSource;
+    }
+
+    private double suspected() {
+        return meterRegistry.counter("jpa.connection.leak.suspected").count();
+    }
+
+    @DisplayName("표본으로 고른 커넥션이 threshold 안에 반납되지 않으면, 누수 의심으로 센다.")
+    @Test
+    void countsSuspectedLeak_whenNotReturnedWithinThreshold() throws SQLException {
+        // arrange
+        LeakSamplingDataSource dataSource = dataSource(1.0, Duration.ofMillis(50));
+
+        // act
+        dataSource.getConnection();
+
+        // assert
+        await().atMost(Duration.ofSeconds(5)).until(() -> suspected() == 1);
+    }
+
+    @DisplayName("threshold 안에 반납하면, 검사를 대기열에서 빼고 누수로 세지 않는다.")
+    @Test
+    void removesCheck_whenReturnedWithinThreshold() throws SQLException {
+        // arrange
+        LeakSamplingDataSource dataSource = dataSource(1.0, Duration.ofMinutes(1));
+        Connection borrowed = dataSource.getConnection();
+
+        // act
+        borrowed.close();
+
+        // assert
+        verify(connection).close();
+        assertThat(dataSource.pendingChecks()).isZero();
+        assertThat(suspected()).isZero();
+    }
+
+    @DisplayName("표본으로 고르지 않은 커넥션은 감싸지 않고 그대로 반환한다.")
+    @Test
+    void returnsTarget_whenNotSampled() throws SQLException {
+        // arrange
+        LeakSamplingDataSource dataSource = dataSource(0.0, Duration.ofMillis(50));
+
+        // act
+        Connection borrowed = dataSource.getConnection();
+
+        // assert
+        assertThat(borrowed).isSameAs(connection);
+        assertThat(dataSource.pendingChecks()).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package com.loopers.config.jpa.pool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PoolSizingPolicyTest {
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final AdaptivePoolProperties properties = new AdaptivePoolProperties(
+        true, Duration.ofSeconds(10), 10, 40, 5,
+        Duration.ofMillis(20), Duration.ofMillis(200), 0.5, 3, Duration.ofMinutes(1)
+    );
+
+    private static PoolSizingPolicy.Observation observation(long acquireMs, long queryMs, int pending, int active, int poolSize) {
+        return new PoolSizingPolicy.Observation(Duration.ofMillis(acquireMs), Duration.ofMillis(queryMs), pending, active, poolSize);
+    }
+
+    private PoolSizingPolicy.Decision observe(PoolSizingPolicy policy, int times, PoolSizingPolicy.Observation observation, Instant now) {
+        PoolSizingPolicy.Decision decision = null;
+        for (int i = 0; i < times; i++) {
+            decision = policy.decide(observation, now.plusSeconds(i));
+        }
+        return decision;
+    }
+
+    @DisplayName("커넥션 획득 대기가 길 때,")
+    @Nested
+    class Starved {
+        @DisplayName("DB 지연이 정상이고 연속으로 관측되면, step 만큼 늘린다.")
+        @Test
+        void grows_whenDbIsHealthy() {
+            // arrange
+            PoolSizingPolicy policy = new PoolSizingPolicy(properties);
+
+            // act
+            PoolSizingPolicy.Decision decision = observe(policy, 3, observation(50, 10, 4, 20, 20), NOW);
+
+            // assert
+            assertThat(decision.action()).isEqualTo(PoolSizingPolicy.Action.GROW);
+            assertThat(decision.poolSize()).isEqualTo(25);
+        }
+
+        @DisplayName("DB 지연도 길면, DB 가 병목이므로 늘리지 않는다.")
+        @Test
+        void holds_whenDbIsSaturated() {
+            // arrange
+            PoolSizingPolicy policy = new PoolSizingPolicy(properties);
+
+            // act
+            PoolSizingPolicy.Decision decision = observe(policy, 5, observation(50, 500, 4, 20, 20), NOW);
+
+            // assert
+            assertThat(decision.changed()).isFalse();
+        }
+
+        @DisplayName("한 번만 관측되면, 조절하지 않는다.")
+        @Test
+        void holds_untilStable() {
+            // arrange
+            PoolSizingPolicy policy = new PoolSizingPolicy(properties);
+
+            // act
+            PoolSizingPolicy.Decision decision = observe(policy, 1, observation(50, 10, 4, 20, 20), NOW);
+
+            // assert
+            assertThat(decision.changed()).isFalse();
+        }
+
+        @DisplayName("상한에 닿으면, 더 늘리지 않는다.")
+        @Test
+        void holds_atUpperBound() {
+            // arrange
+            PoolSizingPolicy policy = new PoolSizingPolicy(properties);
+
+            // act
+            PoolSizingPolicy.Decision decision = observe(policy, 3, observation(50, 10, 4, 40, 40), NOW);
+
+            // assert
+            assertThat(decision.changed()).isFalse();
+        }
+    }
+
+    @DisplayName("조절 직후에는 cooldown 동안 유지하고, 사용량이 낮으면 cooldown 이후 줄인다.")
+    @Test
+    void shrinks_afterCooldown() {
+        // arrange
+        PoolSizingPolicy policy = new PoolSizingPolicy(properties);
+        observe(policy, 3, observation(50, 10, 4, 20, 20), NOW);
+
+        // act
+        PoolSizingPolicy.Decision duringCooldown = observe(policy, 3, observation(0, 10, 0, 2, 25), NOW.plusSeconds(10));
+        PoolSizingPolicy.Decision afterCooldown = observe(policy, 1, observation(0, 10, 0, 2, 25), NOW.plusSeconds(120));
+
+        // assert
+        assertThat(duringCooldown.changed()).isFalse();
+        assertThat(afterCooldown.action()).isEqualTo(PoolSizingPolicy.Action.SHRINK);
+        assertThat(afterCooldown.poolSize()).isEqualTo(20);
+    }
+}
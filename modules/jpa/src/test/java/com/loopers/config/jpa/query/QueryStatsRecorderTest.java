@@ -0,0 +1,124 @@
+package com.loopers.config.jpa.query;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QueryStatsRecorderTest {
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ListAppender<ILoggingEvent> logs = new ListAppender<>();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(QueryStatsRecorder.class);
+
+    @BeforeEach
+    void setUp() {
+        logs.start();
+        logger.addAppender(logs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(logs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private QueryStatsRecorder recorder(boolean logParameters, int maxSqlTags) {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(meterRegistry);
+        return new QueryStatsRecorder(
+            new QueryStatsProperties(true, Duration.ofMillis(500), logParameters, maxSqlTags, 10, 50),
+            provider
+        );
+    }
+
+    private static Map<Integer, Object> parameters(Object... values) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        for (int i = 0; i < values.length; i++) {
+            parameters.put(i + 1, values[i]);
+        }
+        return parameters;
+    }
+
+    @DisplayName("값만 다른 SQL 은 같은 Timer 에 기록한다.")
+    @Test
+    void reusesTimerForSameStatement() {
+        // arrange
+        QueryStatsRecorder recorder = recorder(false, 200);
+
+        // act
+        recorder.record("select * from example where id = 1", parameters(), 1_000, true);
+        recorder.record("select * from example where id = 2", parameters(), 1_000, true);
+
+        // assert
+        assertThat(meterRegistry.find("jpa.query").timers()).hasSize(1);
+        assertThat(meterRegistry.get("jpa.query").tag("sql", "select * from example where id = ?").timer().count()).isEqualTo(2);
+    }
+
+    @DisplayName("정규화된 SQL 이 maxSqlTags 를 넘으면, 새 SQL 은 sql=other 로 묶는다.")
+    @Test
+    void capsSqlTags() {
+        // arrange
+        QueryStatsRecorder recorder = recorder(false, 2);
+
+        // act
+        recorder.record("select * from example", parameters(), 1_000, true);
+        recorder.record("select * from example_detail", parameters(), 1_000, true);
+        recorder.record("select * from example_history", parameters(), 1_000, true);
+        recorder.record("select * from example_audit", parameters(), 1_000, true);
+
+        // assert
+        assertThat(meterRegistry.find("jpa.query").timers())
+            .extracting(timer -> timer.getId().getTag("sql"))
+            .containsExactlyInAnyOrder("select * from example", "select * from example_detail", QueryStatsRecorder.OTHER_SQL);
+        Timer other = meterRegistry.get("jpa.query").tag("sql", QueryStatsRecorder.OTHER_SQL).timer();
+        assertThat(other.count()).isEqualTo(2);
+    }
+
+    @DisplayName("logParameters 가 꺼져 있으면, 느린 쿼리 로그에 bind parameter 값을 남기지 않는다.")
+    @Test
+    void hidesParameters_byDefault() {
+        // arrange
+        QueryStatsRecorder recorder = recorder(false, 200);
+
+        // act
+        recorder.record("select * from member where email = ?", parameters("user@example.com"), SLOW, true);
+
+        // assert
+        assertThat(logs.list).singleElement()
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .satisfies(message -> assertThat(message).doesNotContain("user@example.com").contains("(1 params)"));
+    }
+
+    @DisplayName("logParameters 를 켜면, 느린 쿼리 로그에 bind parameter 값을 남긴다.")
+    @Test
+    void logsParameters_whenEnabled() {
+        // arrange
+        QueryStatsRecorder recorder = recorder(true, 200);
+
+        // act
+        recorder.record("select * from member where email = ?", parameters("user@example.com"), SLOW, true);
+
+        // assert
+        assertThat(logs.list).singleElement()
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .satisfies(message -> assertThat(message).contains("params=[user@example.com]"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.loopers.config.jpa.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlNormalizerTest {
+
+    @DisplayName("값만 다른 SQL 은 같은 문장으로 정규화한다.")
+    @Test
+    void replacesLiterals() {
+        // act
+        String first = SqlNormalizer.normalize("select * from example where id = 1 and name = 'a''b'");
+        String second = SqlNormalizer.normalize("select *  from example\n where id = 42 and name = 'c'");
+
+        // assert
+        assertThat(first).isEqualTo(second).isEqualTo("select * from example where id = ? and name = ?");
+    }
+
+    @DisplayName("IN 절의 parameter 개수가 달라도 같은 문장으로 정규화한다.")
+    @Test
+    void collapsesInList() {
+        // act
+        String normalized = SqlNormalizer.normalize("select e1_0.id from example e1_0 where e1_0.id in (?, ?, ?)");
+
+        // assert
+        assertThat(normalized).isEqualTo("select e1_0.id from example e1_0 where e1_0.id in (?)");
+    }
+
+    @DisplayName("식별자 안의 숫자는 바꾸지 않는다.")
+    @Test
+    void keepsDigitsInIdentifiers() {
+        // act
+        String normalized = SqlNormalizer.normalize("select e1_0.created_at from example e1_0 limit ?");
+
+        // assert
+        assertThat(normalized).isEqualTo("select e1_0.created_at from example e1_0 limit ?");
+    }
+}
@@ -0,0 +1,90 @@
+package com.loopers.config.jpa.stream;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Metamodel;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QueryStreamsTest {
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final Session session = mock(Session.class);
+    @SuppressWarnings("unchecked")
+    private final JPAQuery<String> query = mock(JPAQuery.class);
+    @SuppressWarnings("unchecked")
+    private final ScrollableResults<String> rows = mock(ScrollableResults.class);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jakarta.persistence.Query jpaQuery = mock(jakarta.persistence.Query.class);
+        Query<String> hibernateQuery = mock(Query.class);
+        Metamodel metamodel = mock(Metamodel.class);
+
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        when(metamodel.getEntities()).thenReturn(Set.of());
+        when(query.createQuery()).thenReturn(jpaQuery);
+        when(jpaQuery.unwrap(Query.class)).thenReturn(hibernateQuery);
+        when(hibernateQuery.scroll(ScrollMode.FORWARD_ONLY)).thenReturn(rows);
+        when(rows.next()).thenReturn(true, true, true, false);
+        when(rows.get()).thenReturn("row-1", "row-2", "row-3");
+    }
+
+    @DisplayName("모든 행을 순서대로 넘기고, 넘긴 행 수를 반환한 뒤 결과를 닫는다.")
+    @Test
+    void passesEveryRow_andClosesResults() {
+        // arrange
+        List<String> received = new ArrayList<>();
+
+        // act
+        long count = QueryStreams.forEach(entityManager, query, received::add);
+
+        // assert
+        assertThat(count).isEqualTo(3);
+        assertThat(received).containsExactly("row-1", "row-2", "row-3");
+        verify(rows).close();
+        verify(session, never()).cancelQuery();
+    }
+
+    @DisplayName("action 이 중간에 실패하면, 남은 행을 읽지 않고 쿼리를 취소한 뒤 결과를 닫고 같은 예외를 던진다.")
+    @Test
+    void cancelsQueryAndClosesResults_whenActionThrowsMidStream() {
+        // arrange
+        List<String> received = new ArrayList<>();
+        IllegalStateException failure = new IllegalStateException("client aborted");
+
+        // act & assert
+        assertThatThrownBy(() -> QueryStreams.forEach(entityManager, query, row -> {
+            if (row.equals("row-2")) {
+                throw failure;
+            }
+            received.add(row);
+        })).isSameAs(failure);
+
+        assertThat(received).containsExactly("row-1");
+        InOrder order = inOrder(session, rows);
+        order.verify(session).cancelQuery();
+        order.verify(rows).close();
+        verify(rows, times(2)).next();
+    }
+}
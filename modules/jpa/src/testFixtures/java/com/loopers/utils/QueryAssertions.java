@@ -0,0 +1,34 @@
+package com.loopers.utils;
+
+import com.loopers.config.jpa.query.QueryScope;
+
+import java.util.function.Supplier;
+
+/**
+ * 테스트에서 실행된 쿼리 수를 검증한다. (jpa.query-stats.enabled=true 일 때만 쿼리가 기록된다.)
+ * <pre>
+ * QueryAssertions.assertMaxQueries(2, () -> exampleFacade.getExamples(null, 20));
+ * </pre>
+ */
+public final class QueryAssertions {
+
+    private QueryAssertions() {}
+
+    public static <T> T assertMaxQueries(int max, Supplier<T> action) {
+        try (QueryScope scope = QueryScope.open("test")) {
+            T result = action.get();
+            if (scope.count() > max) {
+                throw new AssertionError("쿼리가 최대 " + max + "번 실행되어야 하지만 " + scope.count() + "번 실행됐습니다.\n"
+                    + String.join("\n", scope.statements()));
+            }
+            return result;
+        }
+    }
+
+    public static void assertMaxQueries(int max, Runnable action) {
+        assertMaxQueries(max, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
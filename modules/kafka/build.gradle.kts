@@ -5,6 +5,10 @@ plugins {
 
 dependencies {
     api("org.springframework.kafka:spring-kafka")
+    // schema 기반 binary codec
+    api("org.apache.avro:avro:${project.properties["avroVersion"]}")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
 
     testImplementation("org.springframework.kafka:spring-kafka-test")
     testImplementation("org.testcontainers:kafka")
@@ -0,0 +1,69 @@
+package com.loopers.confg.kafka;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * AdminClient 로 consumer group 의 파티션별 lag 과 토픽의 파티션 수를 조회한다.
+ * 조회 실패 시 예외를 던지며, 호출 측에서 이번 주기를 건너뛸지 결정한다.
+ */
+public class ConsumerLagInspector implements DisposableBean {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final AdminClient adminClient;
+
+    public ConsumerLagInspector(KafkaProperties kafkaProperties) {
+        this.adminClient = AdminClient.create(kafkaProperties.buildAdminProperties(null));
+    }
+
+    /**
+     * 커밋된 offset 이 있는 파티션에 대해 (log end offset - committed offset) 을 반환한다.
+     */
+    public Map<TopicPartition, Long> lag(String groupId, Collection<String> topics) throws Exception {
+        Map<TopicPartition, OffsetAndMetadata> committed = adminClient.listConsumerGroupOffsets(groupId)
+                .partitionsToOffsetAndMetadata()
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        Map<TopicPartition, OffsetSpec> request = committed.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && topics.contains(entry.getKey().topic()))
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> OffsetSpec.latest()));
+        if (request.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = adminClient.listOffsets(request)
+                .all()
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        Map<TopicPartition, Long> lag = new HashMap<>();
+        endOffsets.forEach((partition, info) ->
+                lag.put(partition, Math.max(0L, info.offset() - committed.get(partition).offset())));
+        return lag;
+    }
+
+    public int partitionCount(Collection<String> topics) throws Exception {
+        Map<String, TopicDescription> descriptions = adminClient.describeTopics(topics)
+                .allTopicNames()
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return descriptions.values().stream()
+                .mapToInt(description -> description.partitions().size())
+                .sum();
+    }
+
+    @Override
+    public void destroy() {
+        adminClient.close();
+    }
+}
@@ -1,7 +1,18 @@
 package com.loopers.confg.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.autoscale.KafkaAutoScalerProperties;
+import com.loopers.confg.kafka.codec.AvroEventCodec;
+import com.loopers.confg.kafka.codec.AvroEventSerializer;
+import com.loopers.confg.kafka.codec.SchemaAwareDeserializer;
+import com.loopers.confg.kafka.metrics.KafkaBatchListenerMetrics;
+import com.loopers.confg.kafka.rebalance.KafkaRebalanceListener;
+import com.loopers.confg.kafka.rebalance.RebalanceHook;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -12,13 +23,15 @@ import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
 import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
+import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @EnableKafka
 @Configuration
-@EnableConfigurationProperties(KafkaProperties.class)
+@EnableConfigurationProperties({KafkaProperties.class, KafkaProducerProfileProperties.class, KafkaConsumerGroupProperties.class})
 public class KafkaConfig {
     public static final String BATCH_LISTENER = "BATCH_LISTENER_DEFAULT";
 
@@ -30,15 +43,33 @@ public class KafkaConfig {
     public static final int MAX_POLL_INTERVAL_MS = 2 * 60 * 1000; // max poll interval = 2m
 
     @Bean
-    public ProducerFactory<Object, Object> producerFactory(KafkaProperties kafkaProperties) {
+    public ProducerFactory<Object, Object> producerFactory(
+            KafkaProperties kafkaProperties,
+            KafkaProducerProfileProperties producerProfileProperties,
+            MeterRegistry meterRegistry,
+            ObjectProvider<AvroEventCodec> avroEventCodec
+    ) {
         Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
-        return new DefaultKafkaProducerFactory<>(props);
+        props.putAll(producerProfileProperties.active()); // linger.ms, batch.size, compression 등 profile 단위 튜닝
+        DefaultKafkaProducerFactory<Object, Object> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        // kafka.codec.type=avro 인 경우, 대상 이벤트는 Avro binary 로 나머지는 기존처럼 JSON 으로 직렬화한다.
+        avroEventCodec.ifAvailable(codec ->
+                producerFactory.setValueSerializer(new AvroEventSerializer(codec, new JsonSerializer<>())));
+        return producerFactory;
     }
 
     @Bean
-    public ConsumerFactory<Object, Object> consumerFactory(KafkaProperties kafkaProperties) {
+    public ConsumerFactory<Object, Object> consumerFactory(
+            KafkaProperties kafkaProperties,
+            MeterRegistry meterRegistry,
+            ObjectProvider<AvroEventCodec> avroEventCodec
+    ) {
         Map<String, Object> props = new HashMap<>(kafkaProperties.buildConsumerProperties());
-        return new DefaultKafkaConsumerFactory<>(props);
+        DefaultKafkaConsumerFactory<Object, Object> consumerFactory = new DefaultKafkaConsumerFactory<>(props);
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        applyValueCodec(consumerFactory, avroEventCodec);
+        return consumerFactory;
     }
 
     @Bean
@@ -51,10 +82,21 @@ public class KafkaConfig {
         return new ByteArrayJsonMessageConverter(objectMapper);
     }
 
+    @Bean
+    public KafkaBatchListenerMetrics kafkaBatchListenerMetrics(MeterRegistry meterRegistry) {
+        return new KafkaBatchListenerMetrics(meterRegistry);
+    }
+
     @Bean(name = BATCH_LISTENER)
     public ConcurrentKafkaListenerContainerFactory<Object, Object> defaultBatchListenerContainerFactory(
             KafkaProperties kafkaProperties,
-            ByteArrayJsonMessageConverter converter
+            KafkaConsumerGroupProperties consumerGroupProperties,
+            KafkaAutoScalerProperties autoScalerProperties,
+            ByteArrayJsonMessageConverter converter,
+            KafkaBatchListenerMetrics batchListenerMetrics,
+            MeterRegistry meterRegistry,
+            ObjectProvider<AvroEventCodec> avroEventCodec,
+            ObjectProvider<RebalanceHook> rebalanceHooks
     ) {
         Map<String, Object> consumerConfig = new HashMap<>(kafkaProperties.buildConsumerProperties());
         consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, MAX_POLLING_SIZE);
@@ -63,13 +105,42 @@ public class KafkaConfig {
         consumerConfig.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, SESSION_TIMEOUT_MS);
         consumerConfig.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, HEARTBEAT_INTERVAL_MS);
         consumerConfig.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, MAX_POLL_INTERVAL_MS);
+        // cooperative-sticky: 이동하는 파티션만 revoke 하므로 배포 중에도 나머지 파티션은 계속 처리된다.
+        consumerConfig.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, consumerGroupProperties.assignorClassNames());
+
+        DefaultKafkaConsumerFactory<Object, Object> consumerFactory = new DefaultKafkaConsumerFactory<>(consumerConfig);
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry)); // commit latency, 파티션별 lag
+        applyValueCodec(consumerFactory, avroEventCodec);
 
         ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(consumerConfig));
+        factory.setConsumerFactory(consumerFactory);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL); // 수동 커밋
         factory.setBatchMessageConverter(new BatchMessagingMessageConverter(converter));
         factory.setConcurrency(3);
         factory.setBatchListener(true);
+        factory.setBatchInterceptor(batchListenerMetrics);
+        factory.getContainerProperties().setConsumerRebalanceListener(
+                new KafkaRebalanceListener(rebalanceHooks.orderedStream().toList(), meterRegistry));
+        if (consumerGroupProperties.staticMembership(autoScalerProperties.enabled())) {
+            // static membership: session timeout(1m) 안에 같은 id 로 돌아오면 rebalance 없이 기존 파티션을 그대로 받는다.
+            factory.setContainerCustomizer(container -> container.getContainerProperties().getKafkaConsumerProperties()
+                    .setProperty(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG,
+                            consumerGroupProperties.instanceIdFor(container.getListenerId())));
+        } else if (consumerGroupProperties.staticMembership()) {
+            // autoscaler 가 concurrency 를 줄이면 멈춘 static member 의 파티션이 session timeout 동안 처리되지 않는다.
+            log.warn("kafka.autoscaler 가 켜져 있어 kafka.consumer.instance-id 를 무시하고 dynamic membership 으로 참여합니다.");
+        }
         return factory;
     }
+
+    /**
+     * schema id 헤더가 있는 메세지는 Avro 로 디코딩하고, 없는 메세지는 기존처럼 String 으로 넘긴다.
+     */
+    private void applyValueCodec(
+            DefaultKafkaConsumerFactory<Object, Object> consumerFactory,
+            ObjectProvider<AvroEventCodec> avroEventCodec
+    ) {
+        avroEventCodec.ifAvailable(codec ->
+                consumerFactory.setValueDeserializer(new SchemaAwareDeserializer(codec, new StringDeserializer())));
+    }
 }
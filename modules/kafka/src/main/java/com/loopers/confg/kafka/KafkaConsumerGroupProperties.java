@@ -0,0 +1,57 @@
+package com.loopers.confg.kafka;
+
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
+import org.apache.kafka.clients.consumer.RangeAssignor;
+import org.apache.kafka.clients.consumer.RoundRobinAssignor;
+import org.apache.kafka.clients.consumer.StickyAssignor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * batch listener consumer 의 group 참여 방식.
+ *
+ * @param assignors  partition.assignment.strategy (cooperative-sticky / sticky / range / round-robin).
+ *                   eager(range 등) group 을 cooperative 로 바꿀 때는 [cooperative-sticky, range] 로 한 번 롤링 배포한 뒤 range 를 뺀다.
+ * @param instanceId static membership 용 인스턴스 식별자. 재시작해도 같은 값이 유지되는 pod 이름 등을 지정한다.
+ *                   비어 있으면 static membership 을 사용하지 않는다.
+ *                   autoscaler 를 켜면 무시한다. static member 는 종료해도 group 을 떠나지 않으므로, concurrency 를 줄일 때 멈춘
+ *                   consumer 의 파티션이 session timeout 이 지날 때까지 아무에게도 할당되지 않는다.
+ */
+@ConfigurationProperties(value = "kafka.consumer")
+public record KafkaConsumerGroupProperties(
+        @DefaultValue("cooperative-sticky") List<String> assignors,
+        String instanceId
+) {
+    public List<String> assignorClassNames() {
+        return assignors.stream()
+                .map(assignor -> switch (assignor) {
+                    case "cooperative-sticky" -> CooperativeStickyAssignor.class.getName();
+                    case "sticky" -> StickyAssignor.class.getName();
+                    case "range" -> RangeAssignor.class.getName();
+                    case "round-robin" -> RoundRobinAssignor.class.getName();
+                    default -> assignor; // class 이름을 직접 지정한 경우
+                })
+                .toList();
+    }
+
+    public boolean staticMembership() {
+        return instanceId != null && !instanceId.isBlank();
+    }
+
+    /**
+     * concurrency 를 자동 조절하는 listener 에 static membership 을 쓸지 여부. autoscaler 가 켜져 있으면 쓰지 않는다.
+     */
+    public boolean staticMembership(boolean autoScaling) {
+        return staticMembership() && !autoScaling;
+    }
+
+    /**
+     * listener 마다 다른 group.instance.id. (concurrency 에 따른 -n 은 container 가 덧붙인다.)
+     * 같은 group 의 listener 가 같은 id 를 쓰면 서로를 fencing 하므로 listener id 를 포함한다.
+     */
+    public String instanceIdFor(String listenerId) {
+        return instanceId + "-" + listenerId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.confg.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * kafka.yml 의 이름이 붙은 producer 설정 묶음(profile).
+ * active-profile 로 지정된 묶음이 spring.kafka.producer 설정 위에 덮어씌워진다.
+ */
+@ConfigurationProperties(value = "kafka.producer")
+public record KafkaProducerProfileProperties(
+        String activeProfile,
+        Map<String, Map<String, String>> profiles
+) {
+    public Map<String, String> active() {
+        if (activeProfile == null || activeProfile.isBlank() || profiles == null) {
+            return Map.of();
+        }
+        Map<String, String> profile = profiles.get(activeProfile);
+        if (profile == null) {
+            throw new IllegalStateException("정의되지 않은 kafka producer profile 입니다: " + activeProfile);
+        }
+        return profile;
+    }
+}
@@ -0,0 +1,101 @@
+package com.loopers.confg.kafka.autoscale;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관측된 lag / batch 처리 시간으로 listener 별 concurrency 와 batch 내부 병렬도를 결정한다.
+ * <p>
+ * 같은 판정이 {@code stableIntervals} 회 연속으로 나와야 조절하고, 조절 후에는 {@code cooldown} 동안 유지하여
+ * 경계 근처에서 확장/축소가 반복(flapping)되지 않도록 한다.
+ * 확장은 concurrency 를 파티션 수까지 먼저 늘리고, 그 이후에 batch 내부 병렬도를 늘린다. 축소는 그 역순이다.
+ */
+public class ConcurrencyScalingPolicy {
+
+    public enum Action { SCALE_UP, SCALE_DOWN, PARALLELIZE, SERIALIZE, HOLD }
+
+    public record Observation(long lag, Duration batchTime, int concurrency, int parallelism, int partitionCount) { }
+
+    public record Decision(Action action, int concurrency, int parallelism, String reason) {
+        static Decision hold(Observation observation, String reason) {
+            return new Decision(Action.HOLD, observation.concurrency(), observation.parallelism(), reason);
+        }
+
+        public boolean changed() {
+            return action != Action.HOLD;
+        }
+    }
+
+    private static final class State {
+        private int overloaded;
+        private int underloaded;
+        private Instant lastChangedAt = Instant.MIN;
+    }
+
+    private final KafkaAutoScalerProperties properties;
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+
+    public ConcurrencyScalingPolicy(KafkaAutoScalerProperties properties) {
+        this.properties = properties;
+    }
+
+    public Decision decide(String listenerId, Observation observation, Instant now) {
+        State state = states.computeIfAbsent(listenerId, id -> new State());
+
+        boolean overloaded = observation.lag() > properties.scaleUpLag()
+                || observation.batchTime().compareTo(properties.maxBatchTime()) > 0;
+        boolean underloaded = observation.lag() < properties.scaleDownLag()
+                && observation.batchTime().compareTo(properties.maxBatchTime().dividedBy(2)) < 0;
+
+        state.overloaded = overloaded ? state.overloaded + 1 : 0;
+        state.underloaded = underloaded ? state.underloaded + 1 : 0;
+
+        if (state.lastChangedAt.plus(properties.cooldown()).isAfter(now)) {
+            return Decision.hold(observation, "cooldown");
+        }
+
+        Decision decision;
+        if (state.overloaded >= properties.stableIntervals()) {
+            decision = scaleUp(observation);
+        } else if (state.underloaded >= properties.stableIntervals()) {
+            decision = scaleDown(observation);
+        } else {
+            decision = Decision.hold(observation, "stable");
+        }
+
+        if (decision.changed()) {
+            state.lastChangedAt = now;
+            state.overloaded = 0;
+            state.underloaded = 0;
+        }
+        return decision;
+    }
+
+    private Decision scaleUp(Observation observation) {
+        int ceiling = Math.min(properties.maxConcurrency(), Math.max(1, observation.partitionCount()));
+        if (observation.concurrency() < ceiling) {
+            return new Decision(Action.SCALE_UP, observation.concurrency() + 1, observation.parallelism(),
+                    "lag=" + observation.lag() + ", batchTime=" + observation.batchTime());
+        }
+        if (observation.parallelism() < properties.maxInBatchParallelism()) {
+            int parallelism = Math.min(properties.maxInBatchParallelism(), observation.parallelism() * 2);
+            return new Decision(Action.PARALLELIZE, observation.concurrency(), parallelism,
+                    "concurrency reached partition count(" + ceiling + ")");
+        }
+        return Decision.hold(observation, "upper bound reached");
+    }
+
+    private Decision scaleDown(Observation observation) {
+        if (observation.parallelism() > 1) {
+            return new Decision(Action.SERIALIZE, observation.concurrency(), Math.max(1, observation.parallelism() / 2),
+                    "lag=" + observation.lag());
+        }
+        if (observation.concurrency() > properties.minConcurrency()) {
+            return new Decision(Action.SCALE_DOWN, observation.concurrency() - 1, observation.parallelism(),
+                    "lag=" + observation.lag());
+        }
+        return Decision.hold(observation, "lower bound reached");
+    }
+}
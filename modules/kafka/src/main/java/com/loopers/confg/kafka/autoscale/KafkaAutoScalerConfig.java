@@ -0,0 +1,53 @@
+package com.loopers.confg.kafka.autoscale;
+
+import com.loopers.confg.kafka.ConsumerLagInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableConfigurationProperties(KafkaAutoScalerProperties.class)
+public class KafkaAutoScalerConfig {
+
+    /**
+     * autoscaler 가 꺼져 있으면 병렬도가 1 에서 바뀌지 않으므로 작업 스레드를 만들지 않는다.
+     */
+    @Bean
+    public ListenerParallelismRegistry listenerParallelismRegistry(KafkaAutoScalerProperties properties) {
+        return new ListenerParallelismRegistry(properties.enabled() ? properties.maxInBatchParallelism() : 1);
+    }
+
+    @EnableScheduling
+    @Configuration
+    @ConditionalOnProperty(prefix = "kafka.autoscaler", name = "enabled", havingValue = "true")
+    static class AutoScalerConfiguration {
+
+        @Bean
+        public ConsumerLagInspector autoScalerLagInspector(KafkaProperties kafkaProperties) {
+            return new ConsumerLagInspector(kafkaProperties);
+        }
+
+        @Bean
+        public KafkaConsumerAutoScaler kafkaConsumerAutoScaler(
+                KafkaListenerEndpointRegistry listenerEndpointRegistry,
+                ConsumerLagInspector autoScalerLagInspector,
+                ListenerParallelismRegistry listenerParallelismRegistry,
+                KafkaAutoScalerProperties properties,
+                MeterRegistry meterRegistry
+        ) {
+            return new KafkaConsumerAutoScaler(
+                    listenerEndpointRegistry,
+                    autoScalerLagInspector,
+                    new ConcurrencyScalingPolicy(properties),
+                    listenerParallelismRegistry,
+                    properties,
+                    meterRegistry
+            );
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.loopers.confg.kafka.autoscale;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * lag 기반 consumer concurrency 자동 조절 설정.
+ *
+ * @param listenerIds      조절 대상 listener id (비어있으면 등록된 모든 listener container)
+ * @param scaleUpLag       이 값을 넘는 lag 이 stableIntervals 회 연속 관측되면 확장한다.
+ * @param scaleDownLag     이 값 미만의 lag 이 stableIntervals 회 연속 관측되면 축소한다.
+ * @param maxBatchTime     batch 처리 시간이 이 값을 넘으면 lag 과 무관하게 과부하로 본다.
+ * @param stableIntervals  확장/축소 전 연속으로 같은 판정이 나와야 하는 횟수 (hysteresis)
+ * @param cooldown         조절 직후 다음 조절까지 최소 대기 시간
+ * @param maxInBatchParallelism concurrency 가 파티션 수에 도달한 뒤 허용할 batch 내부 병렬도 상한
+ */
+@ConfigurationProperties(value = "kafka.autoscaler")
+public record KafkaAutoScalerProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("30s") Duration interval,
+        List<String> listenerIds,
+        @DefaultValue("1") int minConcurrency,
+        @DefaultValue("12") int maxConcurrency,
+        @DefaultValue("10000") long scaleUpLag,
+        @DefaultValue("1000") long scaleDownLag,
+        @DefaultValue("30s") Duration maxBatchTime,
+        @DefaultValue("3") int stableIntervals,
+        @DefaultValue("2m") Duration cooldown,
+        @DefaultValue("1") int maxInBatchParallelism
+) {
+    public boolean targets(String listenerId) {
+        return listenerIds == null || listenerIds.isEmpty() || listenerIds.contains(listenerId);
+    }
+}
@@ -0,0 +1,161 @@
+package com.loopers.confg.kafka.autoscale;
+
+import com.loopers.confg.kafka.ConsumerLagInspector;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주기적으로 listener container 별 lag 과 batch 처리 시간을 관측하여 concurrency / batch 내부 병렬도를 조절한다.
+ * <p>
+ * concurrency 변경은 container 를 재시작해야 반영되므로 rebalance 가 동반된다. 잦은 재시작을 막기 위해
+ * {@link ConcurrencyScalingPolicy} 의 hysteresis / cooldown 을 거친 결정만 반영한다.
+ * 모든 결정은 로그와 kafka.listener.autoscaler.* 메트릭으로 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class KafkaConsumerAutoScaler {
+    private static final String LISTENER_TIMER = "spring.kafka.listener"; // spring-kafka 가 기록하는 listener 처리 시간
+
+    private record TimerSnapshot(long count, double totalNanos) { }
+
+    private final KafkaListenerEndpointRegistry listenerEndpointRegistry;
+    private final ConsumerLagInspector lagInspector;
+    private final ConcurrencyScalingPolicy policy;
+    private final ListenerParallelismRegistry parallelismRegistry;
+    private final KafkaAutoScalerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TimerSnapshot> timerSnapshots = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> lags = new ConcurrentHashMap<>();
+
+    @Scheduled(
+            initialDelayString = "${kafka.autoscaler.interval:30s}",
+            fixedDelayString = "${kafka.autoscaler.interval:30s}"
+    )
+    public void evaluate() {
+        for (MessageListenerContainer container : listenerEndpointRegistry.getListenerContainers()) {
+            String listenerId = container.getListenerId();
+            if (!(container instanceof ConcurrentMessageListenerContainer<?, ?> concurrentContainer)
+                    || !properties.targets(listenerId)
+                    || !container.isRunning()
+                    || isBackpressured(container)) {
+                continue;
+            }
+            try {
+                evaluate(listenerId, concurrentContainer);
+            } catch (Exception e) {
+                log.warn("[autoscaler] listener={} 관측에 실패하여 이번 주기를 건너뜁니다.", listenerId, e);
+            }
+        }
+    }
+
+    private void evaluate(String listenerId, ConcurrentMessageListenerContainer<?, ?> container) throws Exception {
+        String[] topics = container.getContainerProperties().getTopics();
+        if (topics == null || topics.length == 0) {
+            return; // topic pattern / 수동 할당 container 는 대상이 아니다.
+        }
+
+        long lag = lagInspector.lag(container.getGroupId(), List.of(topics)).values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        registerGauges(listenerId, container).set(lag);
+
+        ConcurrencyScalingPolicy.Observation observation = new ConcurrencyScalingPolicy.Observation(
+                lag,
+                recentBatchTime(listenerId),
+                container.getConcurrency(),
+                parallelismRegistry.parallelism(listenerId),
+                lagInspector.partitionCount(List.of(topics))
+        );
+        ConcurrencyScalingPolicy.Decision decision = policy.decide(listenerId, observation, Instant.now());
+        if (!decision.changed()) {
+            log.debug("[autoscaler] listener={} hold ({}) - {}", listenerId, decision.reason(), observation);
+            return;
+        }
+
+        log.info("[autoscaler] listener={} {} concurrency {} -> {}, parallelism {} -> {} ({})",
+                listenerId, decision.action(),
+                observation.concurrency(), decision.concurrency(),
+                observation.parallelism(), decision.parallelism(),
+                decision.reason());
+        meterRegistry.counter("kafka.listener.autoscaler.decisions",
+                "listener", listenerId, "action", decision.action().name()).increment();
+        apply(listenerId, container, decision);
+    }
+
+    private void apply(
+            String listenerId,
+            ConcurrentMessageListenerContainer<?, ?> container,
+            ConcurrencyScalingPolicy.Decision decision
+    ) {
+        parallelismRegistry.update(listenerId, decision.parallelism());
+        if (decision.concurrency() != container.getConcurrency()) {
+            container.stop(() -> {
+                container.setConcurrency(decision.concurrency());
+                container.start();
+            });
+        }
+    }
+
+    /**
+     * backpressure 로 파티션이 멈춘 동안 쌓이는 lag 은 처리 능력 부족이 아니므로 확장 근거로 쓰지 않는다.
+     */
+    private boolean isBackpressured(MessageListenerContainer container) {
+        Collection<TopicPartition> assigned = container.getAssignedPartitions();
+        return assigned != null && assigned.stream().anyMatch(container::isPartitionPauseRequested);
+    }
+
+    /**
+     * 직전 관측 이후 처리된 batch 들의 평균 처리 시간.
+     */
+    private Duration recentBatchTime(String listenerId) {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find(LISTENER_TIMER).timers()) {
+            String name = timer.getId().getTag("name"); // child container 이름 = {listenerId}-{n}
+            if (name != null && name.startsWith(listenerId + "-")) {
+                count += timer.count();
+                totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+            }
+        }
+
+        TimerSnapshot previous = timerSnapshots.put(listenerId, new TimerSnapshot(count, totalNanos));
+        if (previous == null || count <= previous.count()) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) ((totalNanos - previous.totalNanos()) / (count - previous.count())));
+    }
+
+    private AtomicLong registerGauges(String listenerId, ConcurrentMessageListenerContainer<?, ?> container) {
+        return lags.computeIfAbsent(listenerId, id -> {
+            AtomicLong lag = new AtomicLong();
+            Gauge.builder("kafka.listener.autoscaler.lag", lag, AtomicLong::get)
+                    .tag("listener", id)
+                    .register(meterRegistry);
+            Gauge.builder("kafka.listener.autoscaler.concurrency", container, c -> c.getConcurrency())
+                    .tag("listener", id)
+                    .register(meterRegistry);
+            Gauge.builder("kafka.listener.autoscaler.parallelism", parallelismRegistry, r -> r.parallelism(id))
+                    .tag("listener", id)
+                    .register(meterRegistry);
+            return lag;
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.loopers.confg.kafka.autoscale;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * listener 별 batch 내부 병렬도.
+ * autoscaler 가 갱신하고, batch listener 는 {@link #dispatch} 로 batch 를 key 별로 나누어 그 병렬도만큼 동시에 처리한다.
+ * autoscaler 가 꺼져 있으면 항상 1 (순차 처리) 이다.
+ * <p>
+ * 작업 스레드는 maxParallelism 개로 제한되며, 모두 사용 중이면 listener 스레드가 직접 처리한다. (CallerRunsPolicy)
+ */
+public class ListenerParallelismRegistry implements AutoCloseable {
+    private final Map<String, Integer> parallelism = new ConcurrentHashMap<>();
+    private final int maxParallelism;
+    private final ExecutorService executor;
+
+    public ListenerParallelismRegistry(int maxParallelism) {
+        this.maxParallelism = Math.max(1, maxParallelism);
+        if (this.maxParallelism > 1) {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                this.maxParallelism, this.maxParallelism, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                Thread.ofPlatform().name("kafka-batch-worker-", 0).daemon().factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+            );
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+        } else {
+            this.executor = null;
+        }
+    }
+
+    public int parallelism(String listenerId) {
+        return parallelism.getOrDefault(listenerId, 1);
+    }
+
+    void update(String listenerId, int value) {
+        parallelism.put(listenerId, Math.min(maxParallelism, Math.max(1, value)));
+    }
+
+    /**
+     * items 를 key 의 hash 로 현재 병렬도만큼 나누어 action 을 동시에 실행하고, 모두 끝날 때까지 기다린다.
+     * 같은 key 는 항상 같은 묶음에 원래 순서대로 담기므로 key 안의 처리 순서는 유지된다.
+     * 병렬도가 1 이면 나누지 않고 호출한 스레드에서 그대로 실행한다.
+     * action 이 던진 예외는 모든 묶음이 끝난 뒤 다시 던진다. (나머지는 suppressed)
+     */
+    public <T> void dispatch(String listenerId, List<T> items, Function<? super T, ?> keyOf, Consumer<List<T>> action) {
+        int n = executor == null ? 1 : Math.min(parallelism(listenerId), items.size());
+        if (n <= 1) {
+            action.accept(items);
+            return;
+        }
+
+        List<List<T>> groups = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            groups.add(new ArrayList<>());
+        }
+        for (T item : items) {
+            groups.get(Math.floorMod(Objects.hashCode(keyOf.apply(item)), n)).add(item);
+        }
+
+        List<CompletableFuture<Void>> futures = groups.stream()
+            .filter(group -> !group.isEmpty())
+            .map(group -> CompletableFuture.runAsync(() -> action.accept(group), executor))
+            .toList();
+
+        RuntimeException failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtime ? runtime : e;
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.loopers.confg.kafka.backpressure;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 포화 신호로 listener 별 일시 정지 / 재개를 결정한다.
+ * <p>
+ * 신호 하나라도 임계치를 넘으면 멈추고, 모든 신호가 (임계치 * resumeRatio) 아래로 내려온 뒤
+ * minPause 가 지나야 재개하여, 경계 근처에서 정지/재개가 반복되지 않도록 한다.
+ * <p>
+ * 신호가 회복되지 않아도 maxPause 가 지나면 재개한다. 잘못 읽힌 신호 하나로 소비가 무기한 멈추지 않도록 하기 위함이며,
+ * 강제 재개 후 minPause 동안은 다시 멈추지 않아 그 사이 lag 을 일부라도 처리한다.
+ */
+public class BackpressurePolicy {
+
+    public enum Action { PAUSE, RESUME, HOLD }
+
+    public record Signals(double pendingConnections, Duration sinkLatency, double heapUsage) { }
+
+    public record Decision(Action action, String reason) {
+        static Decision hold(String reason) {
+            return new Decision(Action.HOLD, reason);
+        }
+
+        public boolean changed() {
+            return action != Action.HOLD;
+        }
+    }
+
+    private final KafkaBackpressureProperties properties;
+    private final Map<String, Instant> pausedAt = new ConcurrentHashMap<>();
+    private final Map<String, Instant> forcedResumeAt = new ConcurrentHashMap<>();
+
+    public BackpressurePolicy(KafkaBackpressureProperties properties) {
+        this.properties = properties;
+    }
+
+    public Decision decide(String listenerId, Signals signals, Instant now) {
+        Instant since = pausedAt.get(listenerId);
+        if (since == null) {
+            String saturated = saturatedSignal(signals, 1.0);
+            if (saturated == null) {
+                return Decision.hold("running");
+            }
+            Instant forced = forcedResumeAt.get(listenerId);
+            if (forced != null && Duration.between(forced, now).compareTo(properties.minPause()) < 0) {
+                return Decision.hold("forced resume");
+            }
+            forcedResumeAt.remove(listenerId);
+            pausedAt.put(listenerId, now);
+            return new Decision(Action.PAUSE, saturated);
+        }
+
+        if (Duration.between(since, now).compareTo(properties.minPause()) < 0) {
+            return Decision.hold("min pause");
+        }
+        String notRecovered = saturatedSignal(signals, properties.resumeRatio());
+        if (notRecovered != null) {
+            if (Duration.between(since, now).compareTo(properties.maxPause()) < 0) {
+                return Decision.hold(notRecovered);
+            }
+            pausedAt.remove(listenerId);
+            forcedResumeAt.put(listenerId, now);
+            return new Decision(Action.RESUME, "max pause (" + notRecovered + ")");
+        }
+        pausedAt.remove(listenerId);
+        return new Decision(Action.RESUME, "recovered");
+    }
+
+    public boolean isPaused(String listenerId) {
+        return pausedAt.containsKey(listenerId);
+    }
+
+    /**
+     * (임계치 * ratio) 를 넘은 첫 신호 이름. 모두 아래면 null.
+     */
+    private String saturatedSignal(Signals signals, double ratio) {
+        if (signals.pendingConnections() > properties.maxPendingConnections() * ratio) {
+            return "db-pool";
+        }
+        if (signals.sinkLatency().toNanos() > properties.maxSinkLatency().toNanos() * ratio) {
+            return "sink-latency";
+        }
+        if (signals.heapUsage() > properties.maxHeapUsage() * ratio) {
+            return "heap";
+        }
+        return null;
+    }
+}
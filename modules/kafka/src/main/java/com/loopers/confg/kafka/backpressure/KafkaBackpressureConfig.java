@@ -0,0 +1,31 @@
+package com.loopers.confg.kafka.backpressure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@EnableScheduling
+@Configuration
+@EnableConfigurationProperties(KafkaBackpressureProperties.class)
+@ConditionalOnProperty(prefix = "kafka.backpressure", name = "enabled", havingValue = "true")
+public class KafkaBackpressureConfig {
+
+    @Bean
+    public KafkaBackpressureController kafkaBackpressureController(
+            KafkaListenerEndpointRegistry listenerEndpointRegistry,
+            KafkaBackpressureProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new KafkaBackpressureController(
+                listenerEndpointRegistry,
+                new SaturationProbe(meterRegistry, properties.sinkTimer(), properties.heapStaleAfter()),
+                new BackpressurePolicy(properties),
+                properties,
+                meterRegistry
+        );
+    }
+}
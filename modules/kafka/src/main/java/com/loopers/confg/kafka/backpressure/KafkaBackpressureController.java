@@ -0,0 +1,127 @@
+package com.loopers.confg.kafka.backpressure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * downstream(DB pool / sink / heap) 이 포화되면 listener container 의 파티션을 일시 정지하고, 회복되면 재개한다.
+ * <p>
+ * 파티션 정지 중에도 consumer 는 계속 poll 하므로(빈 결과) max.poll.interval 을 넘기지 않고 group 에 남아 rebalance 가 일어나지 않는다.
+ * 정지는 다음 poll 부터 반영되므로, 이미 받은 batch 는 끝까지 처리한다.
+ * 정지 시간은 kafka.listener.backpressure.paused (LongTaskTimer), 정지 횟수는 kafka.listener.backpressure.pauses 로 남긴다.
+ */
+@Slf4j
+public class KafkaBackpressureController {
+
+    private final KafkaListenerEndpointRegistry listenerEndpointRegistry;
+    private final SaturationProbe probe;
+    private final BackpressurePolicy policy;
+    private final KafkaBackpressureProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, LongTaskTimer.Sample> pauses = new ConcurrentHashMap<>();
+    private volatile BackpressurePolicy.Signals lastSignals = new BackpressurePolicy.Signals(0, Duration.ZERO, 0);
+
+    public KafkaBackpressureController(
+            KafkaListenerEndpointRegistry listenerEndpointRegistry,
+            SaturationProbe probe,
+            BackpressurePolicy policy,
+            KafkaBackpressureProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+        this.probe = probe;
+        this.policy = policy;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("kafka.listener.backpressure.signal", this, c -> c.lastSignals.pendingConnections())
+                .tag("signal", "db-pool")
+                .register(meterRegistry);
+        Gauge.builder("kafka.listener.backpressure.signal", this, c -> c.lastSignals.sinkLatency().toMillis())
+                .tag("signal", "sink-latency")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("kafka.listener.backpressure.signal", this, c -> c.lastSignals.heapUsage())
+                .tag("signal", "heap")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${kafka.backpressure.interval:1s}",
+            fixedDelayString = "${kafka.backpressure.interval:1s}"
+    )
+    public void evaluate() {
+        BackpressurePolicy.Signals signals = probe.sample();
+        lastSignals = signals;
+        Instant now = Instant.now();
+
+        for (MessageListenerContainer container : listenerEndpointRegistry.getListenerContainers()) {
+            String listenerId = container.getListenerId();
+            if (!properties.targets(listenerId) || !container.isRunning()) {
+                continue;
+            }
+
+            BackpressurePolicy.Decision decision = policy.decide(listenerId, signals, now);
+            switch (decision.action()) {
+                case PAUSE -> {
+                    log.warn("[backpressure] listener={} 파티션을 일시 정지합니다. ({}) - {}", listenerId, decision.reason(), signals);
+                    meterRegistry.counter("kafka.listener.backpressure.pauses",
+                            "listener", listenerId, "reason", decision.reason()).increment();
+                    pauses.put(listenerId, LongTaskTimer.builder("kafka.listener.backpressure.paused")
+                            .tag("listener", listenerId)
+                            .register(meterRegistry)
+                            .start());
+                    pause(container);
+                }
+                case RESUME -> {
+                    resume(container);
+                    LongTaskTimer.Sample sample = pauses.remove(listenerId);
+                    long pausedMillis = sample != null ? sample.stop() / 1_000_000 : 0;
+                    log.info("[backpressure] listener={} 파티션을 재개합니다. ({}ms 정지) - {}", listenerId, pausedMillis, signals);
+                }
+                case HOLD -> {
+                    if (policy.isPaused(listenerId)) {
+                        pause(container); // 정지 중 rebalance 로 새로 받은 파티션도 멈춘다.
+                    }
+                }
+            }
+        }
+    }
+
+    private void pause(MessageListenerContainer container) {
+        Collection<TopicPartition> assigned = container.getAssignedPartitions();
+        if (assigned == null) {
+            return;
+        }
+        for (TopicPartition partition : assigned) {
+            if (!container.isPartitionPauseRequested(partition)) {
+                container.pausePartition(partition);
+            }
+        }
+    }
+
+    private void resume(MessageListenerContainer container) {
+        Collection<TopicPartition> assigned = container.getAssignedPartitions();
+        if (assigned == null) {
+            return;
+        }
+        for (TopicPartition partition : assigned) {
+            if (container.isPartitionPauseRequested(partition)) {
+                container.resumePartition(partition);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.loopers.confg.kafka.backpressure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * downstream 포화 시 listener 파티션을 멈추는 backpressure 설정.
+ *
+ * @param listenerIds           대상 listener id (비어있으면 등록된 모든 listener container)
+ * @param maxPendingConnections connection 을 기다리는 스레드 수(hikaricp.connections.pending)가 이 값을 넘으면 멈춘다.
+ * @param sinkTimer             적재 지연을 읽을 Timer 이름
+ * @param maxSinkLatency        직전 관측 이후 적재 평균 시간이 이 값을 넘으면 멈춘다.
+ * @param maxHeapUsage          마지막 GC 직후 heap 점유율이 이 값을 넘으면 멈춘다.
+ * @param heapStaleAfter        이 시간 동안 GC 가 없었으면 마지막 GC 직후 점유율 대신 현재 점유율을 본다.
+ * @param resumeRatio           모든 신호가 (임계치 * resumeRatio) 아래로 내려와야 재개한다. (hysteresis)
+ * @param minPause              멈춘 뒤 재개까지 최소 유지 시간
+ * @param maxPause              신호가 회복되지 않아도 이 시간이 지나면 재개한다.
+ */
+@ConfigurationProperties(value = "kafka.backpressure")
+public record KafkaBackpressureProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1s") Duration interval,
+        List<String> listenerIds,
+        @DefaultValue("10") int maxPendingConnections,
+        @DefaultValue("streamer.sink.write") String sinkTimer,
+        @DefaultValue("5s") Duration maxSinkLatency,
+        @DefaultValue("0.9") double maxHeapUsage,
+        @DefaultValue("30s") Duration heapStaleAfter,
+        @DefaultValue("0.7") double resumeRatio,
+        @DefaultValue("5s") Duration minPause,
+        @DefaultValue("1m") Duration maxPause
+) {
+    public boolean targets(String listenerId) {
+        return listenerIds == null || listenerIds.isEmpty() || listenerIds.contains(listenerId);
+    }
+}
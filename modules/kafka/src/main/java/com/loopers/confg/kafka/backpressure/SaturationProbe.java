@@ -0,0 +1,119 @@
+package com.loopers.confg.kafka.backpressure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * downstream 포화 신호를 수집한다.
+ * <ul>
+ *     <li>db-pool - hikaricp.connections.pending 의 pool 별 최대값 (Hikari 가 없으면 0)</li>
+ *     <li>sink-latency - 직전 관측 이후 sink Timer 의 평균 시간 (그 사이 적재가 없으면 0)</li>
+ *     <li>heap - 마지막 GC 직후의 heap pool 점유율 최대값. 곧 수거될 garbage 에 반응하지 않도록 현재 사용량 대신 사용한다.
+ *     다만 pool 에 heapStaleAfter 동안 GC 가 없었다면 그 값은 오래된 것이므로(할당이 멈추면 GC 도 돌지 않는다) 현재 사용량을 본다.</li>
+ * </ul>
+ */
+public class SaturationProbe {
+    private static final String PENDING_CONNECTIONS = "hikaricp.connections.pending";
+
+    private final MeterRegistry meterRegistry;
+    private final String sinkTimer;
+    private final Duration heapStaleAfter;
+    private final List<HeapPool> heapPools;
+
+    private long lastSinkCount;
+    private double lastSinkTotalNanos;
+
+    /**
+     * heap pool 과 그 pool 을 수거하는 collector 들. GC 횟수가 마지막으로 바뀐 시각으로 collection usage 가 오래되었는지 판단한다.
+     */
+    private static final class HeapPool {
+        private final MemoryPoolMXBean pool;
+        private final List<GarbageCollectorMXBean> collectors;
+        private long lastGcCount = -1;
+        private long lastGcAtNanos;
+
+        private HeapPool(MemoryPoolMXBean pool, List<GarbageCollectorMXBean> collectors) {
+            this.pool = pool;
+            this.collectors = collectors;
+        }
+
+        private boolean isStale(long nowNanos, Duration staleAfter) {
+            long count = collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+            if (count != lastGcCount) {
+                lastGcCount = count;
+                lastGcAtNanos = nowNanos;
+            }
+            return nowNanos - lastGcAtNanos > staleAfter.toNanos();
+        }
+    }
+
+    public SaturationProbe(MeterRegistry meterRegistry, String sinkTimer, Duration heapStaleAfter) {
+        this.meterRegistry = meterRegistry;
+        this.sinkTimer = sinkTimer;
+        this.heapStaleAfter = heapStaleAfter;
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        this.heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported())
+                .map(pool -> new HeapPool(pool, collectors.stream()
+                        .filter(collector -> List.of(collector.getMemoryPoolNames()).contains(pool.getName()))
+                        .toList()))
+                .toList();
+    }
+
+    public synchronized BackpressurePolicy.Signals sample() {
+        return new BackpressurePolicy.Signals(pendingConnections(), recentSinkLatency(), heapUsageAfterGc());
+    }
+
+    private double pendingConnections() {
+        return meterRegistry.find(PENDING_CONNECTIONS).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .max()
+                .orElse(0);
+    }
+
+    private Duration recentSinkLatency() {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find(sinkTimer).timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+
+        long writes = count - lastSinkCount;
+        double nanos = totalNanos - lastSinkTotalNanos;
+        lastSinkCount = count;
+        lastSinkTotalNanos = totalNanos;
+        return writes > 0 ? Duration.ofNanos((long) (nanos / writes)) : Duration.ZERO;
+    }
+
+    private double heapUsageAfterGc() {
+        long now = System.nanoTime();
+        double usage = 0;
+        for (HeapPool heapPool : heapPools) {
+            boolean stale = heapPool.isStale(now, heapStaleAfter);
+            usage = Math.max(usage, usage(heapPool.pool.getCollectionUsage(), heapPool.pool.getUsage(), stale));
+        }
+        return usage;
+    }
+
+    /**
+     * pool 하나의 점유율. 마지막 GC 직후 값이 없거나 오래되었으면 현재 값을 쓴다. max 가 정해지지 않은 pool 은 0 이다.
+     */
+    static double usage(MemoryUsage afterGc, MemoryUsage current, boolean stale) {
+        MemoryUsage usage = afterGc == null || stale ? current : afterGc;
+        if (usage == null || usage.getMax() <= 0) {
+            return 0;
+        }
+        return (double) usage.getUsed() / usage.getMax();
+    }
+}
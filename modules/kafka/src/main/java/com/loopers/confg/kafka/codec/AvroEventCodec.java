@@ -0,0 +1,172 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.avro.JsonProperties;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.avro.reflect.ReflectDatumReader;
+import org.apache.avro.reflect.ReflectDatumWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 클래스를 Avro binary 로 인코딩/디코딩한다.
+ * <p>
+ * schema 는 클래스 필드로부터 만들고(모든 참조 타입 필드는 nullable, 기본값 null), subject 는 record 의 full name 이다.
+ * nullable 필드에 기본값이 있어야 필드를 추가한 새 schema 가 이전 버전 데이터를 읽을 수 있다. (BACKWARD)
+ * 기동 시 대상 타입의 schema 를 registry 에 등록하므로, 호환되지 않는 변경은 배포 시점에 실패한다.
+ * 인코딩된 메세지에는 필드명이 없고, writer schema id 는 {@link #SCHEMA_ID_HEADER} 헤더로 전달된다.
+ */
+public class AvroEventCodec {
+    public static final String SCHEMA_ID_HEADER = "x-schema-id";
+
+    private record WriterEntry(int schemaId, DatumWriter<Object> writer) { }
+
+    private record ReaderKey(int writerSchemaId, Class<?> type) { }
+
+    private final SchemaRegistryClient registryClient;
+    private final Map<Class<?>, WriterEntry> writers = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> typesBySubject = new ConcurrentHashMap<>();
+    private final Map<Integer, Class<?>> typesBySchemaId = new ConcurrentHashMap<>();
+    private final Map<ReaderKey, DatumReader<Object>> readers = new ConcurrentHashMap<>();
+
+    public AvroEventCodec(SchemaRegistryClient registryClient, Collection<Class<?>> eventTypes) {
+        this.registryClient = registryClient;
+        for (Class<?> type : eventTypes) {
+            Schema schema = schemaOf(type);
+            int schemaId = registryClient.register(schema.getFullName(), schema);
+            writers.put(type, new WriterEntry(schemaId, new ReflectDatumWriter<>(schema)));
+            typesBySubject.put(schema.getFullName(), type);
+            typesBySchemaId.put(schemaId, type);
+        }
+    }
+
+    public boolean supports(Class<?> type) {
+        return writers.containsKey(type);
+    }
+
+    public int schemaIdOf(Class<?> type) {
+        return writer(type).schemaId();
+    }
+
+    public byte[] encode(Object value) {
+        WriterEntry entry = writer(value.getClass());
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        try {
+            entry.writer().write(value, encoder);
+            encoder.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * writer schema id 로 기록된 데이터를 현재 클래스(reader schema)로 읽는다.
+     * 필드 추가/삭제는 Avro schema resolution 규칙에 따라 처리된다.
+     */
+    public Object decode(int writerSchemaId, byte[] data) {
+        Class<?> type = resolveType(writerSchemaId);
+        DatumReader<Object> reader = readers.computeIfAbsent(new ReaderKey(writerSchemaId, type), key ->
+                new ReflectDatumReader<>(registryClient.getById(writerSchemaId), schemaOf(type)));
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, null);
+        try {
+            return reader.read(null, decoder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 클래스의 reflect schema. 기본값이 없는 nullable 필드(union 의 첫 타입이 null)에는 기본값 null 을 채운다.
+     */
+    public static Schema schemaOf(Class<?> type) {
+        return withNullDefaults(ReflectData.AllowNull.get().getSchema(type), new HashMap<>());
+    }
+
+    private static Schema withNullDefaults(Schema schema, Map<String, Schema> records) {
+        return switch (schema.getType()) {
+            case RECORD -> {
+                Schema done = records.get(schema.getFullName());
+                if (done != null) {
+                    yield done; // 재귀 타입
+                }
+                Schema record = Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), schema.isError());
+                records.put(schema.getFullName(), record);
+                List<Schema.Field> fields = new ArrayList<>();
+                for (Schema.Field field : schema.getFields()) {
+                    Schema fieldSchema = withNullDefaults(field.schema(), records);
+                    Object defaultValue = !field.hasDefaultValue() && isNullFirst(fieldSchema)
+                            ? JsonProperties.NULL_VALUE
+                            : field.defaultVal();
+                    Schema.Field copy = new Schema.Field(field.name(), fieldSchema, field.doc(), defaultValue, field.order());
+                    field.getObjectProps().forEach(copy::addProp);
+                    field.aliases().forEach(copy::addAlias);
+                    fields.add(copy);
+                }
+                record.setFields(fields);
+                schema.getObjectProps().forEach(record::addProp);
+                schema.getAliases().forEach(record::addAlias);
+                yield record;
+            }
+            case UNION -> Schema.createUnion(schema.getTypes().stream().map(type -> withNullDefaults(type, records)).toList());
+            case ARRAY -> copyProps(Schema.createArray(withNullDefaults(schema.getElementType(), records)), schema);
+            case MAP -> copyProps(Schema.createMap(withNullDefaults(schema.getValueType(), records)), schema);
+            default -> schema;
+        };
+    }
+
+    private static boolean isNullFirst(Schema schema) {
+        return schema.getType() == Schema.Type.UNION && schema.getTypes().get(0).getType() == Schema.Type.NULL;
+    }
+
+    private static Schema copyProps(Schema copy, Schema source) {
+        source.getObjectProps().forEach(copy::addProp);
+        return copy;
+    }
+
+    public static byte[] schemaIdHeader(int schemaId) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(schemaId).array();
+    }
+
+    public static int schemaIdOf(byte[] header) {
+        return ByteBuffer.wrap(header).getInt();
+    }
+
+    private WriterEntry writer(Class<?> type) {
+        WriterEntry entry = writers.get(type);
+        if (entry == null) {
+            throw new IllegalArgumentException("Avro codec 대상이 아닌 타입입니다: " + type.getName());
+        }
+        return entry;
+    }
+
+    private Class<?> resolveType(int writerSchemaId) {
+        Class<?> type = typesBySchemaId.get(writerSchemaId);
+        if (type != null) {
+            return type;
+        }
+        // 다른 버전의 writer schema 로 기록된 경우 subject(= record full name) 로 reader 타입을 찾는다.
+        Schema writerSchema = registryClient.getById(writerSchemaId);
+        type = Optional.ofNullable(typesBySubject.get(writerSchema.getFullName()))
+                .orElseThrow(() -> new IllegalArgumentException("schema id 에 대응하는 이벤트 타입이 없습니다: " + writerSchemaId));
+        typesBySchemaId.put(writerSchemaId, type);
+        return type;
+    }
+}
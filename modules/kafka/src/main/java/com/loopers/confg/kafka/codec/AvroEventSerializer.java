@@ -0,0 +1,44 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.Map;
+
+/**
+ * codec 대상 타입은 Avro binary + schema id 헤더로, 그 외 타입은 delegate(JSON) 로 직렬화한다.
+ */
+public class AvroEventSerializer implements Serializer<Object> {
+    private final AvroEventCodec codec;
+    private final Serializer<Object> delegate;
+
+    public AvroEventSerializer(AvroEventCodec codec, Serializer<Object> delegate) {
+        this.codec = codec;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return delegate.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null || !codec.supports(data.getClass())) {
+            return delegate.serialize(topic, headers, data);
+        }
+        headers.remove(AvroEventCodec.SCHEMA_ID_HEADER);
+        headers.add(AvroEventCodec.SCHEMA_ID_HEADER, AvroEventCodec.schemaIdHeader(codec.schemaIdOf(data.getClass())));
+        return codec.encode(data);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
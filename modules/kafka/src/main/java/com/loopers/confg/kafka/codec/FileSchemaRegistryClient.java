@@ -0,0 +1,128 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.avro.Schema;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 디렉터리에 schema 를 {@code {id}__{version}__{subject}.avsc} 파일로 남기는 registry.
+ * 같은 디렉터리를 바라보는 로컬 프로세스(commerce-api, commerce-streamer)끼리 schema id 를 공유할 수 있다.
+ * 모르는 id 를 조회하면 디렉터리를 다시 읽어, 다른 프로세스가 나중에 등록한 schema 도 찾는다.
+ * <p>
+ * 새 id 는 {@code {id}.id} 파일을 CREATE_NEW 로 만들어 선점한다. 다른 프로세스가 같은 id 를 먼저 가져갔으면
+ * 디렉터리를 다시 읽고 다음 id 로 재시도한다. schema 파일은 임시 파일에 쓴 뒤 옮겨, 읽는 쪽이 쓰다 만 파일을 보지 않게 한다.
+ */
+public class FileSchemaRegistryClient extends InMemorySchemaRegistryClient {
+    private static final String SEPARATOR = "__";
+    private static final String EXTENSION = ".avsc";
+    private static final String CLAIM_EXTENSION = ".id";
+
+    /**
+     * 다른 프로세스가 먼저 선점한 id.
+     */
+    private static final class IdTakenException extends RuntimeException {
+        private final int id;
+
+        private IdTakenException(int id) {
+            super(null, null, false, false);
+            this.id = id;
+        }
+    }
+
+    private final Path directory;
+    private final Set<Integer> loadedIds = ConcurrentHashMap.newKeySet();
+
+    public FileSchemaRegistryClient(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("schema 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+        refresh();
+    }
+
+    @Override
+    public Schema getById(int id) {
+        if (!loadedIds.contains(id)) {
+            refresh();
+        }
+        return super.getById(id);
+    }
+
+    @Override
+    public synchronized int register(String subject, Schema schema) {
+        while (true) {
+            refresh();
+            try {
+                return super.register(subject, schema);
+            } catch (IdTakenException e) {
+                reserve(e.id);
+            }
+        }
+    }
+
+    @Override
+    protected void onRegistered(String subject, RegisteredSchema registered) {
+        try {
+            Files.createFile(directory.resolve(registered.id() + CLAIM_EXTENSION));
+        } catch (FileAlreadyExistsException e) {
+            throw new IdTakenException(registered.id());
+        } catch (IOException e) {
+            throw new UncheckedIOException("schema id 를 선점할 수 없습니다: " + registered.id(), e);
+        }
+
+        Path file = directory.resolve(registered.id() + SEPARATOR + registered.version() + SEPARATOR + subject + EXTENSION);
+        try {
+            Path temp = Files.createTempFile(directory, registered.id() + SEPARATOR, ".tmp");
+            Files.writeString(temp, registered.schema().toString(true), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("schema 파일을 기록할 수 없습니다: " + file, e);
+        }
+        loadedIds.add(registered.id());
+    }
+
+    private synchronized void refresh() {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> paths = files.toList();
+            paths.stream()
+                    .filter(path -> path.getFileName().toString().endsWith(CLAIM_EXTENSION))
+                    .forEach(path -> reserve(Integer.parseInt(stripExtension(path, CLAIM_EXTENSION))));
+
+            List<Path> schemaFiles = paths.stream()
+                    .filter(path -> path.getFileName().toString().endsWith(EXTENSION))
+                    .filter(path -> !loadedIds.contains(idOf(path)))
+                    .sorted(Comparator.comparingInt(FileSchemaRegistryClient::idOf))
+                    .toList();
+            for (Path file : schemaFiles) {
+                String[] parts = stripExtension(file, EXTENSION).split(SEPARATOR, 3);
+                Schema schema = new Schema.Parser().parse(Files.readString(file, StandardCharsets.UTF_8));
+                restore(parts[2], new RegisteredSchema(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), schema));
+                loadedIds.add(Integer.parseInt(parts[0]));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("schema 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private static int idOf(Path file) {
+        return Integer.parseInt(stripExtension(file, EXTENSION).split(SEPARATOR, 3)[0]);
+    }
+
+    private static String stripExtension(Path file, String extension) {
+        String name = file.getFileName().toString();
+        return name.substring(0, name.length() - extension.length());
+    }
+}
@@ -0,0 +1,88 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내부에만 존재하는 schema registry.
+ * schema id 는 등록 순서대로 부여되므로, producer 와 consumer 가 같은 JVM 에 있을 때(테스트, 단일 로컬 앱)만 사용한다.
+ */
+public class InMemorySchemaRegistryClient implements SchemaRegistryClient {
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+    private final Map<String, List<RegisteredSchema>> versionsBySubject = new ConcurrentHashMap<>();
+    private int nextId = 1;
+
+    @Override
+    public synchronized int register(String subject, Schema schema) {
+        List<RegisteredSchema> versions = versionsBySubject.computeIfAbsent(subject, key -> new ArrayList<>());
+        for (RegisteredSchema registered : versions) {
+            if (registered.schema().equals(schema)) {
+                return registered.id();
+            }
+        }
+
+        if (!versions.isEmpty()) {
+            checkBackwardCompatible(subject, schema, versions.get(versions.size() - 1).schema());
+        }
+
+        RegisteredSchema registered = new RegisteredSchema(nextId, versions.size() + 1, schema);
+        onRegistered(subject, registered); // 실패하면 등록하지 않은 것으로 둔다.
+        nextId++;
+        versions.add(registered);
+        schemasById.put(registered.id(), schema);
+        return registered.id();
+    }
+
+    @Override
+    public Schema getById(int id) {
+        Schema schema = schemasById.get(id);
+        if (schema == null) {
+            throw new IllegalArgumentException("등록되지 않은 schema id 입니다: " + id);
+        }
+        return schema;
+    }
+
+    @Override
+    public synchronized Optional<RegisteredSchema> latest(String subject) {
+        List<RegisteredSchema> versions = versionsBySubject.getOrDefault(subject, List.of());
+        return versions.isEmpty() ? Optional.empty() : Optional.of(versions.get(versions.size() - 1));
+    }
+
+    /**
+     * 이미 id 가 정해진 schema 를 복원한다. (file 구현의 기동 시 적재용)
+     */
+    protected synchronized void restore(String subject, RegisteredSchema registered) {
+        versionsBySubject.computeIfAbsent(subject, key -> new ArrayList<>()).add(registered);
+        schemasById.put(registered.id(), registered.schema());
+        reserve(registered.id());
+    }
+
+    /**
+     * 다른 곳에서 이미 사용한 id 이하로는 새 id 를 부여하지 않는다.
+     */
+    protected synchronized void reserve(int id) {
+        nextId = Math.max(nextId, id + 1);
+    }
+
+    /**
+     * 새 schema 를 등록하기 직전에 호출된다. 예외를 던지면 등록하지 않는다.
+     */
+    protected void onRegistered(String subject, RegisteredSchema registered) {}
+
+    /**
+     * 새 schema 를 reader 로 하여, 직전 버전(writer)으로 기록된 데이터를 읽을 수 있어야 한다. (BACKWARD)
+     */
+    private void checkBackwardCompatible(String subject, Schema reader, Schema writer) {
+        SchemaCompatibility.SchemaPairCompatibility result =
+                SchemaCompatibility.checkReaderWriterCompatibility(reader, writer);
+        if (result.getType() != SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE) {
+            throw new IncompatibleSchemaException(subject, result.getDescription());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.loopers.confg.kafka.codec;
+
+public class IncompatibleSchemaException extends RuntimeException {
+    public IncompatibleSchemaException(String subject, String description) {
+        super("[subject = " + subject + "] 최신 schema 와 호환되지 않습니다: " + description);
+    }
+}
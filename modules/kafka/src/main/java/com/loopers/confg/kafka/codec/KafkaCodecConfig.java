@@ -0,0 +1,26 @@
+package com.loopers.confg.kafka.codec;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(KafkaCodecProperties.class)
+@ConditionalOnProperty(prefix = "kafka.codec", name = "type", havingValue = "avro")
+public class KafkaCodecConfig {
+
+    @Bean
+    public SchemaRegistryClient schemaRegistryClient(KafkaCodecProperties properties) {
+        return switch (properties.registry()) {
+            case "in-memory" -> new InMemorySchemaRegistryClient();
+            case "file" -> new FileSchemaRegistryClient(properties.registryPath());
+            default -> throw new IllegalStateException("지원하지 않는 schema registry 입니다: " + properties.registry());
+        };
+    }
+
+    @Bean
+    public AvroEventCodec avroEventCodec(SchemaRegistryClient schemaRegistryClient, KafkaCodecProperties properties) {
+        return new AvroEventCodec(schemaRegistryClient, properties.eventTypes());
+    }
+}
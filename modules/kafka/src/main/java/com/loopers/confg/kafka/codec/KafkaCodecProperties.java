@@ -0,0 +1,23 @@
+package com.loopers.confg.kafka.codec;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 이벤트 value codec 설정.
+ *
+ * @param type          json (기본, JsonSerializer) / avro (event-types 는 Avro binary, 나머지는 JSON)
+ * @param registry      in-memory / file
+ * @param registryPath  file registry 의 schema 디렉터리
+ * @param eventTypes    Avro 로 인코딩할 이벤트 클래스
+ */
+@ConfigurationProperties(value = "kafka.codec")
+public record KafkaCodecProperties(
+        @DefaultValue("json") String type,
+        @DefaultValue("in-memory") String registry,
+        @DefaultValue("build/schemas") Path registryPath,
+        @DefaultValue List<Class<?>> eventTypes
+) { }
@@ -0,0 +1,45 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.Map;
+
+/**
+ * schema id 헤더가 있는 메세지는 Avro 로 디코딩하고, 없는 메세지는 delegate 로 넘긴다.
+ * JSON 과 Avro 메세지가 섞여 있는 전환 기간에도 같은 listener 로 처리할 수 있다.
+ */
+public class SchemaAwareDeserializer implements Deserializer<Object> {
+    private final AvroEventCodec codec;
+    private final Deserializer<?> delegate;
+
+    public SchemaAwareDeserializer(AvroEventCodec codec, Deserializer<?> delegate) {
+        this.codec = codec;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return delegate.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        Header schemaId = headers.lastHeader(AvroEventCodec.SCHEMA_ID_HEADER);
+        if (schemaId == null || data == null) {
+            return delegate.deserialize(topic, headers, data);
+        }
+        return codec.decode(AvroEventCodec.schemaIdOf(schemaId.value()), data);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
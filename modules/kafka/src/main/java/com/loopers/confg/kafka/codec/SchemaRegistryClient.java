@@ -0,0 +1,25 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.avro.Schema;
+
+import java.util.Optional;
+
+/**
+ * 이벤트 schema 저장소.
+ * 운영에서는 외부 schema registry 구현으로 교체하고, 로컬/테스트에서는 in-memory 또는 file 구현을 사용한다.
+ */
+public interface SchemaRegistryClient {
+
+    /**
+     * subject 에 schema 를 등록하고 schema id 를 반환한다.
+     * 이미 같은 schema 가 등록되어 있으면 기존 id 를 반환하며,
+     * 최신 버전과 backward 호환되지 않으면 {@link IncompatibleSchemaException} 을 던진다.
+     */
+    int register(String subject, Schema schema);
+
+    Schema getById(int id);
+
+    Optional<RegisteredSchema> latest(String subject);
+
+    record RegisteredSchema(int id, int version, Schema schema) { }
+}
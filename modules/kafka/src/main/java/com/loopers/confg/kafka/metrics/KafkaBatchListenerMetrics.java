@@ -0,0 +1,134 @@
+package com.loopers.confg.kafka.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.record.TimestampType;
+import org.springframework.kafka.listener.BatchInterceptor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * batch listener 처리 경로의 메트릭을 기록한다.
+ * <ul>
+ *     <li>kafka.listener.batch.size : poll 한 batch 의 레코드 수 분포</li>
+ *     <li>kafka.listener.batch.duration : batch 하나를 처리하는 데 걸린 시간</li>
+ *     <li>kafka.listener.record.duration : batch 처리 시간을 레코드 수로 나눈 레코드당 처리 시간</li>
+ *     <li>kafka.listener.records : 처리한 레코드 수 (rate 로 초당 처리량을 본다)</li>
+ *     <li>kafka.listener.record.latency : record timestamp 부터 처리 시작까지의 end-to-end 지연</li>
+ *     <li>kafka.listener.event.latency : 이벤트 자체의 발생 시각부터 처리까지의 end-to-end 지연</li>
+ * </ul>
+ * commit 지연과 파티션별 lag 은 consumer factory 에 등록된 MicrometerConsumerListener 가
+ * kafka.consumer.coordinator.commit.latency.*, kafka.consumer.fetch.manager.records.lag 로 기록한다.
+ * <p>
+ * meter 는 tag 조합마다 한 번만 등록하고 재사용한다. (레코드마다 builder 로 registry 를 조회하지 않는다.)
+ */
+public class KafkaBatchListenerMetrics implements BatchInterceptor<Object, Object> {
+    private static final ThreadLocal<Long> BATCH_STARTED_AT = new ThreadLocal<>();
+
+    private record MeterKey(String group, String tag) { }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Timer> recordLatencies = new ConcurrentHashMap<>();
+    private final Map<String, Timer> eventLatencies = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Timer> batchDurations = new ConcurrentHashMap<>();
+    private final Map<String, Timer> recordDurations = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> recordCounts = new ConcurrentHashMap<>();
+
+    public KafkaBatchListenerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        BATCH_STARTED_AT.set(System.nanoTime());
+
+        String group = group(consumer);
+        batchSizes.computeIfAbsent(group, key -> DistributionSummary.builder("kafka.listener.batch.size")
+                .tag("group", key)
+                .register(meterRegistry))
+                .record(records.count());
+
+        long now = System.currentTimeMillis();
+        for (TopicPartition partition : records.partitions()) {
+            Timer latency = recordLatencies.computeIfAbsent(new MeterKey(group, partition.topic()), key -> Timer.builder("kafka.listener.record.latency")
+                    .tag("group", key.group())
+                    .tag("topic", key.tag())
+                    .register(meterRegistry));
+            for (ConsumerRecord<Object, Object> record : records.records(partition)) {
+                if (record.timestampType() != TimestampType.NO_TIMESTAMP_TYPE && record.timestamp() > 0) {
+                    latency.record(Duration.ofMillis(Math.max(0L, now - record.timestamp())));
+                }
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        complete(records, consumer, "success");
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        complete(records, consumer, "failure");
+    }
+
+    /**
+     * 레코드에 담긴 이벤트 자체의 발생 시각(예: DemoEvent.timestamp)을 기준으로 end-to-end 지연을 기록한다.
+     */
+    public void recordEventLatency(String topic, Long eventTimestampMillis) {
+        if (eventTimestampMillis == null || eventTimestampMillis <= 0) {
+            return;
+        }
+        eventLatencies.computeIfAbsent(topic, key -> Timer.builder("kafka.listener.event.latency")
+                .tag("topic", key)
+                .register(meterRegistry))
+                .record(Duration.ofMillis(Math.max(0L, System.currentTimeMillis() - eventTimestampMillis)));
+    }
+
+    private void complete(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer, String result) {
+        Long startedAt = BATCH_STARTED_AT.get();
+        BATCH_STARTED_AT.remove();
+        if (startedAt == null) {
+            return;
+        }
+
+        String group = group(consumer);
+        long elapsed = System.nanoTime() - startedAt;
+        batchDurations.computeIfAbsent(new MeterKey(group, result), key -> Timer.builder("kafka.listener.batch.duration")
+                .tag("group", key.group())
+                .tag("result", key.tag())
+                .register(meterRegistry))
+                .record(Duration.ofNanos(elapsed));
+
+        int count = records.count();
+        if (count > 0) {
+            recordDurations.computeIfAbsent(group, key -> Timer.builder("kafka.listener.record.duration")
+                    .tag("group", key)
+                    .register(meterRegistry))
+                    .record(Duration.ofNanos(elapsed / count));
+        }
+        recordCounts.computeIfAbsent(new MeterKey(group, result), key -> Counter.builder("kafka.listener.records")
+                .tag("group", key.group())
+                .tag("result", key.tag())
+                .register(meterRegistry))
+                .increment(count);
+    }
+
+    private String group(Consumer<Object, Object> consumer) {
+        try {
+            return consumer.groupMetadata().groupId();
+        } catch (RuntimeException e) {
+            return "none"; // group 없이 수동 할당된 consumer
+        }
+    }
+}
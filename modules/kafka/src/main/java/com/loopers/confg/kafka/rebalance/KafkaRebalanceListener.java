@@ -0,0 +1,89 @@
+package com.loopers.confg.kafka.rebalance;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * batch listener consumer 의 rebalance 를 기록하고, 파티션을 넘겨주기 전에 {@link RebalanceHook} 을 실행한다.
+ * <ul>
+ *     <li>kafka.consumer.rebalance.events : revoked / assigned / lost 횟수 (group 별)</li>
+ *     <li>kafka.consumer.rebalance.pause : 파티션을 넘겨준 뒤 새 할당을 받기까지 해당 consumer 가 멈춘 시간</li>
+ * </ul>
+ * cooperative rebalance 에서는 실제로 이동하는 파티션만 revoke 되므로, 나머지 파티션은 rebalance 중에도 계속 처리된다.
+ * 클라이언트 자체의 rebalance 지연은 MicrometerConsumerListener 가 kafka.consumer.coordinator.rebalance.* 로 기록한다.
+ */
+@Slf4j
+public class KafkaRebalanceListener implements ConsumerAwareRebalanceListener {
+    private static final ThreadLocal<Long> REVOKED_AT = new ThreadLocal<>(); // rebalance callback 은 consumer 스레드에서 호출된다.
+
+    private final List<RebalanceHook> hooks;
+    private final MeterRegistry meterRegistry;
+
+    public KafkaRebalanceListener(List<RebalanceHook> hooks, MeterRegistry meterRegistry) {
+        this.hooks = hooks;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return; // cooperative 에서는 넘겨줄 파티션이 없어도 호출된다.
+        }
+        REVOKED_AT.set(System.nanoTime());
+        count(consumer, "revoked");
+        log.info("[rebalance] {} revoking {}", group(consumer), partitions);
+
+        for (RebalanceHook hook : hooks) {
+            try {
+                hook.beforeRevoke(partitions);
+            } catch (Exception e) {
+                log.warn("[rebalance] {} 실행에 실패했습니다. 커밋되지 않은 레코드는 새 소유자가 다시 처리합니다.",
+                        hook.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        Long revokedAt = REVOKED_AT.get();
+        if (revokedAt != null) {
+            REVOKED_AT.remove();
+            Timer.builder("kafka.consumer.rebalance.pause")
+                    .tag("group", group(consumer))
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - revokedAt, TimeUnit.NANOSECONDS);
+        }
+        if (!partitions.isEmpty()) {
+            count(consumer, "assigned");
+            log.info("[rebalance] {} assigned {}", group(consumer), partitions);
+        }
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        // session timeout 등으로 이미 다른 consumer 에게 넘어간 파티션 - 커밋할 수 없으므로 기록만 한다.
+        REVOKED_AT.remove();
+        count(consumer, "lost");
+        log.warn("[rebalance] {} lost {}", group(consumer), partitions);
+    }
+
+    private void count(Consumer<?, ?> consumer, String event) {
+        meterRegistry.counter("kafka.consumer.rebalance.events", "group", group(consumer), "event", event).increment();
+    }
+
+    private static String group(Consumer<?, ?> consumer) {
+        try {
+            return consumer.groupMetadata().groupId();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
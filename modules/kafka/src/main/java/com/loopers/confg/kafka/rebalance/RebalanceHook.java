@@ -0,0 +1,15 @@
+package com.loopers.confg.kafka.rebalance;
+
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Collection;
+
+/**
+ * rebalance 로 파티션을 넘겨주기 직전에 실행할 작업. bean 으로 등록하면 batch listener 의 rebalance 마다 호출된다.
+ * <p>
+ * consumer 스레드에서 offset 커밋 전에 호출되므로, 버퍼에 남은 작업을 여기서 flush / ack 하면 함께 커밋된다.
+ */
+public interface RebalanceHook {
+
+    void beforeRevoke(Collection<TopicPartition> partitions);
+}
@@ -0,0 +1,38 @@
+package com.loopers.confg.kafka.retry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 재시도 topic chain 설정.
+ *
+ * @param backoffs               단계별 재시도 지연. 단계마다 {topic}-retry-{지연} topic 이 하나씩 생긴다.
+ * @param dltSuffix              모든 단계를 소진했거나 재시도할 수 없는 레코드를 보낼 topic 의 suffix
+ * @param notRetryableExceptions 재시도 없이 바로 DLT 로 보낼 예외 (하위 타입 포함)
+ * @param maxPollRecords         재시도 topic consumer 의 poll 크기
+ */
+@ConfigurationProperties(value = "kafka.retry")
+public record KafkaRetryTopicProperties(
+        @DefaultValue({"1s", "10s", "1m"}) List<Duration> backoffs,
+        @DefaultValue("-dlt") String dltSuffix,
+        @DefaultValue({
+                "java.lang.IllegalArgumentException",
+                "com.fasterxml.jackson.core.JsonProcessingException",
+                "org.apache.kafka.common.errors.SerializationException"
+        }) List<Class<? extends Throwable>> notRetryableExceptions,
+        @DefaultValue("500") int maxPollRecords
+) {
+    public boolean isRetryable(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            for (Class<? extends Throwable> type : notRetryableExceptions) {
+                if (type.isInstance(cause)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
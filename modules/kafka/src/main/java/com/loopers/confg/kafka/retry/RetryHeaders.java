@@ -0,0 +1,53 @@
+package com.loopers.confg.kafka.retry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 재시도 topic 으로 옮긴 레코드에 붙이는 헤더. 값은 모두 UTF-8 문자열이다.
+ */
+public final class RetryHeaders {
+    public static final String ATTEMPT = "x-retry-attempt";
+    public static final String DUE_AT = "x-retry-due-at";
+    public static final String ORIGINAL_TOPIC = "x-retry-original-topic";
+    public static final String ORIGINAL_PARTITION = "x-retry-original-partition";
+    public static final String ORIGINAL_OFFSET = "x-retry-original-offset";
+    public static final String EXCEPTION = "x-retry-exception";
+
+    private RetryHeaders() {
+    }
+
+    /**
+     * 지금까지 재시도 topic 으로 옮겨진 횟수. 원본 topic 의 레코드는 0 이다.
+     */
+    public static int attempt(ConsumerRecord<?, ?> record) {
+        String value = read(record.headers(), ATTEMPT);
+        return value != null ? Integer.parseInt(value) : 0;
+    }
+
+    /**
+     * 재시도해도 되는 시각(epoch ms). 헤더가 없으면 바로 처리한다.
+     */
+    public static long dueAt(ConsumerRecord<?, ?> record) {
+        String value = read(record.headers(), DUE_AT);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    public static String originalTopic(ConsumerRecord<?, ?> record) {
+        String value = read(record.headers(), ORIGINAL_TOPIC);
+        return value != null ? value : record.topic();
+    }
+
+    static String read(Headers headers, String key) {
+        Header header = headers.lastHeader(key);
+        return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    static void write(Headers headers, String key, Object value) {
+        headers.remove(key);
+        headers.add(key, String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    }
+}
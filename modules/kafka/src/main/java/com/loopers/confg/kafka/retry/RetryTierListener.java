@@ -0,0 +1,71 @@
+package com.loopers.confg.kafka.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 재시도 단계 topic 하나를 소비하는 batch listener.
+ * <p>
+ * 한 단계의 레코드는 모두 같은 지연으로 쌓이므로 파티션 안에서 재시도 시각 순으로 정렬되어 있다.
+ * 아직 재시도 시각이 되지 않은 레코드를 만나면 그 앞까지만 커밋하고 {@code nack(index, 남은 시간)} 으로
+ * 나머지를 다시 seek 한 뒤, 남은 시간만큼 consumer 를 멈춘다. (container 가 파티션을 pause 한 채 poll 하므로
+ * busy-polling 이나 rebalance 없이 기다린다.)
+ * 처리에 실패한 레코드는 다음 단계로 옮기고, 옮기기가 끝난 뒤에 커밋한다.
+ */
+@Slf4j
+public class RetryTierListener implements BatchAcknowledgingMessageListener<Object, Object> {
+
+    private final RetryableRecordHandler handler;
+    private final RetryTopicPublisher publisher;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    public RetryTierListener(
+            RetryableRecordHandler handler,
+            RetryTopicPublisher publisher,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.handler = handler;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<Object, Object>> records, Acknowledgment acknowledgment) {
+        List<CompletableFuture<?>> forwards = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<Object, Object> record = records.get(i);
+
+            long waitMillis = RetryHeaders.dueAt(record) - clock.millis();
+            if (waitMillis > 0) {
+                CompletableFuture.allOf(forwards.toArray(CompletableFuture[]::new)).join();
+                log.debug("[retry] {}-{}@{} 는 {}ms 뒤에 재시도합니다.", record.topic(), record.partition(), record.offset(), waitMillis);
+                acknowledgment.nack(i, Duration.ofMillis(waitMillis));
+                return;
+            }
+
+            try {
+                handler.handle(record);
+                meterRegistry.counter("kafka.retry.recovered",
+                        "topic", RetryHeaders.originalTopic(record),
+                        "attempt", String.valueOf(RetryHeaders.attempt(record))).increment();
+            } catch (Exception e) {
+                forwards.add(publisher.forward(record, e));
+            }
+        }
+
+        CompletableFuture.allOf(forwards.toArray(CompletableFuture[]::new)).join();
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,140 @@
+package com.loopers.confg.kafka.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpoint;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.kafka.support.converter.MessageConverter;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * topic 별 재시도 chain ({topic}-retry-1s → -10s → -1m → {topic}-dlt) 을 구성한다.
+ * <p>
+ * 원본 listener 는 실패한 레코드를 {@link RetryTopicPublisher#forward} 로 옮기고 곧바로 다음 레코드를 처리하며,
+ * 재시도는 단계별로 분리된 container 에서 진행된다. 따라서 원본 파티션은 실패한 레코드에 막히지 않는다.
+ * 단계별 container 는 {@link KafkaListenerEndpointRegistry} 에 등록하므로 {@code @KafkaListener} container 와 함께
+ * 시작/종료되고, backpressure / autoscaler 의 대상이 된다.
+ */
+public class RetryTopicChain {
+
+    private final ConcurrentKafkaListenerContainerFactory<Object, Object> retryListenerContainerFactory;
+    private final KafkaListenerEndpointRegistry listenerEndpointRegistry;
+    private final RetryTopicPublisher publisher;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    public RetryTopicChain(
+            ConcurrentKafkaListenerContainerFactory<Object, Object> retryListenerContainerFactory,
+            KafkaListenerEndpointRegistry listenerEndpointRegistry,
+            RetryTopicPublisher publisher,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.retryListenerContainerFactory = retryListenerContainerFactory;
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * topic 의 재시도 단계마다 container 를 하나씩 만들어 registry 에 등록한다. (listener id 는 재시도 topic 이름)
+     * registry 가 시작될 때 함께 시작된다.
+     *
+     * @param groupId 재시도 consumer group. 원본 listener 와 다른 group 을 사용한다.
+     */
+    public RetryTopicListeners listen(String topic, String groupId, RetryableRecordHandler handler) {
+        RetryTierListener listener = new RetryTierListener(handler, publisher, meterRegistry, clock);
+
+        List<MessageListenerContainer> containers = new ArrayList<>();
+        for (String retryTopic : publisher.retryTopics(topic)) {
+            listenerEndpointRegistry.registerListenerContainer(
+                    new RetryTierEndpoint(retryTopic, groupId, listener), retryListenerContainerFactory);
+            containers.add(listenerEndpointRegistry.getListenerContainer(retryTopic));
+        }
+        return new RetryTopicListeners(containers);
+    }
+
+    /**
+     * topic 의 재시도 단계 topic 과 DLT. 원본 topic 과 같은 key 분포를 유지하도록 파티션 수를 맞춘다.
+     */
+    public KafkaAdmin.NewTopics newTopics(String topic, int partitions, int replicas) {
+        List<NewTopic> topics = new ArrayList<>();
+        for (String retryTopic : publisher.retryTopics(topic)) {
+            topics.add(TopicBuilder.name(retryTopic).partitions(partitions).replicas(replicas).build());
+        }
+        topics.add(TopicBuilder.name(publisher.deadLetterTopic(topic)).partitions(partitions).replicas(replicas).build());
+        return new KafkaAdmin.NewTopics(topics.toArray(NewTopic[]::new));
+    }
+
+    /**
+     * 재시도 단계 topic 하나를 구독하는 endpoint. {@code @KafkaListener} 없이 registry 에 container 를 등록할 때 사용한다.
+     */
+    private record RetryTierEndpoint(String topic, String groupId, RetryTierListener listener) implements KafkaListenerEndpoint {
+
+        @Override
+        public String getId() {
+            return topic;
+        }
+
+        @Override
+        public String getGroupId() {
+            return groupId;
+        }
+
+        @Override
+        public String getGroup() {
+            return null;
+        }
+
+        @Override
+        public Collection<String> getTopics() {
+            return List.of(topic);
+        }
+
+        @Override
+        public TopicPartitionOffset[] getTopicPartitionsToAssign() {
+            return new TopicPartitionOffset[0];
+        }
+
+        @Override
+        public Pattern getTopicPattern() {
+            return null;
+        }
+
+        @Override
+        public String getClientIdPrefix() {
+            return null;
+        }
+
+        @Override
+        public Integer getConcurrency() {
+            return null; // factory 설정(1)을 따른다.
+        }
+
+        @Override
+        public Boolean getAutoStartup() {
+            return null;
+        }
+
+        @Override
+        public void setupListenerContainer(MessageListenerContainer listenerContainer, MessageConverter messageConverter) {
+            listenerContainer.setupMessageListener(listener);
+        }
+
+        @Override
+        public boolean isSplitIterables() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.loopers.confg.kafka.retry;
+
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.confg.kafka.KafkaProducerProfileProperties;
+import com.loopers.confg.kafka.codec.AvroEventCodec;
+import com.loopers.confg.kafka.codec.AvroEventSerializer;
+import com.loopers.confg.kafka.codec.SchemaAwareDeserializer;
+import com.loopers.confg.kafka.metrics.KafkaBatchListenerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(KafkaRetryTopicProperties.class)
+public class RetryTopicConfig {
+    public static final String RETRY_BATCH_LISTENER = "RETRY_BATCH_LISTENER_DEFAULT";
+
+    @Bean
+    public RetryTopicPublisher retryTopicPublisher(
+            KafkaProperties kafkaProperties,
+            KafkaProducerProfileProperties producerProfileProperties,
+            KafkaRetryTopicProperties properties,
+            MeterRegistry meterRegistry,
+            ObjectProvider<AvroEventCodec> avroEventCodec
+    ) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.putAll(producerProfileProperties.active());
+
+        AvroEventCodec codec = avroEventCodec.getIfAvailable();
+        Serializer<Object> valueSerializer = codec != null
+                ? new AvroEventSerializer(codec, new JsonSerializer<>())
+                : new JsonSerializer<>();
+        DefaultKafkaProducerFactory<Object, Object> producerFactory =
+                new DefaultKafkaProducerFactory<>(props, null, new RetryValueSerializer(valueSerializer));
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+
+        return new RetryTopicPublisher(new KafkaTemplate<>(producerFactory), properties, meterRegistry, Clock.systemUTC());
+    }
+
+    @Bean(name = RETRY_BATCH_LISTENER)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> retryBatchListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            KafkaRetryTopicProperties properties,
+            KafkaBatchListenerMetrics batchListenerMetrics,
+            MeterRegistry meterRegistry,
+            ObjectProvider<AvroEventCodec> avroEventCodec
+    ) {
+        Map<String, Object> consumerConfig = new HashMap<>(kafkaProperties.buildConsumerProperties());
+        consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.maxPollRecords());
+        consumerConfig.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, KafkaConfig.SESSION_TIMEOUT_MS);
+        consumerConfig.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, KafkaConfig.HEARTBEAT_INTERVAL_MS);
+        consumerConfig.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, KafkaConfig.MAX_POLL_INTERVAL_MS);
+        consumerConfig.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"); // 재시도 대상은 유실 없이 처음부터 읽는다.
+
+        DefaultKafkaConsumerFactory<Object, Object> consumerFactory = new DefaultKafkaConsumerFactory<>(consumerConfig);
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        avroEventCodec.ifAvailable(codec ->
+                consumerFactory.setValueDeserializer(new SchemaAwareDeserializer(codec, new StringDeserializer())));
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL); // nack(index, sleep) 사용
+        factory.setConcurrency(1);
+        factory.setBatchListener(true);
+        factory.setBatchInterceptor(batchListenerMetrics);
+        return factory;
+    }
+
+    @Bean
+    public RetryTopicChain retryTopicChain(
+            @Qualifier(RETRY_BATCH_LISTENER) ConcurrentKafkaListenerContainerFactory<Object, Object> retryListenerContainerFactory,
+            KafkaListenerEndpointRegistry listenerEndpointRegistry,
+            RetryTopicPublisher retryTopicPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        return new RetryTopicChain(retryListenerContainerFactory, listenerEndpointRegistry, retryTopicPublisher,
+                meterRegistry, Clock.systemUTC());
+    }
+}
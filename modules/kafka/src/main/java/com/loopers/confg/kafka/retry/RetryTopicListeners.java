@@ -0,0 +1,20 @@
+package com.loopers.confg.kafka.retry;
+
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.List;
+
+/**
+ * 한 topic 의 재시도 단계별 container 묶음. container 의 시작/종료는 KafkaListenerEndpointRegistry 가 관리한다.
+ */
+public class RetryTopicListeners {
+    private final List<MessageListenerContainer> containers;
+
+    RetryTopicListeners(List<MessageListenerContainer> containers) {
+        this.containers = containers;
+    }
+
+    public List<MessageListenerContainer> containers() {
+        return containers;
+    }
+}
@@ -0,0 +1,137 @@
+package com.loopers.confg.kafka.retry;
+
+import com.loopers.confg.kafka.codec.AvroEventCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+/**
+ * 처리에 실패한 레코드를 다음 재시도 단계 topic 으로, 단계를 모두 소진했거나 재시도할 수 없는 예외면 DLT 로 옮긴다.
+ * <p>
+ * 원본 key / 헤더를 유지하고 재시도 횟수, 재시도 시각, 원본 위치, 예외 메세지를 {@link RetryHeaders} 로 덧붙인다.
+ */
+@Slf4j
+public class RetryTopicPublisher implements DisposableBean {
+    private static final int MAX_EXCEPTION_LENGTH = 500;
+
+    private final KafkaTemplate<Object, Object> retryKafkaTemplate;
+    private final KafkaRetryTopicProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    public RetryTopicPublisher(
+            KafkaTemplate<Object, Object> retryKafkaTemplate,
+            KafkaRetryTopicProperties properties,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.retryKafkaTemplate = retryKafkaTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    public String retryTopic(String topic, int tier) {
+        return topic + "-retry-" + suffix(properties.backoffs().get(tier));
+    }
+
+    public String deadLetterTopic(String topic) {
+        return topic + properties.dltSuffix();
+    }
+
+    public List<String> retryTopics(String topic) {
+        return IntStream.range(0, properties.backoffs().size())
+                .mapToObj(tier -> retryTopic(topic, tier))
+                .toList();
+    }
+
+    /**
+     * record 를 다음 단계로 옮긴다. 반환된 future 가 완료된 뒤에 원본 offset 을 커밋해야 레코드가 유실되지 않는다.
+     */
+    public CompletableFuture<SendResult<Object, Object>> forward(ConsumerRecord<Object, Object> record, Throwable cause) {
+        return send(record, cause, properties.isRetryable(cause) && RetryHeaders.attempt(record) < properties.backoffs().size());
+    }
+
+    /**
+     * 다시 처리해도 결과가 같은 레코드(디코딩 실패 등)를 재시도 단계를 거치지 않고 바로 DLT 로 옮긴다.
+     */
+    public CompletableFuture<SendResult<Object, Object>> deadLetter(ConsumerRecord<Object, Object> record, Throwable cause) {
+        return send(record, cause, false);
+    }
+
+    private CompletableFuture<SendResult<Object, Object>> send(ConsumerRecord<Object, Object> record, Throwable cause, boolean retryable) {
+        String originalTopic = RetryHeaders.originalTopic(record);
+        int attempt = RetryHeaders.attempt(record);
+
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!AvroEventCodec.SCHEMA_ID_HEADER.equals(header.key())) { // 재직렬화할 때 다시 붙는다.
+                headers.add(header);
+            }
+        }
+        RetryHeaders.write(headers, RetryHeaders.ATTEMPT, retryable ? attempt + 1 : attempt);
+        RetryHeaders.write(headers, RetryHeaders.ORIGINAL_TOPIC, originalTopic);
+        if (attempt == 0) {
+            RetryHeaders.write(headers, RetryHeaders.ORIGINAL_PARTITION, record.partition());
+            RetryHeaders.write(headers, RetryHeaders.ORIGINAL_OFFSET, record.offset());
+        }
+        RetryHeaders.write(headers, RetryHeaders.EXCEPTION, abbreviate(cause));
+
+        String destination;
+        if (retryable) {
+            Duration backoff = properties.backoffs().get(attempt);
+            RetryHeaders.write(headers, RetryHeaders.DUE_AT, clock.millis() + backoff.toMillis());
+            destination = retryTopic(originalTopic, attempt);
+        } else {
+            headers.remove(RetryHeaders.DUE_AT);
+            destination = deadLetterTopic(originalTopic);
+            log.warn("[retry] {}-{}@{} 를 DLT {} 로 옮깁니다. (attempt={}, cause={})",
+                    record.topic(), record.partition(), record.offset(), destination, attempt, cause.toString());
+        }
+
+        meterRegistry.counter("kafka.retry.forwarded",
+                "topic", originalTopic, "destination", retryable ? "retry-" + (attempt + 1) : "dlt").increment();
+        return retryKafkaTemplate.send(new ProducerRecord<>(destination, null, record.key(), record.value(), headers));
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (retryKafkaTemplate.getProducerFactory() instanceof DisposableBean producerFactory) {
+            producerFactory.destroy(); // 재시도 전용 producer factory 는 bean 이 아니므로 직접 닫는다.
+        }
+    }
+
+    private static String abbreviate(Throwable cause) {
+        String message = cause.getClass().getName() + ": " + cause.getMessage();
+        return message.length() > MAX_EXCEPTION_LENGTH ? message.substring(0, MAX_EXCEPTION_LENGTH) : message;
+    }
+
+    /**
+     * topic 이름에 쓰는 지연 표기. (1s, 10s, 1m, 1h, 그 외에는 ms)
+     */
+    static String suffix(Duration backoff) {
+        long millis = backoff.toMillis();
+        if (millis % 3_600_000 == 0) {
+            return millis / 3_600_000 + "h";
+        }
+        if (millis % 60_000 == 0) {
+            return millis / 60_000 + "m";
+        }
+        if (millis % 1_000 == 0) {
+            return millis / 1_000 + "s";
+        }
+        return millis + "ms";
+    }
+}
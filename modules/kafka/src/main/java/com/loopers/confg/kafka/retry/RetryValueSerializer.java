@@ -0,0 +1,47 @@
+package com.loopers.confg.kafka.retry;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 재시도 topic 으로 옮길 값을 원본과 같은 형태로 다시 직렬화한다.
+ * <p>
+ * consumer 가 문자열(JSON)로 받은 값은 그대로의 바이트로 보내고(JSON 으로 한 번 더 감싸지 않는다),
+ * Avro 로 디코딩된 객체 등 나머지는 delegate(기본 producer 의 value serializer 구성)로 직렬화한다.
+ */
+public class RetryValueSerializer implements Serializer<Object> {
+    private final Serializer<Object> delegate;
+
+    public RetryValueSerializer(Serializer<Object> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        if (data instanceof byte[] bytes) {
+            return bytes;
+        }
+        return headers != null ? delegate.serialize(topic, headers, data) : delegate.serialize(topic, data);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -0,0 +1,11 @@
+package com.loopers.confg.kafka.retry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * 재시도 topic 의 레코드 하나를 처리한다. 예외를 던지면 다음 재시도 단계(또는 DLT)로 옮겨진다.
+ */
+@FunctionalInterface
+public interface RetryableRecordHandler {
+    void handle(ConsumerRecord<Object, Object> record) throws Exception;
+}
@@ -0,0 +1,136 @@
+package com.loopers.confg.kafka.transaction;
+
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.confg.kafka.KafkaConsumerGroupProperties;
+import com.loopers.confg.kafka.KafkaProducerProfileProperties;
+import com.loopers.confg.kafka.codec.AvroEventCodec;
+import com.loopers.confg.kafka.codec.AvroEventSerializer;
+import com.loopers.confg.kafka.codec.SchemaAwareDeserializer;
+import com.loopers.confg.kafka.metrics.KafkaBatchListenerMetrics;
+import com.loopers.confg.kafka.rebalance.KafkaRebalanceListener;
+import com.loopers.confg.kafka.rebalance.RebalanceHook;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.IsolationLevel;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
+import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * exactly-once read - process - write 모드. (kafka.transaction.enabled=true 일 때만 등록)
+ * <p>
+ * TRANSACTIONAL_BATCH_LISTENER 의 container 가 poll 마다 트랜잭션을 열고, listener 가 {@link TransactionalKafkaProducer} 로 보낸 레코드와
+ * 해당 poll 의 offset 을 같은 트랜잭션으로 커밋한다. 레코드 단위 트랜잭션은 commit marker 와 coordinator 왕복이 레코드마다 붙으므로
+ * batch listener 로 poll 전체를 한 트랜잭션에 담는다. offset 은 container 가 커밋하므로 listener 는 Acknowledgment 를 받지 않는다.
+ * <p>
+ * KafkaTransactionManager 는 bean 으로 등록하지 않는다. (등록하면 JPA 의 기본 transactionManager 자동 설정이 빠진다.)
+ * 트랜잭션용 producer factory 는 종료 시 producer 를 닫도록 bean 으로 등록하되, 기본 producerFactory 대신 주입되지 않게 autowire 후보에서 뺀다.
+ */
+@Configuration
+@EnableConfigurationProperties(KafkaTransactionProperties.class)
+@ConditionalOnProperty(prefix = "kafka.transaction", name = "enabled", havingValue = "true")
+public class KafkaTransactionConfig {
+    public static final String TRANSACTIONAL_BATCH_LISTENER = "TRANSACTIONAL_BATCH_LISTENER_DEFAULT";
+    public static final String TRANSACTIONAL_PRODUCER_FACTORY = "transactionalProducerFactory";
+
+    private final KafkaProperties kafkaProperties;
+    private final KafkaProducerProfileProperties producerProfileProperties;
+    private final KafkaConsumerGroupProperties consumerGroupProperties;
+    private final KafkaTransactionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<AvroEventCodec> avroEventCodec;
+
+    public KafkaTransactionConfig(
+            KafkaProperties kafkaProperties,
+            KafkaProducerProfileProperties producerProfileProperties,
+            KafkaConsumerGroupProperties consumerGroupProperties,
+            KafkaTransactionProperties properties,
+            MeterRegistry meterRegistry,
+            ObjectProvider<AvroEventCodec> avroEventCodec
+    ) {
+        this.kafkaProperties = kafkaProperties;
+        this.producerProfileProperties = producerProfileProperties;
+        this.consumerGroupProperties = consumerGroupProperties;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.avroEventCodec = avroEventCodec;
+    }
+
+    @Bean(name = TRANSACTIONAL_PRODUCER_FACTORY, autowireCandidate = false)
+    public DefaultKafkaProducerFactory<Object, Object> transactionalProducerFactory() {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.putAll(producerProfileProperties.active());
+        // 트랜잭션은 idempotent producer 를 전제로 하므로 profile(low-latency 등) 설정과 무관하게 고정한다.
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.TRANSACTION_TIMEOUT_CONFIG, KafkaConfig.MAX_POLL_INTERVAL_MS); // poll 하나를 처리할 수 있는 만큼
+
+        DefaultKafkaProducerFactory<Object, Object> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        producerFactory.setTransactionIdPrefix(properties.transactionIdPrefixFor(consumerGroupProperties.instanceId()));
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        avroEventCodec.ifAvailable(codec ->
+                producerFactory.setValueSerializer(new AvroEventSerializer(codec, new JsonSerializer<>())));
+        return producerFactory;
+    }
+
+    @Bean
+    public TransactionalKafkaProducer transactionalKafkaProducer() {
+        // container 의 트랜잭션과 같은 producer factory 를 써야 listener 안의 발행이 같은 트랜잭션에 참여한다.
+        return new TransactionalKafkaProducer(new KafkaTemplate<>(transactionalProducerFactory()));
+    }
+
+    @Bean(name = TRANSACTIONAL_BATCH_LISTENER)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> transactionalBatchListenerContainerFactory(
+            ByteArrayJsonMessageConverter converter,
+            KafkaBatchListenerMetrics batchListenerMetrics,
+            ObjectProvider<RebalanceHook> rebalanceHooks
+    ) {
+        Map<String, Object> consumerConfig = new HashMap<>(kafkaProperties.buildConsumerProperties());
+        consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.maxPollRecords());
+        consumerConfig.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, KafkaConfig.FETCH_MIN_BYTES);
+        consumerConfig.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, KafkaConfig.FETCH_MAX_WAIT_MS);
+        consumerConfig.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, KafkaConfig.SESSION_TIMEOUT_MS);
+        consumerConfig.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, KafkaConfig.HEARTBEAT_INTERVAL_MS);
+        consumerConfig.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, KafkaConfig.MAX_POLL_INTERVAL_MS);
+        consumerConfig.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, consumerGroupProperties.assignorClassNames());
+        // 커밋된 트랜잭션의 레코드만 읽는다. (abort 된 레코드와 진행 중인 트랜잭션 이후의 레코드는 보이지 않는다.)
+        consumerConfig.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, IsolationLevel.READ_COMMITTED.toString().toLowerCase(Locale.ROOT));
+
+        DefaultKafkaConsumerFactory<Object, Object> consumerFactory = new DefaultKafkaConsumerFactory<>(consumerConfig);
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        avroEventCodec.ifAvailable(codec ->
+                consumerFactory.setValueDeserializer(new SchemaAwareDeserializer(codec, new StringDeserializer())));
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.getContainerProperties().setKafkaAwareTransactionManager(new KafkaTransactionManager<>(transactionalProducerFactory()));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH); // listener 가 끝나면 offset 을 트랜잭션에 포함해 커밋
+        factory.getContainerProperties().setConsumerRebalanceListener(
+                new KafkaRebalanceListener(rebalanceHooks.orderedStream().toList(), meterRegistry));
+        factory.setBatchMessageConverter(new BatchMessagingMessageConverter(converter));
+        factory.setConcurrency(3);
+        factory.setBatchListener(true);
+        factory.setBatchInterceptor(batchListenerMetrics);
+        return factory;
+    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.confg.kafka.transaction;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.UUID;
+
+/**
+ * consume - process - produce 를 한 Kafka 트랜잭션으로 묶는 exactly-once 모드 설정.
+ *
+ * @param enabled             true 일 때만 TRANSACTIONAL_BATCH_LISTENER 와 {@link TransactionalKafkaProducer} 를 등록한다.
+ * @param transactionIdPrefix transactional.id prefix. 인스턴스마다 달라야 서로를 fencing 하지 않으므로 뒤에 instance id 를 붙인다.
+ * @param maxPollRecords      한 트랜잭션(= poll 1회)에 담을 최대 레코드 수
+ */
+@ConfigurationProperties(value = "kafka.transaction")
+public record KafkaTransactionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("tx-") String transactionIdPrefix,
+        @DefaultValue("1000") int maxPollRecords
+) {
+    /**
+     * static membership 의 instance id 가 있으면 재시작해도 같은 transactional.id 를 써서 이전 producer 를 fencing 하고,
+     * 없으면 인스턴스끼리 겹치지 않도록 임의 값을 붙인다.
+     */
+    public String transactionIdPrefixFor(String instanceId) {
+        String suffix = instanceId != null && !instanceId.isBlank() ? instanceId : UUID.randomUUID().toString();
+        return transactionIdPrefix + suffix + "-";
+    }
+}
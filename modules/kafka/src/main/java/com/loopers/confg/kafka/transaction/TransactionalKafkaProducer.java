@@ -0,0 +1,28 @@
+package com.loopers.confg.kafka.transaction;
+
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * TRANSACTIONAL_BATCH_LISTENER 의 listener 안에서 다른 topic 으로 발행할 때 사용하는 producer.
+ * <p>
+ * container 가 시작한 트랜잭션과 같은 producer 를 쓰므로, 발행한 레코드와 소비한 offset 이 함께 커밋되거나 함께 취소된다.
+ * listener 가 예외를 던지면 트랜잭션이 abort 되고 poll 전체를 다시 처리한다. (read_committed consumer 에게는 abort 된 레코드가 보이지 않는다.)
+ */
+public class TransactionalKafkaProducer {
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+
+    public TransactionalKafkaProducer(KafkaTemplate<Object, Object> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    public CompletableFuture<SendResult<Object, Object>> send(String topic, Object key, Object value) {
+        if (!kafkaTemplate.inTransaction()) {
+            // 트랜잭션 밖에서 보내면 offset 과 묶이지 않아 exactly-once 가 깨진다.
+            throw new IllegalStateException("TRANSACTIONAL_BATCH_LISTENER 의 listener 안에서만 발행할 수 있습니다.");
+        }
+        return kafkaTemplate.send(topic, key, value);
+    }
+}
@@ -0,0 +1,42 @@
+package com.loopers.confg.kafka;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaConsumerGroupPropertiesTest {
+
+    @DisplayName("instance id 가 있고 autoscaler 가 꺼져 있으면, static membership 으로 참여한다.")
+    @Test
+    void usesStaticMembership_whenInstanceIdIsPresent() {
+        // arrange
+        KafkaConsumerGroupProperties properties = new KafkaConsumerGroupProperties(List.of("cooperative-sticky"), "commerce-streamer-0");
+
+        // act & assert
+        assertThat(properties.staticMembership(false)).isTrue();
+        assertThat(properties.instanceIdFor("demo-listener")).isEqualTo("commerce-streamer-0-demo-listener");
+    }
+
+    @DisplayName("autoscaler 가 켜져 있으면, 축소 시 파티션이 session timeout 동안 묶이지 않도록 instance id 가 있어도 dynamic membership 으로 참여한다.")
+    @Test
+    void usesDynamicMembership_whenAutoScaling() {
+        // arrange
+        KafkaConsumerGroupProperties properties = new KafkaConsumerGroupProperties(List.of("cooperative-sticky"), "commerce-streamer-0");
+
+        // act & assert
+        assertThat(properties.staticMembership(true)).isFalse();
+    }
+
+    @DisplayName("instance id 가 비어 있으면, dynamic membership 으로 참여한다.")
+    @Test
+    void usesDynamicMembership_whenInstanceIdIsBlank() {
+        // arrange
+        KafkaConsumerGroupProperties properties = new KafkaConsumerGroupProperties(List.of("cooperative-sticky"), " ");
+
+        // act & assert
+        assertThat(properties.staticMembership(false)).isFalse();
+    }
+}
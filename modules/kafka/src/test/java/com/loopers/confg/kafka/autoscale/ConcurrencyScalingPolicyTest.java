@@ -0,0 +1,129 @@
+package com.loopers.confg.kafka.autoscale;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyScalingPolicyTest {
+    private static final String LISTENER = "demo-listener";
+
+    private final KafkaAutoScalerProperties properties = new KafkaAutoScalerProperties(
+        true, Duration.ofSeconds(30), List.of(),
+        1, 6, 10_000, 1_000, Duration.ofSeconds(30), 3, Duration.ofMinutes(2), 4
+    );
+
+    private ConcurrencyScalingPolicy.Decision observe(
+        ConcurrencyScalingPolicy policy, int times, ConcurrencyScalingPolicy.Observation observation, Instant now
+    ) {
+        ConcurrencyScalingPolicy.Decision decision = null;
+        for (int i = 0; i < times; i++) {
+            decision = policy.decide(LISTENER, observation, now.plusSeconds(i));
+        }
+        return decision;
+    }
+
+    @DisplayName("lag 이 임계치를 넘을 때, ")
+    @Nested
+    class ScaleUp {
+        @DisplayName("연속 관측 횟수가 stableIntervals 에 못 미치면, 유지한다.")
+        @Test
+        void holds_whenOverloadIsNotStableYet() {
+            // arrange
+            ConcurrencyScalingPolicy policy = new ConcurrencyScalingPolicy(properties);
+            var observation = new ConcurrencyScalingPolicy.Observation(50_000, Duration.ofSeconds(1), 3, 1, 6);
+
+            // act
+            var decision = observe(policy, 2, observation, Instant.now());
+
+            // assert
+            assertThat(decision.action()).isEqualTo(ConcurrencyScalingPolicy.Action.HOLD);
+        }
+
+        @DisplayName("연속으로 관측되면, concurrency 를 하나 늘린다.")
+        @Test
+        void scalesUp_whenOverloadIsStable() {
+            // arrange
+            ConcurrencyScalingPolicy policy = new ConcurrencyScalingPolicy(properties);
+            var observation = new ConcurrencyScalingPolicy.Observation(50_000, Duration.ofSeconds(1), 3, 1, 6);
+
+            // act
+            var decision = observe(policy, 3, observation, Instant.now());
+
+            // assert
+            assertThat(decision.action()).isEqualTo(ConcurrencyScalingPolicy.Action.SCALE_UP);
+            assertThat(decision.concurrency()).isEqualTo(4);
+        }
+
+        @DisplayName("concurrency 가 파티션 수에 도달했으면, batch 내부 병렬도를 늘린다.")
+        @Test
+        void parallelizes_whenConcurrencyReachedPartitionCount() {
+            // arrange
+            ConcurrencyScalingPolicy policy = new ConcurrencyScalingPolicy(properties);
+            var observation = new ConcurrencyScalingPolicy.Observation(50_000, Duration.ofSeconds(1), 3, 1, 3);
+
+            // act
+            var decision = observe(policy, 3, observation, Instant.now());
+
+            // assert
+            assertThat(decision.action()).isEqualTo(ConcurrencyScalingPolicy.Action.PARALLELIZE);
+            assertThat(decision.concurrency()).isEqualTo(3);
+            assertThat(decision.parallelism()).isEqualTo(2);
+        }
+
+        @DisplayName("직전 조절 후 cooldown 이 지나지 않았으면, 유지한다.")
+        @Test
+        void holds_duringCooldown() {
+            // arrange
+            ConcurrencyScalingPolicy policy = new ConcurrencyScalingPolicy(properties);
+            var observation = new ConcurrencyScalingPolicy.Observation(50_000, Duration.ofSeconds(1), 3, 1, 6);
+            Instant now = Instant.now();
+            observe(policy, 3, observation, now);
+
+            // act
+            var decision = observe(policy, 3, observation, now.plusSeconds(10));
+
+            // assert
+            assertThat(decision.action()).isEqualTo(ConcurrencyScalingPolicy.Action.HOLD);
+            assertThat(decision.reason()).isEqualTo("cooldown");
+        }
+    }
+
+    @DisplayName("lag 이 낮은 상태가 이어질 때, ")
+    @Nested
+    class ScaleDown {
+        @DisplayName("batch 내부 병렬도가 켜져 있으면, 병렬도부터 줄인다.")
+        @Test
+        void serializesFirst_whenParallelismIsOn() {
+            // arrange
+            ConcurrencyScalingPolicy policy = new ConcurrencyScalingPolicy(properties);
+            var observation = new ConcurrencyScalingPolicy.Observation(10, Duration.ofMillis(100), 3, 4, 3);
+
+            // act
+            var decision = observe(policy, 3, observation, Instant.now());
+
+            // assert
+            assertThat(decision.action()).isEqualTo(ConcurrencyScalingPolicy.Action.SERIALIZE);
+            assertThat(decision.parallelism()).isEqualTo(2);
+        }
+
+        @DisplayName("concurrency 가 하한이면, 유지한다.")
+        @Test
+        void holds_whenConcurrencyIsAtLowerBound() {
+            // arrange
+            ConcurrencyScalingPolicy policy = new ConcurrencyScalingPolicy(properties);
+            var observation = new ConcurrencyScalingPolicy.Observation(10, Duration.ofMillis(100), 1, 1, 3);
+
+            // act
+            var decision = observe(policy, 3, observation, Instant.now());
+
+            // assert
+            assertThat(decision.action()).isEqualTo(ConcurrencyScalingPolicy.Action.HOLD);
+        }
+    }
+}
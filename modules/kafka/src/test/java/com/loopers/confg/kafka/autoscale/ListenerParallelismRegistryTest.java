@@ -0,0 +1,100 @@
+package com.loopers.confg.kafka.autoscale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ListenerParallelismRegistryTest {
+    private static final String LISTENER = "demo-listener";
+
+    private final ListenerParallelismRegistry registry = new ListenerParallelismRegistry(4);
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @DisplayName("병렬도가 1 이면, 나누지 않고 호출한 스레드에서 batch 전체를 처리한다.")
+    @Test
+    void runsOnCallerThread_whenParallelismIsOne() {
+        // arrange
+        List<String> items = List.of("a-1", "b-1", "a-2");
+        List<List<String>> groups = new CopyOnWriteArrayList<>();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        // act
+        registry.dispatch(LISTENER, items, Function.identity(), group -> {
+            groups.add(group);
+            threads.add(Thread.currentThread());
+        });
+
+        // assert
+        assertThat(groups).containsExactly(items);
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @DisplayName("병렬도를 올리면, 같은 key 는 같은 묶음에 순서대로 담아 묶음들을 동시에 처리한다.")
+    @Test
+    void splitsByKey_andRunsGroupsConcurrently() throws InterruptedException {
+        // arrange
+        registry.update(LISTENER, 2);
+        List<String> items = List.of("a-1", "b-1", "a-2", "b-2", "a-3");
+        Function<String, String> key = item -> item.substring(0, 1);
+        List<List<String>> groups = new CopyOnWriteArrayList<>();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // act
+        registry.dispatch(LISTENER, items, key, group -> {
+            bothStarted.countDown();
+            try {
+                // 두 묶음이 동시에 실행되지 않으면 여기서 기다리다 실패한다.
+                assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            groups.add(group);
+        });
+
+        // assert
+        assertThat(groups).containsExactlyInAnyOrder(List.of("a-1", "a-2", "a-3"), List.of("b-1", "b-2"));
+    }
+
+    @DisplayName("묶음 하나가 실패해도 나머지 묶음은 끝까지 처리하고, 모두 끝난 뒤 예외를 던진다.")
+    @Test
+    void rethrowsAfterAllGroupsComplete() {
+        // arrange
+        registry.update(LISTENER, 2);
+        List<String> items = List.of("a-1", "b-1");
+        List<String> processed = new CopyOnWriteArrayList<>();
+
+        // act & assert
+        assertThatThrownBy(() -> registry.dispatch(LISTENER, items, item -> item.substring(0, 1), group -> {
+            if (group.contains("a-1")) {
+                throw new IllegalStateException("db timeout");
+            }
+            processed.addAll(group);
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(processed).containsExactly("b-1");
+    }
+
+    @DisplayName("병렬도는 작업 스레드 수를 넘지 않는다.")
+    @Test
+    void capsParallelismAtMax() {
+        // act
+        registry.update(LISTENER, 16);
+
+        // assert
+        assertThat(registry.parallelism(LISTENER)).isEqualTo(4);
+    }
+}
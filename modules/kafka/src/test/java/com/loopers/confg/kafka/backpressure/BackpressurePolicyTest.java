@@ -0,0 +1,160 @@
+package com.loopers.confg.kafka.backpressure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BackpressurePolicyTest {
+    private static final String LISTENER = "demo-listener";
+
+    private final KafkaBackpressureProperties properties = new KafkaBackpressureProperties(
+        true, Duration.ofSeconds(1), List.of(),
+        10, "streamer.sink.write", Duration.ofSeconds(5), 0.9, Duration.ofSeconds(30),
+        0.7, Duration.ofSeconds(5), Duration.ofMinutes(1)
+    );
+
+    private static BackpressurePolicy.Signals signals(double pending, Duration sinkLatency, double heap) {
+        return new BackpressurePolicy.Signals(pending, sinkLatency, heap);
+    }
+
+    @DisplayName("실행 중일 때, ")
+    @Nested
+    class Running {
+        @DisplayName("모든 신호가 임계치 이하면, 유지한다.")
+        @Test
+        void holds_whenNotSaturated() {
+            // arrange
+            BackpressurePolicy policy = new BackpressurePolicy(properties);
+
+            // act
+            var decision = policy.decide(LISTENER, signals(3, Duration.ofMillis(200), 0.5), Instant.now());
+
+            // assert
+            assertThat(decision.action()).isEqualTo(BackpressurePolicy.Action.HOLD);
+            assertThat(policy.isPaused(LISTENER)).isFalse();
+        }
+
+        @DisplayName("connection 대기 스레드가 임계치를 넘으면, 정지한다.")
+        @Test
+        void pauses_whenPoolIsSaturated() {
+            // arrange
+            BackpressurePolicy policy = new BackpressurePolicy(properties);
+
+            // act
+            var decision = policy.decide(LISTENER, signals(25, Duration.ofMillis(200), 0.5), Instant.now());
+
+            // assert
+            assertThat(decision.action()).isEqualTo(BackpressurePolicy.Action.PAUSE);
+            assertThat(decision.reason()).isEqualTo("db-pool");
+            assertThat(policy.isPaused(LISTENER)).isTrue();
+        }
+
+        @DisplayName("적재 평균 시간이 임계치를 넘으면, 정지한다.")
+        @Test
+        void pauses_whenSinkIsSlow() {
+            // arrange
+            BackpressurePolicy policy = new BackpressurePolicy(properties);
+
+            // act
+            var decision = policy.decide(LISTENER, signals(0, Duration.ofSeconds(8), 0.5), Instant.now());
+
+            // assert
+            assertThat(decision.action()).isEqualTo(BackpressurePolicy.Action.PAUSE);
+            assertThat(decision.reason()).isEqualTo("sink-latency");
+        }
+    }
+
+    @DisplayName("정지 중일 때, ")
+    @Nested
+    class Paused {
+        @DisplayName("신호가 회복되어도 minPause 가 지나지 않았으면, 유지한다.")
+        @Test
+        void holds_duringMinPause() {
+            // arrange
+            BackpressurePolicy policy = new BackpressurePolicy(properties);
+            Instant now = Instant.now();
+            policy.decide(LISTENER, signals(25, Duration.ZERO, 0.5), now);
+
+            // act
+            var decision = policy.decide(LISTENER, signals(0, Duration.ZERO, 0.5), now.plusSeconds(1));
+
+            // assert
+            assertThat(decision.action()).isEqualTo(BackpressurePolicy.Action.HOLD);
+            assertThat(decision.reason()).isEqualTo("min pause");
+        }
+
+        @DisplayName("신호가 임계치 아래여도 resumeRatio 를 넘으면, 재개하지 않는다.")
+        @Test
+        void holds_whenNotRecoveredBelowResumeRatio() {
+            // arrange
+            BackpressurePolicy policy = new BackpressurePolicy(properties);
+            Instant now = Instant.now();
+            policy.decide(LISTENER, signals(25, Duration.ZERO, 0.5), now);
+
+            // act
+            var decision = policy.decide(LISTENER, signals(8, Duration.ZERO, 0.5), now.plusSeconds(10));
+
+            // assert
+            assertThat(decision.action()).isEqualTo(BackpressurePolicy.Action.HOLD);
+            assertThat(policy.isPaused(LISTENER)).isTrue();
+        }
+
+        @DisplayName("minPause 가 지나고 모든 신호가 회복되면, 재개한다.")
+        @Test
+        void resumes_whenRecovered() {
+            // arrange
+            BackpressurePolicy policy = new BackpressurePolicy(properties);
+            Instant now = Instant.now();
+            policy.decide(LISTENER, signals(25, Duration.ZERO, 0.5), now);
+
+            // act
+            var decision = policy.decide(LISTENER, signals(2, Duration.ofMillis(100), 0.5), now.plusSeconds(10));
+
+            // assert
+            assertThat(decision.action()).isEqualTo(BackpressurePolicy.Action.RESUME);
+            assertThat(policy.isPaused(LISTENER)).isFalse();
+        }
+
+        @DisplayName("신호가 회복되지 않아도 maxPause 가 지나면, 재개한다.")
+        @Test
+        void resumes_whenMaxPauseElapsed() {
+            // arrange
+            BackpressurePolicy policy = new BackpressurePolicy(properties);
+            Instant now = Instant.now();
+            policy.decide(LISTENER, signals(25, Duration.ZERO, 0.5), now);
+
+            // act
+            var decision = policy.decide(LISTENER, signals(25, Duration.ZERO, 0.5), now.plusSeconds(61));
+
+            // assert
+            assertThat(decision.action()).isEqualTo(BackpressurePolicy.Action.RESUME);
+            assertThat(decision.reason()).isEqualTo("max pause (db-pool)");
+            assertThat(policy.isPaused(LISTENER)).isFalse();
+        }
+
+        @DisplayName("maxPause 로 재개한 뒤에는 minPause 동안 다시 정지하지 않는다.")
+        @Test
+        void holds_afterForcedResume() {
+            // arrange
+            BackpressurePolicy policy = new BackpressurePolicy(properties);
+            Instant now = Instant.now();
+            policy.decide(LISTENER, signals(25, Duration.ZERO, 0.5), now);
+            policy.decide(LISTENER, signals(25, Duration.ZERO, 0.5), now.plusSeconds(61));
+
+            // act
+            var duringMinPause = policy.decide(LISTENER, signals(25, Duration.ZERO, 0.5), now.plusSeconds(62));
+            var afterMinPause = policy.decide(LISTENER, signals(25, Duration.ZERO, 0.5), now.plusSeconds(67));
+
+            // assert
+            assertThat(duringMinPause.action()).isEqualTo(BackpressurePolicy.Action.HOLD);
+            assertThat(duringMinPause.reason()).isEqualTo("forced resume");
+            assertThat(afterMinPause.action()).isEqualTo(BackpressurePolicy.Action.PAUSE);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.loopers.confg.kafka.backpressure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.MemoryUsage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SaturationProbeTest {
+    private static final long MB = 1024 * 1024;
+
+    private static MemoryUsage used(long usedMb) {
+        return new MemoryUsage(0, usedMb * MB, 100 * MB, 100 * MB);
+    }
+
+    @DisplayName("최근에 GC 가 있었으면, 현재 사용량 대신 마지막 GC 직후 점유율을 쓴다.")
+    @Test
+    void usesCollectionUsage_whenFresh() {
+        // act
+        double usage = SaturationProbe.usage(used(40), used(95), false);
+
+        // assert
+        assertThat(usage).isEqualTo(0.4);
+    }
+
+    @DisplayName("heapStaleAfter 동안 GC 가 없었으면, 마지막 GC 직후 값이 높아도 현재 점유율을 쓴다.")
+    @Test
+    void fallsBackToCurrentUsage_whenStale() {
+        // act
+        double usage = SaturationProbe.usage(used(95), used(30), true);
+
+        // assert
+        assertThat(usage).isEqualTo(0.3);
+    }
+
+    @DisplayName("GC 직후 값을 제공하지 않거나 max 가 없는 pool 은, 현재 값을 쓰거나 0 으로 본다.")
+    @Test
+    void handlesMissingReadings() {
+        // act & assert
+        assertThat(SaturationProbe.usage(null, used(50), false)).isEqualTo(0.5);
+        assertThat(SaturationProbe.usage(new MemoryUsage(0, 10 * MB, 10 * MB, -1), null, false)).isZero();
+    }
+}
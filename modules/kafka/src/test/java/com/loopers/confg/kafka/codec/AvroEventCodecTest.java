@@ -0,0 +1,302 @@
+package com.loopers.confg.kafka.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AvroEventCodecTest {
+
+    static class SampleEvent {
+        private String id;
+        private String message;
+        private Long timestamp;
+
+        SampleEvent() {}
+
+        SampleEvent(String id, String message, Long timestamp) {
+            this.id = id;
+            this.message = message;
+            this.timestamp = timestamp;
+        }
+    }
+
+    static class EvolvedEvent {
+        private String id;
+        private String message;
+        private Long timestamp;
+        private String channel; // 새로 추가한 필드
+
+        EvolvedEvent() {}
+    }
+
+    @DisplayName("이벤트를 인코딩할 때, ")
+    @Nested
+    class Encode {
+        @DisplayName("Avro 로 인코딩한 값을 디코딩하면 같은 값이 복원된다.")
+        @Test
+        void roundTrips() {
+            // arrange
+            AvroEventCodec codec = new AvroEventCodec(new InMemorySchemaRegistryClient(), List.of(SampleEvent.class));
+            SampleEvent event = new SampleEvent("event-1", "hello", 1_700_000_000_000L);
+
+            // act
+            SampleEvent decoded = (SampleEvent) codec.decode(codec.schemaIdOf(SampleEvent.class), codec.encode(event));
+
+            // assert
+            assertAll(
+                () -> assertThat(decoded.id).isEqualTo("event-1"),
+                () -> assertThat(decoded.message).isEqualTo("hello"),
+                () -> assertThat(decoded.timestamp).isEqualTo(1_700_000_000_000L)
+            );
+        }
+
+        @DisplayName("null 필드가 있어도 인코딩/디코딩할 수 있다.")
+        @Test
+        void handlesNullFields() {
+            // arrange
+            AvroEventCodec codec = new AvroEventCodec(new InMemorySchemaRegistryClient(), List.of(SampleEvent.class));
+
+            // act
+            SampleEvent decoded = (SampleEvent) codec.decode(
+                codec.schemaIdOf(SampleEvent.class), codec.encode(new SampleEvent("event-1", null, null)));
+
+            // assert
+            assertThat(decoded.message).isNull();
+            assertThat(decoded.timestamp).isNull();
+        }
+
+        @DisplayName("필드명이 빠지므로 JSON 보다 작다.")
+        @Test
+        void isSmallerThanJson() throws Exception {
+            // arrange
+            AvroEventCodec codec = new AvroEventCodec(new InMemorySchemaRegistryClient(), List.of(SampleEvent.class));
+            SampleEvent event = new SampleEvent("event-1", "hello", 1_700_000_000_000L);
+            ObjectMapper objectMapper = new ObjectMapper();
+            objectMapper.setVisibility(
+                com.fasterxml.jackson.annotation.PropertyAccessor.FIELD,
+                com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY
+            );
+
+            // act
+            int avroSize = codec.encode(event).length;
+            int jsonSize = objectMapper.writeValueAsBytes(event).length;
+
+            // assert
+            assertThat(avroSize).isLessThan(jsonSize / 2);
+        }
+    }
+
+    @DisplayName("Kafka serializer / deserializer 로 사용할 때, ")
+    @Nested
+    class SerDe {
+        @DisplayName("대상 타입은 schema id 헤더와 함께 Avro 로 직렬화되고, 헤더를 보고 다시 복원된다.")
+        @Test
+        void usesSchemaIdHeader() {
+            // arrange
+            AvroEventCodec codec = new AvroEventCodec(new InMemorySchemaRegistryClient(), List.of(SampleEvent.class));
+            AvroEventSerializer serializer = new AvroEventSerializer(codec, new JsonSerializer<>());
+            SchemaAwareDeserializer deserializer = new SchemaAwareDeserializer(codec, new StringDeserializer());
+            RecordHeaders headers = new RecordHeaders();
+
+            // act
+            byte[] bytes = serializer.serialize("topic", headers, new SampleEvent("event-1", "hello", 1L));
+            Object decoded = deserializer.deserialize("topic", headers, bytes);
+
+            // assert
+            assertThat(headers.lastHeader(AvroEventCodec.SCHEMA_ID_HEADER)).isNotNull();
+            assertThat(decoded).isInstanceOf(SampleEvent.class);
+            assertThat(((SampleEvent) decoded).id).isEqualTo("event-1");
+        }
+
+        @DisplayName("schema id 헤더가 없는 메세지는 delegate 로 넘긴다.")
+        @Test
+        void delegatesWithoutHeader() {
+            // arrange
+            AvroEventCodec codec = new AvroEventCodec(new InMemorySchemaRegistryClient(), List.of(SampleEvent.class));
+            SchemaAwareDeserializer deserializer = new SchemaAwareDeserializer(codec, new StringDeserializer());
+            byte[] json = "{\"id\":\"event-1\"}".getBytes(StandardCharsets.UTF_8);
+
+            // act
+            Object decoded = deserializer.deserialize("topic", new RecordHeaders(), json);
+
+            // assert
+            assertThat(decoded).isEqualTo("{\"id\":\"event-1\"}");
+        }
+    }
+
+    @DisplayName("schema 를 등록할 때, ")
+    @Nested
+    class Register {
+        private final Schema v1 = SchemaBuilder.record("Sample").namespace("test").fields()
+            .requiredString("id")
+            .endRecord();
+
+        @DisplayName("같은 schema 를 다시 등록하면, 기존 id 를 반환한다.")
+        @Test
+        void returnsSameId_whenSchemaIsIdentical() {
+            // arrange
+            InMemorySchemaRegistryClient registry = new InMemorySchemaRegistryClient();
+            int id = registry.register("test.Sample", v1);
+
+            // act
+            int again = registry.register("test.Sample", v1);
+
+            // assert
+            assertThat(again).isEqualTo(id);
+        }
+
+        @DisplayName("기본값이 있는 필드를 추가하면, 새 버전으로 등록된다.")
+        @Test
+        void registersNewVersion_whenBackwardCompatible() {
+            // arrange
+            InMemorySchemaRegistryClient registry = new InMemorySchemaRegistryClient();
+            registry.register("test.Sample", v1);
+            Schema v2 = SchemaBuilder.record("Sample").namespace("test").fields()
+                .requiredString("id")
+                .name("amount").type().longType().longDefault(0L)
+                .endRecord();
+
+            // act
+            registry.register("test.Sample", v2);
+
+            // assert
+            assertThat(registry.latest("test.Sample")).get()
+                .extracting(SchemaRegistryClient.RegisteredSchema::version)
+                .isEqualTo(2);
+        }
+
+        @DisplayName("기본값이 없는 필드를 추가하면, IncompatibleSchemaException 이 발생한다.")
+        @Test
+        void throwsIncompatibleSchemaException_whenNotBackwardCompatible() {
+            // arrange
+            InMemorySchemaRegistryClient registry = new InMemorySchemaRegistryClient();
+            registry.register("test.Sample", v1);
+            Schema v2 = SchemaBuilder.record("Sample").namespace("test").fields()
+                .requiredString("id")
+                .requiredLong("amount")
+                .endRecord();
+
+            // act & assert
+            assertThrows(IncompatibleSchemaException.class, () -> registry.register("test.Sample", v2));
+        }
+
+        @DisplayName("이벤트 클래스에 필드를 추가하면, 새 버전으로 등록되고 이전 버전 데이터의 새 필드는 null 로 읽는다.")
+        @Test
+        void registersAddedField_andReadsOldDataWithNullDefault() throws Exception {
+            // arrange - 새 필드가 없던 이전 배포의 schema (기본값 없이 생성되던 형태)와 그 schema 로 기록된 데이터
+            InMemorySchemaRegistryClient registry = new InMemorySchemaRegistryClient();
+            Schema current = AvroEventCodec.schemaOf(EvolvedEvent.class);
+            Schema previous = Schema.createRecord(current.getName(), null, current.getNamespace(), false);
+            previous.setFields(current.getFields().stream()
+                .filter(field -> !field.name().equals("channel"))
+                .map(field -> new Schema.Field(field.name(), field.schema()))
+                .toList());
+            int previousId = registry.register(current.getFullName(), previous);
+
+            GenericData.Record record = new GenericData.Record(previous);
+            record.put("id", "event-1");
+            record.put("message", "hello");
+            record.put("timestamp", 1L);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+            new GenericDatumWriter<GenericData.Record>(previous).write(record, encoder);
+            encoder.flush();
+
+            // act
+            AvroEventCodec codec = new AvroEventCodec(registry, List.of(EvolvedEvent.class));
+            EvolvedEvent decoded = (EvolvedEvent) codec.decode(previousId, out.toByteArray());
+
+            // assert
+            assertAll(
+                () -> assertThat(codec.schemaIdOf(EvolvedEvent.class)).isNotEqualTo(previousId),
+                () -> assertThat(registry.latest(current.getFullName())).get()
+                    .extracting(SchemaRegistryClient.RegisteredSchema::version)
+                    .isEqualTo(2),
+                () -> assertThat(decoded.id).isEqualTo("event-1"),
+                () -> assertThat(decoded.channel).isNull()
+            );
+        }
+
+        @DisplayName("file registry 는 다른 인스턴스가 등록한 schema 를 디렉터리에서 읽어온다.")
+        @Test
+        void sharesSchemasThroughDirectory(@TempDir Path directory) {
+            // arrange
+            FileSchemaRegistryClient writer = new FileSchemaRegistryClient(directory);
+            FileSchemaRegistryClient reader = new FileSchemaRegistryClient(directory);
+
+            // act
+            int id = writer.register("test.Sample", v1);
+
+            // assert
+            assertThat(reader.getById(id)).isEqualTo(v1);
+        }
+
+        @DisplayName("file registry 인스턴스들이 동시에 등록해도, schema id 가 겹치지 않는다.")
+        @Test
+        void assignsUniqueIds_whenRegisteringConcurrently(@TempDir Path directory) throws Exception {
+            // arrange
+            List<FileSchemaRegistryClient> registries = List.of(
+                new FileSchemaRegistryClient(directory), new FileSchemaRegistryClient(directory));
+            ExecutorService executor = Executors.newFixedThreadPool(registries.size());
+            CountDownLatch start = new CountDownLatch(1);
+
+            // act
+            List<Future<List<Integer>>> futures = new ArrayList<>();
+            for (int r = 0; r < registries.size(); r++) {
+                FileSchemaRegistryClient registry = registries.get(r);
+                String prefix = "r" + r;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Integer> ids = new ArrayList<>();
+                    for (int i = 0; i < 20; i++) {
+                        Schema schema = SchemaBuilder.record(prefix + "s" + i).namespace("test").fields().requiredString("id").endRecord();
+                        ids.add(registry.register(schema.getFullName(), schema));
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+            Set<Integer> ids = new HashSet<>();
+            for (Future<List<Integer>> future : futures) {
+                ids.addAll(future.get(10, TimeUnit.SECONDS));
+            }
+            executor.shutdown();
+
+            // assert
+            assertThat(ids).hasSize(40);
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files.filter(file -> file.toString().endsWith(".avsc"))).hasSize(40);
+            }
+        }
+    }
+}
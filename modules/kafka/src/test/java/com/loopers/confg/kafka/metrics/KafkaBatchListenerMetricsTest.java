@@ -0,0 +1,61 @@
+package com.loopers.confg.kafka.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaBatchListenerMetricsTest {
+    private static final String GROUP = "demo-group";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KafkaBatchListenerMetrics metrics = new KafkaBatchListenerMetrics(meterRegistry);
+
+    @SuppressWarnings("unchecked")
+    private final Consumer<Object, Object> consumer = mock(Consumer.class);
+
+    private static ConsumerRecord<Object, Object> record(String topic, int partition, long offset) {
+        return new ConsumerRecord<>(topic, partition, offset, System.currentTimeMillis(), TimestampType.CREATE_TIME,
+            0, 0, "key-" + offset, "value-" + offset, new RecordHeaders(), Optional.empty());
+    }
+
+    @DisplayName("여러 batch 의 레코드 지연은 group, topic 마다 한 Timer 에 모아 기록한다.")
+    @Test
+    void reusesRecordLatencyTimerPerTopic() {
+        // arrange
+        when(consumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata(GROUP));
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Map.of(
+            new TopicPartition("demo.a", 0), List.of(record("demo.a", 0, 0), record("demo.a", 0, 1)),
+            new TopicPartition("demo.a", 1), List.of(record("demo.a", 1, 0)),
+            new TopicPartition("demo.b", 0), List.of(record("demo.b", 0, 0))
+        ));
+
+        // act
+        metrics.intercept(records, consumer);
+        metrics.success(records, consumer);
+        metrics.intercept(records, consumer);
+        metrics.success(records, consumer);
+
+        // assert
+        assertThat(meterRegistry.find("kafka.listener.record.latency").timers()).hasSize(2);
+        assertThat(meterRegistry.get("kafka.listener.record.latency").tag("topic", "demo.a").timer().count()).isEqualTo(6);
+        assertThat(meterRegistry.get("kafka.listener.record.latency").tag("topic", "demo.b").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("kafka.listener.batch.duration").tag("result", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("kafka.listener.records").tag("group", GROUP).counter().count()).isEqualTo(8);
+    }
+}
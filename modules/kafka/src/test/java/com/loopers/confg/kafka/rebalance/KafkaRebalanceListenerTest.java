@@ -0,0 +1,84 @@
+package com.loopers.confg.kafka.rebalance;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaRebalanceListenerTest {
+    private static final String GROUP = "loopers-default-consumer";
+    private static final List<TopicPartition> PARTITIONS = List.of(new TopicPartition("demo.internal.topic-v1", 0));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Collection<TopicPartition>> flushed = new ArrayList<>();
+    private Consumer<?, ?> consumer;
+    private KafkaRebalanceListener listener;
+
+    @BeforeEach
+    void setUp() {
+        consumer = mock(Consumer.class);
+        when(consumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata(GROUP));
+        RebalanceHook failing = partitions -> {
+            throw new IllegalStateException("flush failed");
+        };
+        listener = new KafkaRebalanceListener(List.of(failing, flushed::add), meterRegistry);
+    }
+
+    private double count(String event) {
+        return meterRegistry.counter("kafka.consumer.rebalance.events", "group", GROUP, "event", event).count();
+    }
+
+    @DisplayName("파티션을 넘겨주기 전에 모든 hook 을 실행하고, 하나가 실패해도 나머지 hook 은 실행한다.")
+    @Test
+    void runsHooksBeforeRevoke() {
+        // act
+        listener.onPartitionsRevokedBeforeCommit(consumer, PARTITIONS);
+
+        // assert
+        assertAll(
+            () -> assertThat(flushed).containsExactly(PARTITIONS),
+            () -> assertThat(count("revoked")).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("cooperative rebalance 에서 넘겨줄 파티션이 없으면 hook 을 실행하지 않는다.")
+    @Test
+    void skipsHooks_whenNothingIsRevoked() {
+        // act
+        listener.onPartitionsRevokedBeforeCommit(consumer, List.of());
+
+        // assert
+        assertAll(
+            () -> assertThat(flushed).isEmpty(),
+            () -> assertThat(count("revoked")).isZero()
+        );
+    }
+
+    @DisplayName("revoke 이후 새 파티션을 할당받으면, 그 사이 멈춘 시간을 기록한다.")
+    @Test
+    void recordsPause_fromRevokeToAssign() {
+        // arrange
+        listener.onPartitionsRevokedBeforeCommit(consumer, PARTITIONS);
+
+        // act
+        listener.onPartitionsAssigned(consumer, PARTITIONS);
+
+        // assert
+        assertAll(
+            () -> assertThat(meterRegistry.timer("kafka.consumer.rebalance.pause", "group", GROUP).count()).isEqualTo(1),
+            () -> assertThat(count("assigned")).isEqualTo(1)
+        );
+    }
+}
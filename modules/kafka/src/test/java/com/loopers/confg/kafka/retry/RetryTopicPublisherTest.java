@@ -0,0 +1,156 @@
+package com.loopers.confg.kafka.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RetryTopicPublisherTest {
+    private static final String TOPIC = "demo.internal.topic-v1";
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final KafkaRetryTopicProperties properties = new KafkaRetryTopicProperties(
+        List.of(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofMinutes(1)),
+        "-dlt",
+        List.of(IllegalArgumentException.class),
+        500
+    );
+
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+    private RetryTopicPublisher publisher;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
+        publisher = new RetryTopicPublisher(kafkaTemplate, properties, new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<Object, Object> forwarded(ConsumerRecord<Object, Object> record, Exception cause) {
+        publisher.forward(record, cause);
+        ArgumentCaptor<ProducerRecord<Object, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private static String header(ProducerRecord<Object, Object> record, String key) {
+        return new String(record.headers().lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+
+    @DisplayName("원본 topic 에서 실패한 레코드를 옮길 때, ")
+    @Nested
+    class FromOriginal {
+        @DisplayName("첫 번째 재시도 topic 으로 옮기고, 재시도 횟수 / 재시도 시각 / 원본 위치를 헤더에 남긴다.")
+        @Test
+        void forwardsToFirstTier() {
+            // arrange
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>(TOPIC, 2, 42L, "key-1", "{\"id\":\"1\"}");
+
+            // act
+            ProducerRecord<Object, Object> forwarded = forwarded(record, new IllegalStateException("redis timeout"));
+
+            // assert
+            assertAll(
+                () -> assertThat(forwarded.topic()).isEqualTo(TOPIC + "-retry-1s"),
+                () -> assertThat(forwarded.key()).isEqualTo("key-1"),
+                () -> assertThat(forwarded.value()).isEqualTo("{\"id\":\"1\"}"),
+                () -> assertThat(header(forwarded, RetryHeaders.ATTEMPT)).isEqualTo("1"),
+                () -> assertThat(header(forwarded, RetryHeaders.DUE_AT)).isEqualTo(String.valueOf(NOW.toEpochMilli() + 1_000)),
+                () -> assertThat(header(forwarded, RetryHeaders.ORIGINAL_TOPIC)).isEqualTo(TOPIC),
+                () -> assertThat(header(forwarded, RetryHeaders.ORIGINAL_OFFSET)).isEqualTo("42")
+            );
+        }
+
+        @DisplayName("재시도할 수 없는 예외면, 바로 DLT 로 옮긴다.")
+        @Test
+        void forwardsToDlt_whenNotRetryable() {
+            // arrange
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>(TOPIC, 0, 1L, "key-1", "not-json");
+
+            // act
+            ProducerRecord<Object, Object> forwarded = forwarded(record, new IllegalArgumentException("bad payload"));
+
+            // assert
+            assertThat(forwarded.topic()).isEqualTo(TOPIC + "-dlt");
+            assertThat(forwarded.headers().lastHeader(RetryHeaders.DUE_AT)).isNull();
+        }
+
+        @SuppressWarnings("unchecked")
+        @DisplayName("deadLetter 로 옮기면, 재시도할 수 있는 예외여도 재시도 단계를 거치지 않고 DLT 로 옮긴다.")
+        @Test
+        void forwardsToDlt_whenDeadLettered() {
+            // arrange
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>(TOPIC, 0, 1L, "key-1", "not-json");
+
+            // act
+            publisher.deadLetter(record, new IllegalStateException("cannot decode"));
+
+            // assert
+            ArgumentCaptor<ProducerRecord<Object, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+            verify(kafkaTemplate).send(captor.capture());
+            assertAll(
+                () -> assertThat(captor.getValue().topic()).isEqualTo(TOPIC + "-dlt"),
+                () -> assertThat(header(captor.getValue(), RetryHeaders.ATTEMPT)).isEqualTo("0")
+            );
+        }
+    }
+
+    @DisplayName("재시도 topic 에서 다시 실패한 레코드를 옮길 때, ")
+    @Nested
+    class FromRetryTier {
+        @DisplayName("다음 단계 topic 으로 옮기고 재시도 횟수를 늘린다.")
+        @Test
+        void forwardsToNextTier() {
+            // arrange
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>(TOPIC + "-retry-1s", 0, 5L, "key-1", "{}");
+            RetryHeaders.write(record.headers(), RetryHeaders.ATTEMPT, 1);
+            RetryHeaders.write(record.headers(), RetryHeaders.ORIGINAL_TOPIC, TOPIC);
+
+            // act
+            ProducerRecord<Object, Object> forwarded = forwarded(record, new IllegalStateException("redis timeout"));
+
+            // assert
+            assertThat(forwarded.topic()).isEqualTo(TOPIC + "-retry-10s");
+            assertThat(header(forwarded, RetryHeaders.ATTEMPT)).isEqualTo("2");
+            assertThat(header(forwarded, RetryHeaders.DUE_AT)).isEqualTo(String.valueOf(NOW.toEpochMilli() + 10_000));
+        }
+
+        @DisplayName("마지막 단계에서도 실패하면, DLT 로 옮긴다.")
+        @Test
+        void forwardsToDlt_whenTiersAreExhausted() {
+            // arrange
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>(TOPIC + "-retry-1m", 0, 5L, "key-1", "{}");
+            RetryHeaders.write(record.headers(), RetryHeaders.ATTEMPT, 3);
+            RetryHeaders.write(record.headers(), RetryHeaders.ORIGINAL_TOPIC, TOPIC);
+
+            // act
+            ProducerRecord<Object, Object> forwarded = forwarded(record, new IllegalStateException("redis timeout"));
+
+            // assert
+            assertThat(forwarded.topic()).isEqualTo(TOPIC + "-dlt");
+            assertThat(header(forwarded, RetryHeaders.ATTEMPT)).isEqualTo("3");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.loopers.confg.kafka.transaction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaTransactionPropertiesTest {
+    private final KafkaTransactionProperties properties = new KafkaTransactionProperties(true, "commerce-streamer-tx-", 1000);
+
+    @DisplayName("instance id 가 있으면, 재시작해도 같은 transactional.id prefix 를 만든다.")
+    @Test
+    void usesInstanceId_whenPresent() {
+        // act
+        String prefix = properties.transactionIdPrefixFor("commerce-streamer-0");
+
+        // assert
+        assertThat(prefix).isEqualTo("commerce-streamer-tx-commerce-streamer-0-");
+    }
+
+    @DisplayName("instance id 가 없으면, 인스턴스끼리 겹치지 않도록 호출마다 다른 prefix 를 만든다.")
+    @Test
+    void usesRandomSuffix_whenInstanceIdIsBlank() {
+        // act
+        String first = properties.transactionIdPrefixFor("");
+        String second = properties.transactionIdPrefixFor(null);
+
+        // assert
+        assertThat(first).startsWith("commerce-streamer-tx-").isNotEqualTo(second);
+    }
+}